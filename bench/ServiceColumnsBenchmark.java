@@ -0,0 +1,155 @@
+import Services.EatingImpl;
+import Services.LeisureImpl;
+import Services.LodgingImpl;
+import Services.Service;
+import Services.ServiceType;
+import dataStructures.Iterator;
+import dataStructures.KDTree;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Service Columns Benchmark
+ * Compares three ways of finding the k services of a type closest to a
+ * location: a walk of the service objects (getLatitude/getLongitude through
+ * the {@link Service} interface), a scan of the {@link ServiceColumns}, and a
+ * best-first search of a {@link KDTree}.
+ * <p>
+ * The services (a third of each type, spread over a 1000 x 1000 area) are
+ * created in random order with garbage in between, so the objects are
+ * scattered over the heap as in a long-running area.
+ * <p>
+ * Compile together with the sources and run with
+ * {@code java -cp out ServiceColumnsBenchmark [k] [n]};
+ * without n, every size is measured in a JVM of its own.
+ */
+public class ServiceColumnsBenchmark {
+
+    // Numbers of services measured.
+    private static final int[] SIZES = {48, 192, 768, 3_072, 49_152};
+
+    // Default number of services asked for.
+    private static final int DEFAULT_K = 5;
+
+    // Number of queries per round.
+    private static final int QUERIES = 20_000;
+
+    // Number of measured rounds (after two warm-up rounds).
+    private static final int ROUNDS = 5;
+
+    // Side of the area.
+    private static final int SIDE = 1000;
+
+    // Keeps the JIT from discarding the queries.
+    private static volatile long sink;
+
+    private interface Query {
+        long run(long latitude, long longitude);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int k = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_K;
+        if (args.length > 1) {
+            run(k, Integer.parseInt(args[1]));
+            return;
+        }
+        // Each size is measured in a fresh JVM (like a JMH fork), so the JIT
+        // profile of one size does not shape the code measured for the next.
+        System.out.printf("k = %d%n", k);
+        for (int n : SIZES) {
+            Process fork = new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"), ServiceColumnsBenchmark.class.getName(),
+                    Integer.toString(k), Integer.toString(n))
+                    .inheritIO().start();
+            if (fork.waitFor() != 0)
+                throw new IllegalStateException(n + ": fork failed");
+        }
+    }
+
+    private static void run(int k, int n) {
+        Random random = new Random(42);
+        Service[] services = new Service[n];
+        Object[] garbage = new Object[n];
+        for (int i = 0; i < n; i++) {
+            long lat = random.nextInt(SIDE);
+            long lon = random.nextInt(SIDE);
+            int price = 1 + random.nextInt(1000);
+            services[i] = switch (i % 3) {
+                case 0 -> new EatingImpl("S" + i, lat, lon, price, 20);
+                case 1 -> new LodgingImpl("S" + i, lat, lon, price, 20);
+                default -> new LeisureImpl("S" + i, lat, lon, price, 10);
+            };
+            garbage[random.nextInt(n)] = new long[1 + random.nextInt(64)];
+        }
+        ServiceColumns columns = new ServiceColumns();
+        KDTree<Service> tree = new KDTree<>();
+        for (Service service : services) {
+            columns.add(service);
+            if (service.getType() == ServiceType.EATING)
+                tree.insert(service.getLatitude(), service.getLongitude(), service);
+        }
+        garbage = null;
+
+        measure("object walk", n, k, (lat, lon) -> walkNearest(services, ServiceType.EATING, lat, lon, k));
+        measure("column scan", n, k, (lat, lon) -> drain(columns.nearest(ServiceType.EATING, lat, lon, k)));
+        measure("k-d tree", n, k, (lat, lon) -> drain(tree.nearest(lat, lon, k)));
+    }
+
+    private static void measure(String name, int n, int k, Query query) {
+        Random random = new Random(7);
+        long[] lats = new long[QUERIES];
+        long[] lons = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            lats[i] = random.nextInt(SIDE);
+            lons[i] = random.nextInt(SIDE);
+        }
+        long nanos = 0;
+        for (int round = -2; round < ROUNDS; round++) {
+            long checksum = 0;
+            long begin = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++)
+                checksum += query.run(lats[i], lons[i]);
+            long time = System.nanoTime() - begin;
+            if (round >= 0)
+                nanos += time;
+            sink += checksum;
+        }
+        System.out.printf("%7d services  %-14s %10.1f ns/query%n", n, name, (double) nanos / ((long) QUERIES * ROUNDS));
+    }
+
+    private static long drain(Iterator<Service> it) {
+        long sum = 0;
+        while (it.hasNext())
+            sum += it.next().getPrice();
+        return sum;
+    }
+
+    // The k nearest services of the type by a walk of the objects (insertion into a sorted array).
+    private static long walkNearest(Service[] services, ServiceType type, long lat, long lon, int k) {
+        long[] bestDistances = new long[k];
+        Service[] best = new Service[k];
+        int found = 0;
+        for (Service service : services) {
+            if (service.getType() != type)
+                continue;
+            long distance = Math.abs(service.getLatitude() - lat) + Math.abs(service.getLongitude() - lon);
+            if (found == k && distance >= bestDistances[k - 1])
+                continue;
+            int j = found < k ? found++ : k - 1;
+            while (j > 0 && bestDistances[j - 1] > distance) {
+                bestDistances[j] = bestDistances[j - 1];
+                best[j] = best[j - 1];
+                j--;
+            }
+            bestDistances[j] = distance;
+            best[j] = service;
+        }
+        long sum = 0;
+        for (int i = 0; i < found; i++)
+            sum += best[i].getPrice();
+        return sum;
+    }
+}
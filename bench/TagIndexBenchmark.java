@@ -0,0 +1,169 @@
+import Services.EatingImpl;
+import Services.Service;
+import dataStructures.CaseInsensitiveEquivalence;
+import dataStructures.CircularArrayList;
+import dataStructures.FilterIterator;
+import dataStructures.Iterator;
+import dataStructures.Map;
+import dataStructures.SepChainHashTable;
+import dataStructures.TwoWayList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Tag Index Benchmark
+ * Compares the two layouts of the tag index of the services: a
+ * {@link SepChainHashTable} of the services with the tag per tag, listed
+ * by filtering every service of the area; and a {@link PostingList} of
+ * service ids per tag, listed by walking the list.
+ * <p>
+ * n services get TAGS_PER_SERVICE tags each, drawn from a vocabulary of
+ * n / 4 words with a Zipf-like law (a few words are very common, most are
+ * rare), as review words are. It reports the heap retained per tag by the
+ * index (the tag keys left out: both layouts share them) and the time to
+ * list the services of a random word of the vocabulary.
+ * <p>
+ * Compile together with the sources and run with
+ * {@code java -cp out TagIndexBenchmark [n] [layout]};
+ * without a layout, each one is measured in a JVM of its own.
+ */
+public class TagIndexBenchmark {
+
+    // Default number of services.
+    private static final int DEFAULT_SERVICES = 20_000;
+
+    // Number of tags of each service.
+    private static final int TAGS_PER_SERVICE = 12;
+
+    // Number of tag queries per round.
+    private static final int QUERIES = 2_000;
+
+    // Number of measured rounds (after one warm-up round).
+    private static final int ROUNDS = 5;
+
+    // Layouts compared, each measured in its own JVM.
+    private static final String[] LAYOUTS = {"SepChainHashTable", "PostingList"};
+
+    // Keeps the JIT from discarding the queries.
+    private static volatile long sink;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SERVICES;
+        if (args.length > 1) {
+            run(args[1], n);
+            return;
+        }
+        // Each layout is measured in a fresh JVM (like a JMH fork), so the heap
+        // and the JIT profile of one layout do not blur the measure of the other.
+        System.out.printf("%d services, %d tags each, %d words%n", n, TAGS_PER_SERVICE, n / 4);
+        for (String layout : LAYOUTS) {
+            Process fork = new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"), TagIndexBenchmark.class.getName(),
+                    Integer.toString(n), layout)
+                    .inheritIO().start();
+            if (fork.waitFor() != 0)
+                throw new IllegalStateException(layout + ": fork failed");
+        }
+    }
+
+    private static void run(String layout, int n) {
+        String[] words = new String[n / 4];
+        for (int i = 0; i < words.length; i++)
+            words[i] = "w" + Integer.toString(i, 36);
+        TwoWayList<Service> services = new CircularArrayList<>();
+        ServiceColumns columns = new ServiceColumns();
+        for (int i = 0; i < n; i++) {
+            Service service = new EatingImpl("S" + i, i % 1000, i / 1000, 10, 20);
+            services.addLast(service);
+            columns.add(service);
+        }
+        Random random = new Random(42);
+        int[] tags = new int[n * TAGS_PER_SERVICE];
+        for (int i = 0; i < tags.length; i++)
+            tags[i] = zipf(random, words.length);
+
+        long before = usedHeap();
+        long nanos = 0;
+        long found = 0;
+        int[] queries = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++)
+            queries[i] = random.nextInt(words.length);
+        if (layout.equals("SepChainHashTable")) {
+            Map<CharSequence, Map<CharSequence, Service>> index = new SepChainHashTable<>(CaseInsensitiveEquivalence.INSTANCE);
+            for (int i = 0; i < tags.length; i++) {
+                Service service = columns.get(i / TAGS_PER_SERVICE);
+                Map<CharSequence, Service> servicesWithTag = index.get(words[tags[i]]);
+                if (servicesWithTag == null) {
+                    servicesWithTag = new SepChainHashTable<>(5, CaseInsensitiveEquivalence.INSTANCE);
+                    index.put(words[tags[i]], servicesWithTag);
+                }
+                servicesWithTag.put(service.getName(), service);
+            }
+            report(layout, "memory", (double) (usedHeap() - before) / index.size(), "bytes/tag");
+            for (int round = 0; round <= ROUNDS; round++) {
+                long begin = System.nanoTime();
+                for (int word : queries) {
+                    Map<CharSequence, Service> servicesWithTag = index.get(words[word]);
+                    if (servicesWithTag != null)
+                        found += count(new FilterIterator<>(services.iterator(),
+                                service -> servicesWithTag.get(service.getName()) != null));
+                }
+                if (round > 0)
+                    nanos += System.nanoTime() - begin;
+            }
+        } else {
+            Map<CharSequence, PostingList> index = new SepChainHashTable<>(CaseInsensitiveEquivalence.INSTANCE);
+            for (int i = 0; i < tags.length; i++) {
+                Service service = columns.get(i / TAGS_PER_SERVICE);
+                PostingList servicesWithTag = index.get(words[tags[i]]);
+                if (servicesWithTag == null) {
+                    servicesWithTag = new PostingList();
+                    index.put(words[tags[i]], servicesWithTag);
+                }
+                servicesWithTag.add(columns.idOf(service));
+            }
+            report(layout, "memory", (double) (usedHeap() - before) / index.size(), "bytes/tag");
+            for (int round = 0; round <= ROUNDS; round++) {
+                long begin = System.nanoTime();
+                for (int word : queries) {
+                    PostingList servicesWithTag = index.get(words[word]);
+                    if (servicesWithTag != null)
+                        found += count(servicesWithTag.services(columns));
+                }
+                if (round > 0)
+                    nanos += System.nanoTime() - begin;
+            }
+        }
+        sink += found;
+        report(layout, "tag query", (double) nanos / ((long) QUERIES * ROUNDS), "ns/query");
+    }
+
+    // A word index in [0, words), the smaller ones much more often (P(i) ~ 1 / (i + 1)).
+    private static int zipf(Random random, int words) {
+        return (int) Math.min(words - 1, Math.exp(random.nextDouble() * Math.log(words + 1)) - 1);
+    }
+
+    private static long count(Iterator<Service> it) {
+        long count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        return count;
+    }
+
+    private static void report(String layout, String what, double value, String unit) {
+        System.out.printf("%-18s %-10s %12.1f %s%n", layout, what, value, unit);
+    }
+
+    // Heap in use after a garbage collection.
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
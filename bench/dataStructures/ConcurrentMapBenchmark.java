@@ -0,0 +1,166 @@
+package dataStructures;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Concurrent Map Benchmark
+ * Compares the throughput of the {@link ConcurrentSepChainHashTable} with a
+ * {@link SepChainHashTable} behind one global lock, both keyed by names
+ * ignoring case as the services of an area are, for 1, 2, 4, ... threads.
+ * Each thread runs OPERATIONS operations on random keys of a key space of
+ * n names (half of them present at the start): READ_PERCENT of them are
+ * gets, the rest put or remove a key with equal odds, so the map keeps about
+ * its size while it is read and written at the same time.
+ * <p>
+ * Compile together with the sources and run with
+ * {@code java -cp out dataStructures.ConcurrentMapBenchmark [n] [maxThreads] [readPercent] [map]};
+ * without a map name, every map is measured in a JVM of its own.
+ * @author AED  Team
+ * @version 1.0
+ */
+public class ConcurrentMapBenchmark {
+
+    // Default number of keys.
+    private static final int DEFAULT_KEYS = 100_000;
+
+    // Default largest number of threads.
+    private static final int DEFAULT_MAX_THREADS = Runtime.getRuntime().availableProcessors();
+
+    // Default percentage of gets among the operations.
+    private static final int DEFAULT_READ_PERCENT = 90;
+
+    // Number of operations of each thread per round.
+    private static final int OPERATIONS = 1_000_000;
+
+    // Number of measured rounds (after one warm-up round) per thread count.
+    private static final int ROUNDS = 3;
+
+    private interface MapFactory {
+        Map<CharSequence, Object> create();
+    }
+
+    // Maps compared, each measured in its own JVM.
+    private static final String[] MAPS = {"LockedSepChainHashTable", "ConcurrentSepChainHashTable"};
+
+    // Keeps the JIT from discarding the lookups.
+    private static volatile int sink;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_KEYS;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_THREADS;
+        int readPercent = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_READ_PERCENT;
+
+        if (args.length > 3) {
+            run(args[3], names(n), maxThreads, readPercent);
+            return;
+        }
+        // Each map is measured in a fresh JVM (like a JMH fork): in a shared
+        // one the JIT specializes the measuring loops for the first map only.
+        System.out.printf("%d keys, up to %d threads, %d%% reads%n", n, maxThreads, readPercent);
+        for (String map : MAPS) {
+            Process fork = new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"), ConcurrentMapBenchmark.class.getName(),
+                    Integer.toString(n), Integer.toString(maxThreads), Integer.toString(readPercent), map)
+                    .inheritIO().start();
+            if (fork.waitFor() != 0)
+                throw new IllegalStateException(map + ": fork failed");
+        }
+    }
+
+    // Distinct names (ignoring case), always the same for a given n.
+    private static String[] names(int n) {
+        Random random = new Random(42);
+        String[] names = new String[n];
+        for (int i = 0; i < n; i++)
+            names[i] = "Service" + Integer.toString(i, 36) + (char) ('A' + random.nextInt(26));
+        return names;
+    }
+
+    private static void run(String map, String[] names, int maxThreads, int readPercent)
+            throws InterruptedException {
+        MapFactory factory = switch (map) {
+            case "LockedSepChainHashTable" -> () -> new LockedMap<>(new SepChainHashTable<>(CaseInsensitiveEquivalence.INSTANCE));
+            case "ConcurrentSepChainHashTable" -> () -> new ConcurrentSepChainHashTable<>(CaseInsensitiveEquivalence.INSTANCE);
+            default -> throw new IllegalArgumentException("unknown map " + map);
+        };
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            long nanos = 0;
+            for (int round = 0; round <= ROUNDS; round++) {
+                long time = measure(factory, names, threads, readPercent);
+                if (round > 0)
+                    nanos += time;
+            }
+            double ops = (double) OPERATIONS * threads * ROUNDS;
+            System.out.printf("%-28s %3d threads %8.2f Mops/s%n", map, threads, ops * 1000 / nanos);
+        }
+    }
+
+    // Returns the time for the threads to run their operations on a map
+    // holding every other name.
+    private static long measure(MapFactory factory, String[] names, int threads, int readPercent)
+            throws InterruptedException {
+        Map<CharSequence, Object> map = factory.create();
+        for (int i = 0; i < names.length; i += 2)
+            map.put(names[i], names[i]);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            workers[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                int found = 0;
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < OPERATIONS; i++) {
+                    String name = names[random.nextInt(names.length)];
+                    int dice = random.nextInt(200);
+                    if (dice < 2 * readPercent) {
+                        if (map.get(name) != null)
+                            found++;
+                    } else if ((dice & 1) == 0)
+                        map.put(name, name);
+                    else
+                        map.remove(name);
+                }
+                sink += found;
+            });
+            workers[t].start();
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers)
+            worker.join();
+        return System.nanoTime() - begin;
+    }
+
+    /**
+     * A map whose operations all hold the lock of the map.
+     */
+    private static class LockedMap<K,V> implements Map<K,V> {
+
+        private final Map<K,V> map;
+
+        LockedMap(Map<K,V> map) {
+            this.map = map;
+        }
+
+        public synchronized boolean isEmpty() { return map.isEmpty(); }
+        public synchronized int size() { return map.size(); }
+        public synchronized V get(K key) { return map.get(key); }
+        public synchronized V put(K key, V value) { return map.put(key, value); }
+        public synchronized V remove(K key) { return map.remove(key); }
+        public synchronized Iterator<Entry<K,V>> iterator() { return map.iterator(); }
+        public synchronized Iterator<V> values() { return map.values(); }
+        public synchronized Iterator<K> keys() { return map.keys(); }
+    }
+}
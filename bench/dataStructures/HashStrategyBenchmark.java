@@ -0,0 +1,183 @@
+package dataStructures;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Hash Strategy Benchmark
+ * Compares the {@link StandardHashStrategy}s on the keys the application
+ * hashes: service names, student names and review words (tags), all hashed
+ * with the {@link CaseInsensitiveEquivalence} like in the collections.
+ * <p>
+ * For each key set and strategy it reports the distribution of the keys over
+ * a table sized like a {@link SepChainHashTable} for them (empty buckets,
+ * longest chain, average number of keys inspected by a successful search,
+ * and that average relative to a uniformly random distribution) and the
+ * time per position computation, per put and per get.
+ * <p>
+ * The keys are read from the command scripts given as arguments (the input
+ * format of Main: names after "service" and "student", words of the review
+ * after "star"); without arguments, key sets of the same shape are generated.
+ * Compile together with the sources and run with
+ * {@code java -cp out dataStructures.HashStrategyBenchmark [script ...]}.
+ * @author AED  Team
+ * @version 1.0
+ */
+public class HashStrategyBenchmark {
+
+    // Number of keys of each generated key set.
+    private static final int GENERATED_KEYS = 50_000;
+
+    // Number of measured rounds (after one warm-up round).
+    private static final int ROUNDS = 5;
+
+    private static final String[] SERVICE_WORDS = {"Cantina", "Tasca", "Residencia", "Hostel", "Museu",
+            "Bar", "Cinema", "Pastelaria", "Ginasio", "Biblioteca", "Casa", "Solar", "Teatro", "Piscina"};
+    private static final String[] SERVICE_QUALIFIERS = {"Central", "Norte", "Sul", "Azul", "Velho", "Novo",
+            "do Campus", "da Praia", "Universitaria", "Real", "Verde", "da Estacao"};
+    private static final String[] FIRST_NAMES = {"Ana", "Bruno", "Carla", "Diogo", "Eva", "Filipe", "Gabriela",
+            "Hugo", "Ines", "Joao", "Luisa", "Miguel", "Nuno", "Olivia", "Pedro", "Rita", "Sofia", "Tiago"};
+    private static final String[] LAST_NAMES = {"Silva", "Costa", "Dias", "Reis", "Lopes", "Santos", "Ferreira",
+            "Pereira", "Oliveira", "Martins", "Sousa", "Rodrigues", "Fernandes", "Goncalves", "Gomes"};
+
+    public static void main(String[] args) throws IOException {
+        Set<String> services = new LinkedHashSet<>();
+        Set<String> students = new LinkedHashSet<>();
+        Set<String> words = new LinkedHashSet<>();
+        if (args.length > 0) {
+            for (String file : args)
+                readScript(file, services, students, words);
+        } else {
+            generate(services, students, words);
+        }
+
+        run("service names", services);
+        run("student names", students);
+        run("review words", words);
+    }
+
+    // Collects the keys of a command script in the input format of Main.
+    private static void readScript(String file, Set<String> services, Set<String> students,
+                                   Set<String> words) throws IOException {
+        try (BufferedReader in = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] tokens = line.trim().split("\\s+", 7);
+                if (tokens[0].equalsIgnoreCase("service") && tokens.length == 7) {
+                    services.add(tokens[6]);
+                } else if (tokens[0].equalsIgnoreCase("student") && tokens.length == 2) {
+                    String name = in.readLine();
+                    if (name != null)
+                        students.add(name.trim());
+                } else if (tokens[0].equalsIgnoreCase("star")) {
+                    String review = in.readLine();
+                    if (review != null)
+                        for (String word : review.trim().split("\\s+"))
+                            if (!word.isEmpty())
+                                words.add(word.toLowerCase());
+                }
+            }
+        }
+    }
+
+    private static void generate(Set<String> services, Set<String> students, Set<String> words) {
+        Random random = new Random(42);
+        while (services.size() < GENERATED_KEYS)
+            services.add(pick(random, SERVICE_WORDS) + " " + pick(random, SERVICE_QUALIFIERS)
+                    + " " + random.nextInt(GENERATED_KEYS));
+        while (students.size() < GENERATED_KEYS)
+            students.add(pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES)
+                    + " " + pick(random, LAST_NAMES) + random.nextInt(GENERATED_KEYS / 10));
+        // Words of 2 to 10 lowercase letters, with vowels and consonants alternating.
+        while (words.size() < GENERATED_KEYS) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + random.nextInt(9);
+            for (int i = 0; i < length; i++)
+                word.append(i % 2 == 0 ? "bcdfglmnprstv".charAt(random.nextInt(13)) : "aeiou".charAt(random.nextInt(5)));
+            words.add(word.toString());
+        }
+    }
+
+    private static String pick(Random random, String[] options) {
+        return options[random.nextInt(options.length)];
+    }
+
+    private static void run(String keyKind, Set<String> keySet) {
+        ArrayList<String> keys = new ArrayList<>(keySet);
+        int n = keys.size();
+        if (n == 0)
+            return;
+        int[] hashes = new int[n];
+        for (int i = 0; i < n; i++)
+            hashes[i] = CaseInsensitiveEquivalence.INSTANCE.hash(keys.get(i));
+
+        System.out.printf("%n%s: %d keys%n", keyKind, n);
+        for (StandardHashStrategy strategy : StandardHashStrategy.values()) {
+            int length = strategy.tableLength((int) (n / SepChainHashTable.IDEAL_LOAD_FACTOR));
+            System.out.printf("%-12s length %7d  %s  index %5.2f ns  %s%n", strategy, length,
+                    distribution(strategy, hashes, length), indexNanos(strategy, hashes, length),
+                    mapNanos(strategy, keys));
+        }
+    }
+
+    private static String distribution(HashStrategy strategy, int[] hashes, int length) {
+        int[] chains = new int[length];
+        for (int h : hashes)
+            chains[strategy.index(h, length)]++;
+        int empty = 0, longest = 0;
+        long inspected = 0;
+        for (int c : chains) {
+            if (c == 0)
+                empty++;
+            longest = Math.max(longest, c);
+            inspected += (long) c * (c + 1) / 2; // the i-th key of a chain is found after i comparisons
+        }
+        double average = (double) inspected / hashes.length;
+        double uniform = 1 + (hashes.length - 1) / (2.0 * length); // expected with uniform hashing
+        return String.format("empty %4.1f%%  longest %2d  search %.3f (x%.3f of uniform)",
+                100.0 * empty / length, longest, average, average / uniform);
+    }
+
+    private static double indexNanos(HashStrategy strategy, int[] hashes, int length) {
+        long sum = 0, nanos = 0;
+        for (int round = 0; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int repeat = 0; repeat < 10; repeat++)
+                for (int h : hashes)
+                    sum += strategy.index(h + repeat, length);
+            if (round > 0)
+                nanos += System.nanoTime() - start;
+        }
+        if (sum == 42)
+            System.out.print("");
+        return (double) nanos / ((long) hashes.length * 10 * ROUNDS);
+    }
+
+    private static String mapNanos(HashStrategy strategy, ArrayList<String> keys) {
+        long putNanos = 0, getNanos = 0, found = 0;
+        for (int round = 0; round <= ROUNDS; round++) {
+            Map<CharSequence, String> map = new SepChainHashTable<>(HashTable.DEFAULT_CAPACITY, false,
+                    CaseInsensitiveEquivalence.INSTANCE, strategy);
+            long start = System.nanoTime();
+            for (String key : keys)
+                map.put(key, key);
+            long afterPut = System.nanoTime();
+            for (String key : keys)
+                if (map.get(key) != null) found++;
+            long afterGet = System.nanoTime();
+            if (round > 0) {
+                putNanos += afterPut - start;
+                getNanos += afterGet - afterPut;
+            }
+        }
+        if (found != (long) keys.size() * (ROUNDS + 1))
+            throw new IllegalStateException(strategy + ": keys not found");
+        long ops = (long) keys.size() * ROUNDS;
+        return String.format("put %6.1f ns  get %6.1f ns", (double) putNanos / ops, (double) getNanos / ops);
+    }
+}
@@ -0,0 +1,100 @@
+package dataStructures;
+
+/**
+ * Hash Table Benchmark
+ * Compares the {@link ClosedHashTable} (linear probing with removed cells)
+ * with the {@link RobinHoodHashTable} (Robin Hood probing with backward-shift
+ * deletion): probe lengths and get/put throughput, on string keys (like
+ * service names) and on keys with identity hash codes (like {@code Service}
+ * keys in a student's visited set), before and after a remove/insert churn.
+ * <p>
+ * Compile together with the sources and run with
+ * {@code java -cp out dataStructures.HashTableBenchmark [n] [rounds]}.
+ * @author AED  Team
+ * @version 1.0
+ */
+public class HashTableBenchmark {
+
+    // Default number of keys.
+    private static final int DEFAULT_KEYS = 200_000;
+
+    // Default number of measured rounds (after one warm-up round).
+    private static final int DEFAULT_ROUNDS = 5;
+
+    // Keys with the default (identity) hash code, like the services.
+    private static final class IdentityKey {
+    }
+
+    private interface TableFactory {
+        HashTable<Object, Object> create();
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_KEYS;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+        Object[] names = new Object[n];
+        Object[] missing = new Object[n];
+        Object[] identities = new Object[n];
+        for (int i = 0; i < n; i++) {
+            names[i] = "service " + i;
+            missing[i] = "absent " + i;
+            identities[i] = new IdentityKey();
+        }
+
+        System.out.printf("%d keys, %d rounds%n", n, rounds);
+        run("ClosedHashTable", ClosedHashTable::new, "names", names, missing, rounds);
+        run("RobinHoodHashTable", RobinHoodHashTable::new, "names", names, missing, rounds);
+        run("ClosedHashTable", ClosedHashTable::new, "identity", identities, missing, rounds);
+        run("RobinHoodHashTable", RobinHoodHashTable::new, "identity", identities, missing, rounds);
+    }
+
+    private static void run(String name, TableFactory factory, String keyKind,
+                            Object[] keys, Object[] missing, int rounds) {
+        long putNanos = 0, hitNanos = 0, missNanos = 0, churnNanos = 0;
+        long checksum = 0;
+        HashTable<Object, Object> table = null;
+        for (int round = 0; round <= rounds; round++) {
+            table = factory.create();
+            long start = System.nanoTime();
+            for (Object key : keys)
+                table.put(key, key);
+            long afterPut = System.nanoTime();
+            for (Object key : keys)
+                if (table.get(key) != null) checksum++;
+            long afterHit = System.nanoTime();
+            for (Object key : missing)
+                if (table.get(key) != null) checksum++;
+            long afterMiss = System.nanoTime();
+            // Remove and re-insert half of the keys: leaves removed cells in the closed table.
+            for (int i = 0; i < keys.length; i += 2)
+                table.remove(keys[i]);
+            for (int i = 0; i < keys.length; i += 2)
+                table.put(keys[i], keys[i]);
+            long afterChurn = System.nanoTime();
+            if (round > 0) {
+                putNanos += afterPut - start;
+                hitNanos += afterHit - afterPut;
+                missNanos += afterMiss - afterHit;
+                churnNanos += afterChurn - afterMiss;
+            }
+        }
+        long ops = (long) keys.length * rounds;
+        System.out.printf("%-20s %-9s put %7.1f ns  get(hit) %6.1f ns  get(miss) %6.1f ns  churn %7.1f ns  %s  (%d)%n",
+                name, keyKind, (double) putNanos / ops, (double) hitNanos / ops,
+                (double) missNanos / ops, (double) churnNanos / ops, probeStats(table, keys), checksum);
+    }
+
+    private static String probeStats(HashTable<Object, Object> table, Object[] keys) {
+        long total = 0;
+        int max = 0;
+        for (Object key : keys) {
+            int probes = (table instanceof RobinHoodHashTable<Object, Object> robinHood)
+                    ? robinHood.probeLength(key)
+                    : ((ClosedHashTable<Object, Object>) table).probeLength(key);
+            total += probes;
+            max = Math.max(max, probes);
+        }
+        return String.format("probes avg %.2f max %d", (double) total / keys.length, max);
+    }
+}
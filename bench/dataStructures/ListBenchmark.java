@@ -0,0 +1,122 @@
+package dataStructures;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * List Benchmark
+ * Compares the {@link CircularArrayList} with the {@link DoublyLinkedList}:
+ * time per addLast while a list grows from empty, time per element of a
+ * full iteration (forward with an Iterator and backward with a
+ * TwoWayIterator), and heap bytes per element of a list of n elements
+ * (measured as the growth of the used heap, so the elements themselves,
+ * shared by both lists, are not counted).
+ * <p>
+ * Compile together with the sources and run with
+ * {@code java -cp out dataStructures.ListBenchmark [n] [rounds] [list]};
+ * without a list name, every list is measured in a JVM of its own.
+ * @author AED  Team
+ * @version 1.0
+ */
+public class ListBenchmark {
+
+    // Default number of elements per list.
+    private static final int DEFAULT_ELEMENTS = 1_000_000;
+
+    // Default number of measured rounds (after one warm-up round).
+    private static final int DEFAULT_ROUNDS = 5;
+
+    private interface ListFactory {
+        TwoWayList<Object> create();
+    }
+
+    // Lists compared, each measured in its own JVM.
+    private static final String[] LISTS = {"DoublyLinkedList", "CircularArrayList"};
+
+    // Keeps the JIT from discarding the iterations.
+    private static int sink;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ELEMENTS;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+        Object[] elements = new Object[n];
+        for (int i = 0; i < n; i++)
+            elements[i] = Integer.toString(i);
+
+        if (args.length > 2) {
+            run(args[2], elements, rounds);
+            return;
+        }
+        // Each list is measured in a fresh JVM (like a JMH fork): in a shared
+        // one the JIT specializes the measuring loops for the first list only.
+        System.out.printf("%d elements, %d rounds%n", n, rounds);
+        for (String list : LISTS) {
+            Process fork = new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"), ListBenchmark.class.getName(),
+                    Integer.toString(n), Integer.toString(rounds), list).inheritIO().start();
+            if (fork.waitFor() != 0)
+                throw new IllegalStateException(list + ": fork failed");
+        }
+    }
+
+    private static void run(String list, Object[] elements, int rounds) {
+        ListFactory factory = switch (list) {
+            case "DoublyLinkedList" -> DoublyLinkedList::new;
+            case "CircularArrayList" -> CircularArrayList::new;
+            default -> throw new IllegalArgumentException("unknown list " + list);
+        };
+        long addNanos = 0, forwardNanos = 0, backwardNanos = 0;
+        for (int round = 0; round <= rounds; round++) {
+            long[] nanos = measure(factory, elements);
+            if (round > 0) {
+                addNanos += nanos[0];
+                forwardNanos += nanos[1];
+                backwardNanos += nanos[2];
+            }
+        }
+        double ops = (double) elements.length * rounds;
+        System.out.printf("%-18s addLast %6.2f ns  forward %6.2f ns  backward %6.2f ns  %6.2f bytes/element%n",
+                list, addNanos / ops, forwardNanos / ops, backwardNanos / ops, bytesPerElement(factory, elements));
+    }
+
+    // Returns the time to append all the elements, to iterate them forward and to iterate them backward.
+    private static long[] measure(ListFactory factory, Object[] elements) {
+        TwoWayList<Object> list = factory.create();
+        long start = System.nanoTime();
+        for (Object element : elements)
+            list.addLast(element);
+        long afterAdd = System.nanoTime();
+        Iterator<Object> it = list.iterator();
+        while (it.hasNext())
+            sink += it.next().hashCode();
+        long afterForward = System.nanoTime();
+        TwoWayIterator<Object> back = list.twoWayiterator();
+        back.fullForward();
+        while (back.hasPrevious())
+            sink += back.previous().hashCode();
+        long afterBackward = System.nanoTime();
+        if (list.size() != elements.length)
+            throw new IllegalStateException("wrong size " + list.size());
+        return new long[] {afterAdd - start, afterForward - afterAdd, afterBackward - afterForward};
+    }
+
+    private static double bytesPerElement(ListFactory factory, Object[] elements) {
+        long before = usedHeap();
+        TwoWayList<Object> list = factory.create();
+        for (Object element : elements)
+            list.addLast(element);
+        long after = usedHeap();
+        if (list.size() != elements.length)
+            throw new IllegalStateException("wrong size " + list.size());
+        return (double) (after - before) / elements.length;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
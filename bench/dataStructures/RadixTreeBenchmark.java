@@ -0,0 +1,151 @@
+package dataStructures;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Radix Tree Benchmark
+ * Compares the {@link RadixTreeMap} with the layout of the tag map of the
+ * services (a {@link SepChainHashTable} or {@link ConcurrentSepChainHashTable}
+ * of strings, ignoring case), on two key sets of n keys: review words (short,
+ * many shared prefixes) and service names (long, sharing their first words).
+ * <p>
+ * For each map and key set it reports the heap retained per key (the map and
+ * its keys, measured after a garbage collection) and the time per get of a
+ * present key, looked up through a {@link CharSlice} of a text holding the
+ * keys, as the words of a review are.
+ * <p>
+ * Compile together with the sources and run with
+ * {@code java -cp out dataStructures.RadixTreeBenchmark [n] [map]};
+ * without a map name, every map is measured in a JVM of its own.
+ * @author AED  Team
+ * @version 1.0
+ */
+public class RadixTreeBenchmark {
+
+    // Default number of keys of each key set.
+    private static final int DEFAULT_KEYS = 100_000;
+
+    // Number of gets per round.
+    private static final int LOOKUPS = 2_000_000;
+
+    // Number of measured rounds (after one warm-up round).
+    private static final int ROUNDS = 5;
+
+    // Maps compared, each measured in its own JVM.
+    private static final String[] MAPS = {"SepChainHashTable", "ConcurrentSepChainHashTable", "RadixTreeMap"};
+
+    private static final String[] SERVICE_WORDS = {"Cantina", "Tasca", "Residencia", "Hostel", "Museu",
+            "Bar", "Cinema", "Pastelaria", "Ginasio", "Biblioteca", "Casa", "Solar", "Teatro", "Piscina"};
+    private static final String[] SERVICE_QUALIFIERS = {"Central", "Norte", "Sul", "Azul", "Velho", "Novo",
+            "do Campus", "da Praia", "Universitaria", "Real", "Verde", "da Estacao"};
+
+    // Keeps the JIT from discarding the lookups.
+    private static volatile int sink;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_KEYS;
+
+        if (args.length > 1) {
+            run(args[1], "review words", words(n));
+            run(args[1], "service names", serviceNames(n));
+            return;
+        }
+        // Each map is measured in a fresh JVM (like a JMH fork): in a shared
+        // one the JIT specializes the measuring loops for the first map only,
+        // and the heap of one map would blur the measure of the next.
+        System.out.printf("%d keys per key set%n", n);
+        for (String map : MAPS) {
+            Process fork = new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"), RadixTreeBenchmark.class.getName(),
+                    Integer.toString(n), map)
+                    .inheritIO().start();
+            if (fork.waitFor() != 0)
+                throw new IllegalStateException(map + ": fork failed");
+        }
+    }
+
+    // Distinct words of 2 to 10 lowercase letters, vowels and consonants alternating.
+    private static String[] words(int n) {
+        Random random = new Random(42);
+        java.util.Set<String> words = new java.util.LinkedHashSet<>();
+        while (words.size() < n) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + random.nextInt(9);
+            for (int i = 0; i < length; i++)
+                word.append(i % 2 == 0 ? "bcdfglmnprstv".charAt(random.nextInt(13)) : "aeiou".charAt(random.nextInt(5)));
+            words.add(word.toString());
+        }
+        return words.toArray(new String[0]);
+    }
+
+    // Distinct service names (ignoring case).
+    private static String[] serviceNames(int n) {
+        Random random = new Random(42);
+        java.util.Set<String> names = new java.util.LinkedHashSet<>();
+        while (names.size() < n)
+            names.add(SERVICE_WORDS[random.nextInt(SERVICE_WORDS.length)] + " "
+                    + SERVICE_QUALIFIERS[random.nextInt(SERVICE_QUALIFIERS.length)] + " " + random.nextInt(10 * n));
+        return names.toArray(new String[0]);
+    }
+
+    private static Map<CharSequence, Object> create(String map) {
+        return switch (map) {
+            case "SepChainHashTable" -> new SepChainHashTable<>(CaseInsensitiveEquivalence.INSTANCE);
+            case "ConcurrentSepChainHashTable" -> new ConcurrentSepChainHashTable<>(CaseInsensitiveEquivalence.INSTANCE);
+            case "RadixTreeMap" -> new RadixTreeMap<>(true);
+            default -> throw new IllegalArgumentException("unknown map " + map);
+        };
+    }
+
+    private static void run(String map, String keyKind, String[] keys) {
+        // The text the keys are looked up in, and the range of each key in it
+        StringBuilder text = new StringBuilder();
+        int[] starts = new int[keys.length + 1];
+        for (int i = 0; i < keys.length; i++) {
+            starts[i] = text.length();
+            text.append(keys[i]).append(' ');
+        }
+        starts[keys.length] = text.length();
+
+        long before = usedHeap();
+        Map<CharSequence, Object> filled = create(map);
+        for (String key : keys)
+            filled.put(new String(key.toCharArray()), Boolean.TRUE); // the map owns its copies of the keys
+        double bytesPerKey = (double) (usedHeap() - before) / keys.length;
+
+        CharSlice slice = new CharSlice(text);
+        Random random = new Random(7);
+        int[] order = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++)
+            order[i] = random.nextInt(keys.length);
+        long nanos = 0;
+        for (int round = 0; round <= ROUNDS; round++) {
+            int found = 0;
+            long begin = System.nanoTime();
+            for (int k : order) {
+                slice.select(starts[k], starts[k + 1] - 1);
+                if (filled.get(slice) != null)
+                    found++;
+            }
+            long time = System.nanoTime() - begin;
+            if (found != LOOKUPS)
+                throw new IllegalStateException(map + ": lost keys");
+            if (round > 0)
+                nanos += time;
+            sink += found;
+        }
+        System.out.printf("%-28s %-14s %8.1f bytes/key %8.1f ns/get%n",
+                map, keyKind, bytesPerKey, (double) nanos / ((long) LOOKUPS * ROUNDS));
+    }
+
+    // Heap in use after a garbage collection.
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
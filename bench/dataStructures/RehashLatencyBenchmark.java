@@ -0,0 +1,82 @@
+package dataStructures;
+
+import java.util.Arrays;
+
+/**
+ * Rehash Latency Benchmark
+ * Measures the latency of every single {@code put} while a table grows from
+ * its default capacity, with the rehash done at once and with incremental
+ * rehashing, for the {@link SepChainHashTable} and the {@link ClosedHashTable}.
+ * Reports the median, p99, p99.99, p99.999 and maximum latency and the total time.
+ * Only a handful of puts trigger a resize, so the pauses show up in the
+ * highest percentiles; incremental rehashing removes them at the price of
+ * a little more work on the puts made while a migration is in progress.
+ * <p>
+ * Keys are words like the ones indexed as tags. Compile together with the
+ * sources and run with
+ * {@code java -cp out dataStructures.RehashLatencyBenchmark [n] [rounds]}.
+ * @author AED  Team
+ * @version 1.0
+ */
+public class RehashLatencyBenchmark {
+
+    // Default number of keys inserted per round.
+    private static final int DEFAULT_KEYS = 200_000;
+
+    // The closed table is measured with n / CLOSED_KEYS_DIVISOR keys: linear
+    // probing over the raw hash codes of these words forms long clusters.
+    private static final int CLOSED_KEYS_DIVISOR = 10;
+
+    // Default number of measured rounds (after one warm-up round).
+    private static final int DEFAULT_ROUNDS = 5;
+
+    private interface TableFactory {
+        Map<Object, Object> create();
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_KEYS;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+        Object[] words = new Object[n];
+        for (int i = 0; i < n; i++)
+            words[i] = "word" + Integer.toString(i, 36);
+
+        System.out.printf("%d rounds%n", rounds);
+        run("SepChainHashTable", () -> new SepChainHashTable<>(), words, rounds);
+        run("SepChainHashTable inc", () -> new SepChainHashTable<>(HashTable.DEFAULT_CAPACITY, true), words, rounds);
+        Object[] closedWords = Arrays.copyOf(words, n / CLOSED_KEYS_DIVISOR);
+        run("ClosedHashTable", () -> new ClosedHashTable<>(), closedWords, rounds);
+        run("ClosedHashTable inc", () -> new ClosedHashTable<>(HashTable.DEFAULT_CAPACITY, true), closedWords, rounds);
+    }
+
+    private static void run(String name, TableFactory factory, Object[] keys, int rounds) {
+        long[] latencies = new long[keys.length * rounds];
+        long totalNanos = 0;
+        for (int round = 0; round <= rounds; round++) {
+            Map<Object, Object> table = factory.create();
+            int base = (round - 1) * keys.length;
+            long roundStart = System.nanoTime();
+            for (int i = 0; i < keys.length; i++) {
+                long start = System.nanoTime();
+                table.put(keys[i], keys[i]);
+                long elapsed = System.nanoTime() - start;
+                if (round > 0)
+                    latencies[base + i] = elapsed;
+            }
+            if (round > 0)
+                totalNanos += System.nanoTime() - roundStart;
+            if (table.size() != keys.length)
+                throw new IllegalStateException(name + ": wrong size " + table.size());
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-22s %7d puts  p50 %6d ns  p99 %7d ns  p99.99 %9d ns  p99.999 %9d ns  max %11d ns  total %7.1f ms/round%n",
+                name, keys.length, percentile(latencies, 0.50), percentile(latencies, 0.99),
+                percentile(latencies, 0.9999), percentile(latencies, 0.99999), latencies[latencies.length - 1],
+                totalNanos / 1e6 / rounds);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, (long) (p * sorted.length))];
+    }
+}
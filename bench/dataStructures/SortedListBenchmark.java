@@ -0,0 +1,144 @@
+package dataStructures;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Sorted List Benchmark
+ * Compares the {@link SortedSkipList} with the {@link SortedDoublyLinkedList},
+ * both ordering names ignoring case as the students of an area are: time per
+ * add while a list grows from empty (random order), time per contains of an
+ * element in the list, time per remove until the list is empty (random
+ * order), and heap bytes per element of a list of n elements (measured as
+ * the growth of the used heap, so the elements themselves, shared by both
+ * lists, are not counted).
+ * The linked list walks from the head at every operation, so keep n small
+ * enough for it (its time per operation grows with n).
+ * <p>
+ * Compile together with the sources and run with
+ * {@code java -cp out dataStructures.SortedListBenchmark [n] [rounds] [list]};
+ * without a list name, every list is measured in a JVM of its own.
+ * @author AED  Team
+ * @version 1.0
+ */
+public class SortedListBenchmark {
+
+    // Default number of elements per list.
+    private static final int DEFAULT_ELEMENTS = 20_000;
+
+    // Default number of measured rounds (after one warm-up round).
+    private static final int DEFAULT_ROUNDS = 3;
+
+    private interface ListFactory {
+        SortedList<String> create();
+    }
+
+    // Order of the names, ignoring case.
+    private static final Comparator<String> BY_NAME = String::compareToIgnoreCase;
+
+    // Lists compared, each measured in its own JVM.
+    private static final String[] LISTS = {"SortedDoublyLinkedList", "SortedSkipList"};
+
+    // Keeps the JIT from discarding the lookups.
+    private static int sink;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ELEMENTS;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+        if (args.length > 2) {
+            run(args[2], names(n), rounds);
+            return;
+        }
+        // Each list is measured in a fresh JVM (like a JMH fork): in a shared
+        // one the JIT specializes the measuring loops for the first list only.
+        System.out.printf("%d elements, %d rounds%n", n, rounds);
+        for (String list : LISTS) {
+            Process fork = new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"), SortedListBenchmark.class.getName(),
+                    Integer.toString(n), Integer.toString(rounds), list).inheritIO().start();
+            if (fork.waitFor() != 0)
+                throw new IllegalStateException(list + ": fork failed");
+        }
+    }
+
+    // Distinct names (ignoring case) in random order, always the same for a given n.
+    private static String[] names(int n) {
+        Random random = new Random(42);
+        String[] names = new String[n];
+        for (int i = 0; i < n; i++)
+            names[i] = "Student" + Integer.toString(i, 36) + (char) ('A' + random.nextInt(26));
+        shuffle(names, random);
+        return names;
+    }
+
+    private static void shuffle(String[] names, Random random) {
+        for (int i = names.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String name = names[i];
+            names[i] = names[j];
+            names[j] = name;
+        }
+    }
+
+    private static void run(String list, String[] names, int rounds) {
+        ListFactory factory = switch (list) {
+            case "SortedDoublyLinkedList" -> () -> new SortedDoublyLinkedList<>(BY_NAME);
+            case "SortedSkipList" -> () -> new SortedSkipList<>(BY_NAME);
+            default -> throw new IllegalArgumentException("unknown list " + list);
+        };
+        String[] removals = names.clone();
+        shuffle(removals, new Random(7));
+        long addNanos = 0, containsNanos = 0, removeNanos = 0;
+        for (int round = 0; round <= rounds; round++) {
+            long[] nanos = measure(factory, names, removals);
+            if (round > 0) {
+                addNanos += nanos[0];
+                containsNanos += nanos[1];
+                removeNanos += nanos[2];
+            }
+        }
+        double ops = (double) names.length * rounds;
+        System.out.printf("%-22s add %9.2f ns  contains %9.2f ns  remove %9.2f ns  %6.2f bytes/element%n",
+                list, addNanos / ops, containsNanos / ops, removeNanos / ops, bytesPerElement(factory, names));
+    }
+
+    // Returns the time to add all the names, to look each of them up and to remove them all.
+    private static long[] measure(ListFactory factory, String[] names, String[] removals) {
+        SortedList<String> list = factory.create();
+        long start = System.nanoTime();
+        for (String name : names)
+            list.add(name);
+        long afterAdd = System.nanoTime();
+        for (String name : names)
+            if (list.contains(name))
+                sink++;
+        long afterContains = System.nanoTime();
+        for (String name : removals)
+            sink += list.remove(name).length();
+        long afterRemove = System.nanoTime();
+        if (!list.isEmpty() || sink == 0)
+            throw new IllegalStateException("wrong size " + list.size());
+        return new long[] {afterAdd - start, afterContains - afterAdd, afterRemove - afterContains};
+    }
+
+    private static double bytesPerElement(ListFactory factory, String[] names) {
+        long before = usedHeap();
+        SortedList<String> list = factory.create();
+        for (String name : names)
+            list.add(name);
+        long after = usedHeap();
+        if (list.size() != names.length)
+            throw new IllegalStateException("wrong size " + list.size());
+        return (double) (after - before) / names.length;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
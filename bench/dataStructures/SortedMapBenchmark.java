@@ -0,0 +1,142 @@
+package dataStructures;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Sorted Map Benchmark
+ * Compares the {@link BPlusTreeSortedMap} with the {@link AVLSortedMap},
+ * both ordering names ignoring case as the students of an area are: time
+ * per put while a map grows from empty (random order), time per successful
+ * get, time per entry of short range scans (SCAN_LENGTH entries from each
+ * key, found by rank and iterator(position)), and heap bytes per entry of a map of n entries (measured as the
+ * growth of the used heap, so the keys and values, shared by both maps, are
+ * not counted).
+ * <p>
+ * Compile together with the sources and run with
+ * {@code java -cp out dataStructures.SortedMapBenchmark [n] [rounds] [map]};
+ * without a map name, every map is measured in a JVM of its own.
+ * @author AED  Team
+ * @version 1.0
+ */
+public class SortedMapBenchmark {
+
+    // Default number of entries per map.
+    private static final int DEFAULT_ENTRIES = 1_000_000;
+
+    // Default number of measured rounds (after one warm-up round).
+    private static final int DEFAULT_ROUNDS = 5;
+
+    // Number of entries read by each range scan.
+    private static final int SCAN_LENGTH = 20;
+
+    private interface MapFactory {
+        SortedMap<String, Object> create();
+    }
+
+    // Maps compared, each measured in its own JVM.
+    private static final String[] MAPS = {"AVLSortedMap", "BPlusTreeSortedMap"};
+
+    // Keeps the JIT from discarding the lookups.
+    private static int sink;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ENTRIES;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+        if (args.length > 2) {
+            run(args[2], names(n), rounds);
+            return;
+        }
+        // Each map is measured in a fresh JVM (like a JMH fork): in a shared
+        // one the JIT specializes the measuring loops for the first map only.
+        System.out.printf("%d entries, %d rounds%n", n, rounds);
+        for (String map : MAPS) {
+            Process fork = new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"), SortedMapBenchmark.class.getName(),
+                    Integer.toString(n), Integer.toString(rounds), map).inheritIO().start();
+            if (fork.waitFor() != 0)
+                throw new IllegalStateException(map + ": fork failed");
+        }
+    }
+
+    // Distinct names (ignoring case) in random order, always the same for a given n.
+    private static String[] names(int n) {
+        Random random = new Random(42);
+        String[] names = new String[n];
+        for (int i = 0; i < n; i++)
+            names[i] = "Student" + Integer.toString(i, 36) + (char) ('A' + random.nextInt(26));
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String name = names[i];
+            names[i] = names[j];
+            names[j] = name;
+        }
+        return names;
+    }
+
+    private static void run(String map, String[] names, int rounds) {
+        MapFactory factory = switch (map) {
+            case "AVLSortedMap" -> () -> new AVLSortedMap<>(CaseInsensitiveEquivalence.INSTANCE);
+            case "BPlusTreeSortedMap" -> () -> new BPlusTreeSortedMap<>(CaseInsensitiveEquivalence.INSTANCE);
+            default -> throw new IllegalArgumentException("unknown map " + map);
+        };
+        long putNanos = 0, getNanos = 0, scanNanos = 0;
+        for (int round = 0; round <= rounds; round++) {
+            long[] nanos = measure(factory, names);
+            if (round > 0) {
+                putNanos += nanos[0];
+                getNanos += nanos[1];
+                scanNanos += nanos[2];
+            }
+        }
+        double ops = (double) names.length * rounds;
+        System.out.printf("%-18s put %7.2f ns  get %7.2f ns  scan %6.2f ns/entry  %6.2f bytes/entry%n",
+                map, putNanos / ops, getNanos / ops, scanNanos / (ops * SCAN_LENGTH), bytesPerEntry(factory, names));
+    }
+
+    // Returns the time to put all the names, to get each of them and to scan
+    // SCAN_LENGTH entries from each of them.
+    private static long[] measure(MapFactory factory, String[] names) {
+        SortedMap<String, Object> map = factory.create();
+        long start = System.nanoTime();
+        for (String name : names)
+            map.put(name, name);
+        long afterPut = System.nanoTime();
+        for (String name : names)
+            sink += map.get(name).hashCode();
+        long afterGet = System.nanoTime();
+        int scanned = 0;
+        for (String name : names) {
+            Iterator<Map.Entry<String, Object>> it = map.iterator(map.rank(name));
+            for (int i = 0; i < SCAN_LENGTH && it.hasNext(); i++) {
+                sink += it.next().value().hashCode();
+                scanned++;
+            }
+        }
+        long afterScan = System.nanoTime();
+        if (map.size() != names.length || scanned == 0)
+            throw new IllegalStateException("wrong size " + map.size());
+        return new long[] {afterPut - start, afterGet - afterPut, afterScan - afterGet};
+    }
+
+    private static double bytesPerEntry(MapFactory factory, String[] names) {
+        long before = usedHeap();
+        SortedMap<String, Object> map = factory.create();
+        for (String name : names)
+            map.put(name, name);
+        long after = usedHeap();
+        if (map.size() != names.length)
+            throw new IllegalStateException("wrong size " + map.size());
+        return (double) (after - before) / names.length;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -122,6 +122,51 @@ public interface Area {
      */
     Iterator<Service> getServicesByTypeAndStars(ServiceType type, int stars);
 
+    /**
+     * Gets the services of a specific type with a specific star rating that are
+     * closest to a location (Manhattan distance), all of them if there is a tie.
+     *
+     * @param type The service type to filter by.
+     * @param stars The star rating to filter by.
+     * @param latitude The latitude of the location.
+     * @param longitude The longitude of the location.
+     * @return An {@link Iterator} of the closest {@link Service}s (empty if there are none).
+     */
+    Iterator<Service> getNearestServicesByTypeAndStars(ServiceType type, int stars, long latitude, long longitude);
+
+    /**
+     * Checks if there is at least one service of a specific type in the area.
+     *
+     * @param type The service type.
+     * @return {@code true} if a service of that type exists, {@code false} otherwise.
+     */
+    boolean hasServicesOfType(ServiceType type);
+
+    /**
+     * Gets the k services of a specific type closest to a location (Manhattan
+     * distance), closest first.
+     *
+     * @param type The service type to filter by.
+     * @param latitude The latitude of the location.
+     * @param longitude The longitude of the location.
+     * @param k The largest number of services returned (positive).
+     * @return An {@link Iterator} of at most k {@link Service}s, closest first.
+     */
+    Iterator<Service> getNearestServices(ServiceType type, long latitude, long longitude, int k);
+
+    /**
+     * Gets the services of a specific type whose location is inside a
+     * rectangle (bounds included), in order of registration.
+     *
+     * @param type The service type to filter by.
+     * @param topLat The top latitude of the rectangle.
+     * @param leftLong The left longitude of the rectangle.
+     * @param bottomLat The bottom latitude of the rectangle.
+     * @param rightLong The right longitude of the rectangle.
+     * @return An {@link Iterator} of the {@link Service}s inside the rectangle, in order of registration.
+     */
+    Iterator<Service> getServicesInRectangle(ServiceType type, long topLat, long leftLong, long bottomLat, long rightLong);
+
     /**
      * Gets the total number of services registered in the area.
      *
@@ -181,4 +226,4 @@ public interface Area {
 
 
     Iterator<Service> getServicesByTypeOrderedByStars(ServiceType type);
-}
\ No newline at end of file
+}
\ No newline at end of file
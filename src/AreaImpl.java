@@ -246,6 +246,65 @@ public class AreaImpl implements Area, Serializable {
         return services.getServicesByTypeAndStars(type, stars);
     }
 
+    /**
+     * Gets the services of a specific type with a specific star rating that are
+     * closest to a location. Delegates to the services collection's spatial index.
+     *
+     * @param type The service type to filter by.
+     * @param stars The star rating to filter by.
+     * @param latitude The latitude of the location.
+     * @param longitude The longitude of the location.
+     * @return An {@link Iterator} of the closest {@link Service}s.
+     */
+    @Override
+    public Iterator<Service> getNearestServicesByTypeAndStars(ServiceType type, int stars, long latitude, long longitude) {
+        return services.getNearestServicesByTypeAndStars(type, stars, latitude, longitude);
+    }
+
+    /**
+     * Checks if there is at least one service of a specific type in the area.
+     * Delegates to the services collection.
+     *
+     * @param type The service type.
+     * @return {@code true} if a service of that type exists, {@code false} otherwise.
+     */
+    @Override
+    public boolean hasServicesOfType(ServiceType type) {
+        return services.hasServicesOfType(type);
+    }
+
+    /**
+     * Gets the k services of a specific type closest to a location.
+     * Delegates to the services collection's location trees.
+     *
+     * @param type The service type to filter by.
+     * @param latitude The latitude of the location.
+     * @param longitude The longitude of the location.
+     * @param k The largest number of services returned (positive).
+     * @return An {@link Iterator} of at most k {@link Service}s, closest first.
+     */
+    @Override
+    public Iterator<Service> getNearestServices(ServiceType type, long latitude, long longitude, int k) {
+        return services.getNearestServices(type, latitude, longitude, k);
+    }
+
+    /**
+     * Gets the services of a specific type whose location is inside a rectangle,
+     * in order of registration. Delegates to the services collection's location trees.
+     *
+     * @param type The service type to filter by.
+     * @param topLat The top latitude of the rectangle.
+     * @param leftLong The left longitude of the rectangle.
+     * @param bottomLat The bottom latitude of the rectangle.
+     * @param rightLong The right longitude of the rectangle.
+     * @return An {@link Iterator} of the {@link Service}s inside the rectangle, in order of registration.
+     */
+    @Override
+    public Iterator<Service> getServicesInRectangle(ServiceType type, long topLat, long leftLong,
+                                                    long bottomLat, long rightLong) {
+        return services.getServicesInRectangle(type, topLat, leftLong, bottomLat, rightLong);
+    }
+
     // --- Student Management ---
 
     /**
@@ -342,4 +401,4 @@ public class AreaImpl implements Area, Serializable {
         this.students = (StudentsCollectionImpl) in.readObject();
         this.services = (ServicesCollectionImpl) in.readObject();
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+import Services.Service;
+import dataStructures.Iterator;
+import dataStructures.exceptions.NoSuchElementException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * The posting list of a tag: the ids of the services that carry it
+ * (their order of registration, as given by {@link ServiceColumns}),
+ * without repetitions, in increasing order, in a growable int array.
+ * <p>
+ * A service is usually tagged after the services registered before it, so
+ * an id is most often appended at the end in O(1); otherwise it is put in
+ * place, found by binary search. Iterating the list visits only the services
+ * with the tag, in their order of registration.
+ * <p>
+ * This class is serializable: only the ids in use are written.
+ */
+class PostingList implements Serializable {
+
+    /**
+     * Standard serial version UID for serialization.
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Initial capacity of the array of ids.
+     */
+    private static final int INITIAL_CAPACITY = 4;
+
+    /**
+     * The ids, in positions 0 to size-1, in increasing order.
+     */
+    private transient int[] ids;
+    private transient int size;
+
+    /**
+     * Constructs an empty posting list.
+     */
+    PostingList() {
+        ids = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Adds an id to the list, unless it is there already.
+     *
+     * @param id The id of the service.
+     * @return {@code true} if the id was added, {@code false} if it was there.
+     */
+    boolean add(int id) {
+        int position = size;
+        if (size > 0 && ids[size - 1] >= id) {
+            position = search(id);
+            if (position >= 0) {
+                return false;
+            }
+            position = -(position + 1);
+        }
+        if (size == ids.length) {
+            int[] larger = new int[2 * size];
+            System.arraycopy(ids, 0, larger, 0, size);
+            ids = larger;
+        }
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        ids[position] = id;
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns the position of the id if it is in the list; otherwise,
+     * returns -(insertion point + 1).
+     */
+    private int search(int id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (ids[middle] < id) {
+                low = middle + 1;
+            } else if (ids[middle] > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns true iff the list has no ids.
+     *
+     * @return {@code true} if the list is empty.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of ids in the list.
+     *
+     * @return The number of services with the tag.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the services of the ids in the list, in their order of registration.
+     *
+     * @param columns The columns the ids refer to.
+     * @return An {@link Iterator} of the services with the tag.
+     */
+    Iterator<Service> services(ServiceColumns columns) {
+        return new Iterator<>() {
+            private int next = 0;
+
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            public Service next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return columns.get(ids[next++]);
+            }
+
+            public void rewind() {
+                next = 0;
+            }
+        };
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeInt(ids[i]);
+        }
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        size = in.readInt();
+        ids = new int[Math.max(size, INITIAL_CAPACITY)];
+        for (int i = 0; i < size; i++) {
+            ids[i] = in.readInt();
+        }
+    }
+}
@@ -1,7 +1,7 @@
 import Services.Service;
 import Services.ServiceType;
-import dataStructures.DoublyLinkedList;
 import dataStructures.Iterator;
+import dataStructures.TwoWayList;
 
 /**
  * Interface for a collection that manages all {@link Service} objects.
@@ -84,22 +84,71 @@ public interface ServiceCollection {
      * Gets the raw list of services in their insertion order.
      * <p>
      * Note: This method may be for internal use by implementations (e.g., for serialization)
-     * and returns the concrete list type.
+     * and returns the list itself.
      *
-     * @return The {@link DoublyLinkedList} containing all services in insertion order.
+     * @return The {@link TwoWayList} containing all services in insertion order.
      */
-    DoublyLinkedList<Service> getServicesByInsertion();
+    TwoWayList<Service> getServicesByInsertion();
 
     Iterator<Service> getServicesByTypeAndStars(ServiceType type, int stars);
 
+    /**
+     * Gets the services of a type with a star rating that are closest to a
+     * location (Manhattan distance), all of them if there is a tie, in the
+     * order they got that rating.
+     *
+     * @param type The service type.
+     * @param stars The average star rating.
+     * @param latitude The latitude of the location.
+     * @param longitude The longitude of the location.
+     * @return An {@link Iterator} of the closest services (empty if there are none).
+     */
+    Iterator<Service> getNearestServicesByTypeAndStars(ServiceType type, int stars, long latitude, long longitude);
+
+    /**
+     * Checks if there is at least one service of the given type.
+     *
+     * @param type The service type.
+     * @return {@code true} if a service of that type exists, {@code false} otherwise.
+     */
+    boolean hasServicesOfType(ServiceType type);
+
+    /**
+     * Gets the k services of a type closest to a location (Manhattan distance),
+     * closest first; services at the same distance in their order of registration.
+     *
+     * @param type The service type.
+     * @param latitude The latitude of the location.
+     * @param longitude The longitude of the location.
+     * @param k The largest number of services returned (positive).
+     * @return An {@link Iterator} of at most k services, closest first.
+     */
+    Iterator<Service> getNearestServices(ServiceType type, long latitude, long longitude, int k);
+
+    /**
+     * Gets the services of a type whose location is inside a rectangle
+     * (bounds included), in order of registration.
+     *
+     * @param type The service type.
+     * @param topLat The top latitude of the rectangle.
+     * @param leftLong The left longitude of the rectangle.
+     * @param bottomLat The bottom latitude of the rectangle.
+     * @param rightLong The right longitude of the rectangle.
+     * @return An {@link Iterator} of the services inside the rectangle, in order of registration.
+     */
+    Iterator<Service> getServicesInRectangle(ServiceType type, long topLat, long leftLong, long bottomLat, long rightLong);
+
     /**
      * Adds a tag to the tag map for a specific service.
      * This should be called when a new evaluation with tags is added to a service.
      *
+     * The tag may be a temporary view (e.g. of a word inside a comment):
+     * it is copied only if it was not indexed yet.
+     *
      * @param tag     The tag (word) to index.
      * @param service The service to associate with this tag.
      */
-    void addTagToService(String tag, Service service);
+    void addTagToService(CharSequence tag, Service service);
 
     /**
      * Gets an iterator over all services that have the specified tag.
@@ -115,4 +164,4 @@ public interface ServiceCollection {
 
 
     Iterator<Service> getServicesByTypeOrderedByStars(ServiceType type);
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,249 @@
+import Services.Service;
+import Services.ServiceType;
+import dataStructures.Iterator;
+import dataStructures.ListInArray;
+import dataStructures.Map;
+import dataStructures.SepChainHashTable;
+
+/**
+ * A column store of the fields of the {@link Service} objects that scans read:
+ * latitude, longitude and type, each in a primitive array indexed by a
+ * dense service id (the order of registration: services never leave).
+ * <p>
+ * A scan over the columns is a counted loop over contiguous primitives, with
+ * no interface calls and no pointer chasing through scattered service objects,
+ * which the JIT can unroll and vectorize; it beats a walk of the objects, and
+ * up to a couple of thousand services it also beats the location trees,
+ * whose nodes are scattered too.
+ * <p>
+ * Only the coordinates and the type are mirrored. Prices and star sums are
+ * not: the most relevant service for a student is chosen by
+ * {@code Student.findMostRelevant} over the service objects, ties included,
+ * and the star sums change with every evaluation, so columns of them would
+ * be a second copy to keep in step with no scan that reads it.
+ * <p>
+ * The id of a service is found from the service through a hash map, so other
+ * indexes (e.g. the {@link PostingList}s of the tags) can keep ids instead of
+ * references.
+ * <p>
+ * The columns are a copy: they are filled by {@link #add(Service)} and never
+ * serialized (the owner rebuilds them from its services when it is read).
+ * A scan keeps its working arrays to itself, so scans may run concurrently
+ * with each other (not with {@link #add(Service)}).
+ */
+class ServiceColumns {
+
+    /**
+     * Initial capacity of the columns.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The services, by id.
+     */
+    private Service[] services;
+
+    /**
+     * The columns: latitudes[id], longitudes[id] and types[id] (ordinal).
+     */
+    private long[] latitudes;
+    private long[] longitudes;
+    private byte[] types;
+
+    /**
+     * The id of each service.
+     */
+    private final Map<Service, Integer> ids;
+
+    /**
+     * Number of services, and number of services of each type (by ordinal).
+     */
+    private int size;
+    private final int[] typeCounts;
+
+    /**
+     * Constructs empty columns.
+     */
+    ServiceColumns() {
+        services = new Service[INITIAL_CAPACITY];
+        latitudes = new long[INITIAL_CAPACITY];
+        longitudes = new long[INITIAL_CAPACITY];
+        types = new byte[INITIAL_CAPACITY];
+        size = 0;
+        typeCounts = new int[ServiceType.values().length];
+        ids = new SepChainHashTable<>();
+    }
+
+    /**
+     * Appends a service to the columns.
+     *
+     * @param service The service to add.
+     * @return The id of the service.
+     */
+    int add(Service service) {
+        if (size == services.length) {
+            grow();
+        }
+        services[size] = service;
+        latitudes[size] = service.getLatitude();
+        longitudes[size] = service.getLongitude();
+        types[size] = (byte) service.getType().ordinal();
+        typeCounts[service.getType().ordinal()]++;
+        ids.put(service, size);
+        return size++;
+    }
+
+    private void grow() {
+        int capacity = 2 * services.length;
+        Service[] newServices = new Service[capacity];
+        System.arraycopy(services, 0, newServices, 0, size);
+        services = newServices;
+        long[] newLatitudes = new long[capacity];
+        System.arraycopy(latitudes, 0, newLatitudes, 0, size);
+        latitudes = newLatitudes;
+        long[] newLongitudes = new long[capacity];
+        System.arraycopy(longitudes, 0, newLongitudes, 0, size);
+        longitudes = newLongitudes;
+        byte[] newTypes = new byte[capacity];
+        System.arraycopy(types, 0, newTypes, 0, size);
+        types = newTypes;
+    }
+
+    /**
+     * Returns the service with the given id.
+     *
+     * @param id The id of the service.
+     * @return The service.
+     */
+    Service get(int id) {
+        return services[id];
+    }
+
+    /**
+     * Returns the id of a service in the columns.
+     *
+     * @param service The service.
+     * @return The id of the service.
+     */
+    int idOf(Service service) {
+        return ids.get(service);
+    }
+
+    /**
+     * Returns the number of services.
+     *
+     * @return The number of services in the columns.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the k services of a type closest to a location (Manhattan distance),
+     * closest first, services at the same distance by id (order of registration).
+     * <p>
+     * One loop over the type and coordinate columns computes the distance to
+     * each service of the type and keeps the k smallest, sorted, in arrays of
+     * the call (no state is shared between scans).
+     *
+     * @param type      The service type.
+     * @param latitude  The latitude of the location.
+     * @param longitude The longitude of the location.
+     * @param k         The largest number of services returned (positive).
+     * @return An {@link Iterator} of at most k services, closest first.
+     */
+    Iterator<Service> nearest(ServiceType type, long latitude, long longitude, int k) {
+        long[] lats = latitudes;
+        long[] lons = longitudes;
+        byte[] t = types;
+        byte wanted = (byte) type.ordinal();
+        int n = size;
+        int capacity = Math.min(k, typeCounts[type.ordinal()]);
+        long[] bestDistances = new long[capacity];
+        int[] bestIds = new int[capacity];
+        int found = 0;
+        for (int i = 0; i < n; i++) {
+            if (t[i] != wanted) {
+                continue;
+            }
+            long distance = Math.abs(lats[i] - latitude) + Math.abs(lons[i] - longitude);
+            if (found == capacity && distance >= bestDistances[capacity - 1]) {
+                continue;
+            }
+            // Insert after the kept ones not farther (they have smaller ids)
+            int j = found < capacity ? found++ : capacity - 1;
+            while (j > 0 && bestDistances[j - 1] > distance) {
+                bestDistances[j] = bestDistances[j - 1];
+                bestIds[j] = bestIds[j - 1];
+                j--;
+            }
+            bestDistances[j] = distance;
+            bestIds[j] = i;
+        }
+
+        ListInArray<Service> nearest = new ListInArray<>(Math.max(found, 1));
+        for (int i = 0; i < found; i++) {
+            nearest.addLast(services[bestIds[i]]);
+        }
+        return nearest.iterator();
+    }
+
+    /**
+     * Returns the services of an iteration (of services in the columns) by id,
+     * that is, in their order of registration. Only the ids of the k services
+     * found are sorted (heapsort, in place): O(k log k), whatever the number
+     * of services in the columns.
+     *
+     * @param found An {@link Iterator} of services in the columns, in any order.
+     * @return An {@link Iterator} of the same services, in order of registration.
+     */
+    Iterator<Service> inOrder(Iterator<Service> found) {
+        int[] foundIds = new int[INITIAL_CAPACITY];
+        int k = 0;
+        while (found.hasNext()) {
+            if (k == foundIds.length) {
+                int[] larger = new int[2 * k];
+                System.arraycopy(foundIds, 0, larger, 0, k);
+                foundIds = larger;
+            }
+            foundIds[k++] = idOf(found.next());
+        }
+        sort(foundIds, k);
+
+        ListInArray<Service> inOrder = new ListInArray<>(Math.max(k, 1));
+        for (int i = 0; i < k; i++) {
+            inOrder.addLast(services[foundIds[i]]);
+        }
+        return inOrder.iterator();
+    }
+
+    // Sorts a[0, n) in increasing order (heapsort).
+    private static void sort(int[] a, int n) {
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(a, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            int largest = a[0];
+            a[0] = a[end];
+            a[end] = largest;
+            siftDown(a, 0, end);
+        }
+    }
+
+    // Moves a[i] down the max-heap a[0, n) to its place.
+    private static void siftDown(int[] a, int i, int n) {
+        int value = a[i];
+        int child;
+        while ((child = 2 * i + 1) < n) {
+            if (child + 1 < n && a[child + 1] > a[child]) {
+                child++;
+            }
+            if (a[child] <= value) {
+                break;
+            }
+            a[i] = a[child];
+            i = child;
+        }
+        a[i] = value;
+    }
+}
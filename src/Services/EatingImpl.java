@@ -20,6 +20,11 @@ public class EatingImpl extends ServiceAbs implements Eating, Serializable {
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Initial capacity of the occupant handles map (it grows with the occupants).
+     */
+    private static final int OCCUPANT_HANDLES_CAPACITY = 8;
+
     /**
      * The total number of seats (capacity) in this eating service.
      */
@@ -28,7 +33,13 @@ public class EatingImpl extends ServiceAbs implements Eating, Serializable {
     /**
      * A list of {@link Student}s currently present (occupying) this service.
      */
-    TwoWayList<Student> occupants;
+    DoublyLinkedList<Student> occupants;
+
+    /**
+     * The handle of each occupant in the {@link #occupants} list, so that an occupant
+     * is removed in O(1). Not serialized: rebuilt from the list when the service is read.
+     */
+    transient Map<Student, ListHandle<Student>> occupantHandles;
 
     // --- Constructor ---
 
@@ -45,6 +56,7 @@ public class EatingImpl extends ServiceAbs implements Eating, Serializable {
         super(name, lat, lon, price, Services.ServiceType.EATING, seats);
         this.seats = seats;
         this.occupants = new DoublyLinkedList<>();
+        this.occupantHandles = new SepChainHashTable<>(OCCUPANT_HANDLES_CAPACITY);
     }
 
     // --- Getters ---
@@ -80,7 +92,7 @@ public class EatingImpl extends ServiceAbs implements Eating, Serializable {
     @Override
     public void addOccupant(Student student) {
         if (hasCapacity()) {
-            occupants.addLast(student);
+            occupantHandles.put(student, occupants.addLastHandle(student));
         }
     }
 
@@ -91,8 +103,7 @@ public class EatingImpl extends ServiceAbs implements Eating, Serializable {
      */
     @Override
     public void removeOccupant(Student student) {
-        // Note: This operation is O(N) due to the list search (indexOf).
-        occupants.remove(occupants.indexOf(student));
+        occupants.remove(occupantHandles.remove(student));
     }
 
     /**
@@ -115,11 +126,17 @@ public class EatingImpl extends ServiceAbs implements Eating, Serializable {
     }
 
     /**
-     * Restores the eating service state.
+     * Restores the eating service state and rebuilds the occupant handles from the occupants list.
      */
     @Serial
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
+        occupantHandles = new SepChainHashTable<>(OCCUPANT_HANDLES_CAPACITY);
+        Iterator<ListHandle<Student>> handles = occupants.handleIterator();
+        while (handles.hasNext()) {
+            ListHandle<Student> handle = handles.next();
+            occupantHandles.put(handle.getElement(), handle);
+        }
     }
 
 
@@ -2,9 +2,15 @@ package Services;
 
 import Students.Student;
 import dataStructures.DoublyLinkedList;
+import dataStructures.Iterator;
+import dataStructures.ListHandle;
+import dataStructures.Map;
+import dataStructures.SepChainHashTable;
 import dataStructures.TwoWayIterator;
-import dataStructures.TwoWayList;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
 import java.io.Serializable;
 
 /**
@@ -21,6 +27,11 @@ public class LodgingImpl extends ServiceAbs implements Lodging, Serializable {
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Initial capacity of the occupant handles map (it grows with the occupants).
+     */
+    private static final int OCCUPANT_HANDLES_CAPACITY = 8;
+
     /**
      * The total number of rooms (capacity) in this lodging.
      */
@@ -34,7 +45,13 @@ public class LodgingImpl extends ServiceAbs implements Lodging, Serializable {
     /**
      * A list of {@link Student}s currently residing (occupying) this lodging.
      */
-    TwoWayList<Student> occupants;
+    DoublyLinkedList<Student> occupants;
+
+    /**
+     * The handle of each occupant in the {@link #occupants} list, so that an occupant
+     * is removed in O(1). Not serialized: rebuilt from the list when the lodging is read.
+     */
+    transient Map<Student, ListHandle<Student>> occupantHandles;
 
     // --- Constructor ---
 
@@ -51,6 +68,7 @@ public class LodgingImpl extends ServiceAbs implements Lodging, Serializable {
         super(name, lat, lon, price, Services.ServiceType.LODGING, rooms);
         this.rooms = rooms;
         this.occupants = new DoublyLinkedList<>();
+        this.occupantHandles = new SepChainHashTable<>(OCCUPANT_HANDLES_CAPACITY);
         this.occupiedRooms = 0;
     }
 
@@ -75,7 +93,7 @@ public class LodgingImpl extends ServiceAbs implements Lodging, Serializable {
      */
     @Override
     public void addOccupant(Student student) {
-        occupants.addLast(student);
+        occupantHandles.put(student, occupants.addLastHandle(student));
         occupiedRooms++;
     }
 
@@ -86,8 +104,7 @@ public class LodgingImpl extends ServiceAbs implements Lodging, Serializable {
      */
     @Override
     public void removeOccupant(Student student) {
-        // Note: indexOf(student) is O(N). This operation is O(N).
-        occupants.remove(occupants.indexOf(student));
+        occupants.remove(occupantHandles.remove(student));
         occupiedRooms--;
     }
 
@@ -100,4 +117,18 @@ public class LodgingImpl extends ServiceAbs implements Lodging, Serializable {
     public TwoWayIterator<Student> getOccupantsIterator() {
         return occupants.twoWayiterator();
     }
+
+    /**
+     * Restores the lodging state and rebuilds the occupant handles from the occupants list.
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        occupantHandles = new SepChainHashTable<>(OCCUPANT_HANDLES_CAPACITY);
+        Iterator<ListHandle<Student>> handles = occupants.handleIterator();
+        while (handles.hasNext()) {
+            ListHandle<Student> handle = handles.next();
+            occupantHandles.put(handle.getElement(), handle);
+        }
+    }
 }
\ No newline at end of file
@@ -10,18 +10,29 @@ import java.io.*;
  * <p>
  * This class manages all {@link Service} objects for an {@link Area}.
  * It maintains two internal data structures:
- * 1. A {@link TwoWayList} (`servicesByInsertion`) to store services in their original **insertion order**.
- * 2. A {@link Map} (`rankingByStars`) to store services grouped by their **average star rating** (0-5).
- *    Each bucket contains a list of services with that rating, allowing O(1) lookups and updates.
+ * 1. A {@link TwoWayList} (`servicesByInsertion`) to store services in their original **insertion order**,
+ *    backed by a circular array (services are only appended and iterated).
+ * 2. A {@link StarRankingIndex} (`ranking`) to store services grouped by their **average star rating** (0-5),
+ *    overall and per {@link ServiceType}, in array buckets reached without hashing.
+ * 3. A {@link KDTree} of service locations per {@link ServiceType} (`locationsByType`), for nearest-service
+ *    and rectangle queries.
+ * 4. A {@link ServiceColumns} store (`columns`) of coordinates and types in primitive arrays,
+ *    for scans that read every service; its dense ids are the ids in the tag posting lists.
  * <p>
- * This class is serializable and uses custom `writeObject` and `readObject`
- * methods to ensure the `rankingByStars` map is correctly rebuilt upon deserialization.
+ * This class is serializable and uses custom `writeObject` and `readObject` methods.
  */
 public class ServicesCollectionImpl implements ServiceCollection, Serializable {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
+    // Initial capacity of the tag map.
+    private static final int TAG_MAP_CAPACITY = 50;
+
+    // Largest number of services for which a scan of the columns finds the nearest
+    // services faster than the location trees (measured by ServiceColumnsBenchmark).
+    private static final int COLUMN_SCAN_LIMIT = 2048;
+
     // --- Fields ---
 
     /**
@@ -30,21 +41,42 @@ public class ServicesCollectionImpl implements ServiceCollection, Serializable {
     /**
      * List of services, maintained in their original insertion order.
      */
-    private  List<Service> servicesByInsertion;
+    private  TwoWayList<Service> servicesByInsertion;
+
+    /**
+     * Map of services by name, case-insensitive: lookups use the given name as is.
+     * Lookups take no lock, so many readers can share it with a writer.
+     */
+    private  Map<CharSequence, Service> servicesByName;
 
-    private  Map<String, Service> servicesByName;
 
+    /**
+     * Services grouped by average star rating (0-5), overall and by type.
+     * Buckets are array slots indexed by star value and type ordinal.
+     */
+    private  StarRankingIndex ranking;
 
     /**
-     * Map of services grouped by average star rating.
-     * Key: avgStars (0-5), Value: List of services with that rating.
-     * This allows O(1) updates instead of O(n) with SortedList.
+     * Inverted index of the tags (review words): the posting list of each tag
+     * holds the ids of the services with the tag, in order of registration.
+     * It grows with every new word, so its resizes are spread over the writes
+     * that follow them: no single tagging operation pays for a whole resize.
+     * Tags are case-insensitive keys.
      */
-    private  Map<Integer, List<Service>> rankingByStars;
+    private  Map<CharSequence, PostingList> tagMap;
 
-    private  Map<ServiceType, Map<Integer, List<Service>>> servicesByTypeAndStars;
+    /**
+     * Locations of the services of each type: locationsByType[type.ordinal()].
+     * Services never move or leave, so a tree only grows.
+     * Not serialized: rebuilt from the insertion-order list when the collection is read.
+     */
+    private transient KDTree<Service>[] locationsByType;
 
-    private  Map<String, Map<String, Service>> tagMap;
+    /**
+     * Coordinates and types of the services in primitive columns, by order of registration.
+     * Not serialized: rebuilt from the insertion-order list when the collection is read.
+     */
+    private transient ServiceColumns columns;
 
 
 
@@ -57,36 +89,57 @@ public class ServicesCollectionImpl implements ServiceCollection, Serializable {
      * Initializes the insertion-order list and the star-ranking map with buckets for each rating (0-5).
      */
     public ServicesCollectionImpl() {
-        this.servicesByInsertion = new DoublyLinkedList<>();
-        this.servicesByName = new ClosedHashTable<>(); // em principio closed
-        this.rankingByStars = new ClosedHashTable<>(); // Map com buckets por estrelas
-        this.servicesByTypeAndStars = new SepChainHashTable<>();
-        this.tagMap = new SepChainHashTable<>();
+        this.servicesByInsertion = new CircularArrayList<>();
+        this.servicesByName = new ConcurrentSepChainHashTable<>(CaseInsensitiveEquivalence.INSTANCE);
+        this.ranking = new StarRankingIndex(); // buckets por estrelas e por tipo
+        this.tagMap = new ConcurrentSepChainHashTable<>(TAG_MAP_CAPACITY, CaseInsensitiveEquivalence.INSTANCE);
+        initLocations();
+    }
+
+    /**
+     * Creates an empty location tree for every service type.
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private void initLocations() {
+        locationsByType = new KDTree[ServiceType.values().length];
+        for (int t = 0; t < locationsByType.length; t++) {
+            locationsByType[t] = new KDTree<>();
+        }
+        columns = new ServiceColumns();
+    }
+
+    /**
+     * Adds the location of a service to the tree of its type, and its fields to the columns.
+     */
+    private void addLocation(Service service) {
+        locationsByType[service.getType().ordinal()].insert(service.getLatitude(), service.getLongitude(), service);
+        columns.add(service);
     }
 
     // --- State Modifiers ---
 
     /**
      * Adds a new service to the collection.
-     * The service is added to the end of the insertion-order list
-     * and also added to the appropriate star-rating bucket in the ranking map.
+     * The service is added to the end of the insertion-order list,
+     * to the appropriate star-rating buckets of the ranking index
+     * and to the location tree of its type.
      *
      * @param service The {@link Service} to add.
      */
     @Override
     public void add(Service service) {
         servicesByInsertion.addLast(service);
-        servicesByName.put(service.getName().toLowerCase(),service);
-        addServiceToRankingByStars(service);
-        addServiceToTypeStarsMap(service);
+        servicesByName.put(service.getName(),service);
+        ranking.add(service);
+        addLocation(service);
     }
 
     /**
-     * Updates a service's position in the star-ranked map.
+     * Updates a service's position in the star-ranked index.
      * <p>
-     * Removes the service from its old star rating bucket and adds it to the new one.
-     * This is O(1) for hash lookup + O(k) where k is services in that bucket,
-     * much more efficient than the previous O(n) SortedList approach.
+     * Removes the service from its old star rating buckets (overall and by type)
+     * and adds it to the new ones. Finding the buckets is a direct array access;
+     * removing costs O(k), where k is the number of services in the old bucket.
      *
      * @param service The service whose star rating has been updated.
      * @param oldStars The previous star rating before the update.
@@ -98,67 +151,7 @@ public class ServicesCollectionImpl implements ServiceCollection, Serializable {
         if (newStars == oldStars) {
             return;
         }
-        // Remove from old stars bucket
-        List<Service> oldList = rankingByStars.get(oldStars);
-        if (oldList != null) {
-            int index = oldList.indexOf(service);
-            if (index != -1) {
-                oldList.remove(index);
-            }
-        }
-
-        // Add to new stars bucket
-        addServiceToRankingByStars(service);
-
-        // Update the type-stars map
-        ServiceType type = service.getType();
-        Map<Integer, List<Service>> starsMap = servicesByTypeAndStars.get(type);
-
-        if(starsMap != null){
-            List<Service> oldTypeList = starsMap.get(oldStars);
-            if(oldTypeList != null) {
-                int index = oldTypeList.indexOf(service);
-                if (index != -1) {
-                    oldTypeList.remove(index);
-                }
-            }
-        }
-        addServiceToTypeStarsMap(service);
-
-    }
-
-    /**
-     * Helper method to add a service to the rankingByStars map.
-     * Gets or creates the list for the service's star rating bucket.
-     *
-     * @param service The service to add.
-     */
-    private void addServiceToRankingByStars(Service service) {
-        int stars = service.getAvgStar();
-        List<Service> list = rankingByStars.get(stars);
-        if (list == null) {
-            list = new DoublyLinkedList<>();
-            rankingByStars.put(stars, list);
-        }
-        list.addLast(service);
-    }
-
-    private void addServiceToTypeStarsMap(Service service) {
-        ServiceType type = service.getType();
-        int stars = service.getAvgStar();
-
-        Map<Integer, List<Service>> starsMap = servicesByTypeAndStars.get(type);
-        if (starsMap == null) {
-            starsMap = new SepChainHashTable<>();
-            servicesByTypeAndStars.put(type, starsMap);
-        }
-
-        List<Service> list = starsMap.get(stars);
-        if (list == null) {
-            list = new DoublyLinkedList<>();
-            starsMap.put(stars, list);
-        }
-        list.addLast(service);
+        ranking.move(service, oldStars);
     }
 
 
@@ -166,16 +159,16 @@ public class ServicesCollectionImpl implements ServiceCollection, Serializable {
     // --- Querying & Searching ---
 
     /**
-     * Finds a service by its name using a case-insensitive linear search.
+     * Finds a service by its name, ignoring case.
      * <p>
-     * This search is performed on the insertion-order list.
+     * This search is performed on the case-insensitive name map, without copying the name.
      *
      * @param name The name of the service to find.
      * @return The {@link Service} object, or {@code null} if not found.
      */
     @Override
     public Service findByName(String name) {
-        return servicesByName.get(name.toLowerCase()); // confirmar os lowerCase, aqui e em cima
+        return servicesByName.get(name);
     }
 
     /**
@@ -216,69 +209,124 @@ public class ServicesCollectionImpl implements ServiceCollection, Serializable {
      * Gets an iterator over all services, sorted by their average star rating
      * in descending order (highest stars first).
      * <p>
-     * This creates a temporary list by iterating through star buckets from 5 to 0.
+     * The star buckets are streamed from 5 to 0, without copying them into a list.
      *
      * @return A sorted {@link Iterator} of services.
      */
     @Override
     public Iterator<Service> getServicesByStars() {
-        List<Service> sortedList = new DoublyLinkedList<>();
-        // Iterate from 5 stars down to 0
-        for (int stars = 5; stars >= 0; stars--) {
-            List<Service> servicesWithStars = rankingByStars.get(stars);
-            if (servicesWithStars != null) {
-                Iterator<Service> it = servicesWithStars.iterator();
-                while (it.hasNext()) {
-                    sortedList.addLast(it.next());
-                }
-            }
-        }
-        return sortedList.iterator();
+        return ranking.byStarsDescending();
     }
 
     /**
      * Gets the raw list of services in their insertion order.
      *
-     * @return The {@link DoublyLinkedList} containing all services in insertion order.
+     * @return The {@link TwoWayList} containing all services in insertion order.
      */
     @Override
-    public DoublyLinkedList<Service> getServicesByInsertion() {
-        return (DoublyLinkedList<Service>) servicesByInsertion;
+    public TwoWayList<Service> getServicesByInsertion() {
+        return servicesByInsertion;
     }
     @Override
     public Iterator<Service> getServicesByTypeAndStars(ServiceType type, int stars) {
-        Map<Integer, List<Service>> starsMap = servicesByTypeAndStars.get(type);
-        if (starsMap != null) {
-            List<Service> list = starsMap.get(stars);
-            if (list != null) {
-                return list.iterator();
-            }
+        return ranking.withTypeAndStars(type, stars).iterator();
+    }
+
+    /**
+     * Gets the services of a type with a star rating that are closest to a location.
+     * <p>
+     * Searches the location tree of the (type, stars) bucket of the ranking index,
+     * visiting only the services near the location.
+     *
+     * @param type The service type.
+     * @param stars The average star rating.
+     * @param latitude The latitude of the location.
+     * @param longitude The longitude of the location.
+     * @return An {@link Iterator} of the closest services, in the order of their bucket.
+     */
+    @Override
+    public Iterator<Service> getNearestServicesByTypeAndStars(ServiceType type, int stars, long latitude, long longitude) {
+        return ranking.nearestWithTypeAndStars(type, stars, latitude, longitude);
+    }
+
+    /**
+     * Checks if there is at least one service of the given type,
+     * looking only at the star buckets of the type.
+     *
+     * @param type The service type.
+     * @return {@code true} if a service of that type exists, {@code false} otherwise.
+     */
+    @Override
+    public boolean hasServicesOfType(ServiceType type) {
+        return ranking.hasType(type);
+    }
+
+    /**
+     * Gets the k services of a type closest to a location.
+     * <p>
+     * Up to {@link #COLUMN_SCAN_LIMIT} services, a scan of the coordinate columns;
+     * beyond, a best-first search of the location tree of the type: only the
+     * services near the location are visited, and they are never sorted as a whole.
+     * Both give the same services, in the same order.
+     *
+     * @param type The service type.
+     * @param latitude The latitude of the location.
+     * @param longitude The longitude of the location.
+     * @param k The largest number of services returned (positive).
+     * @return An {@link Iterator} of at most k services, closest first.
+     */
+    @Override
+    public Iterator<Service> getNearestServices(ServiceType type, long latitude, long longitude, int k) {
+        if (columns.size() <= COLUMN_SCAN_LIMIT) {
+            return columns.nearest(type, latitude, longitude, k);
         }
-        return new DoublyLinkedList<Service>().iterator(); // Iterador vazio
+        return locationsByType[type.ordinal()].nearest(latitude, longitude, k);
+    }
+
+    /**
+     * Gets the services of a type whose location is inside a rectangle,
+     * in order of registration (as the other listings of services).
+     * <p>
+     * A range search of the location tree of the type visits only the subtrees
+     * the rectangle reaches; only the k services found are then sorted by
+     * their ids in the columns (order of registration), O(k log k).
+     *
+     * @param type The service type.
+     * @param topLat The top latitude of the rectangle.
+     * @param leftLong The left longitude of the rectangle.
+     * @param bottomLat The bottom latitude of the rectangle.
+     * @param rightLong The right longitude of the rectangle.
+     * @return An {@link Iterator} of the services inside the rectangle, in order of registration.
+     */
+    @Override
+    public Iterator<Service> getServicesInRectangle(ServiceType type, long topLat, long leftLong,
+                                                    long bottomLat, long rightLong) {
+        return columns.inOrder(locationsByType[type.ordinal()].range(bottomLat, leftLong, topLat, rightLong));
     }
 
     /**
      * Adds a tag to the tag map, associating it with a specific service.
-     * If the tag already exists, the service is added to its map.
+     * If the tag already exists, the id of the service is added to its posting list.
      * If the service already exists for that tag, it won't be duplicated.
      *
      * @param tag     The tag (word) to index (case-insensitive).
      * @param service The service to associate with this tag.
      */
     @Override
-    public void addTagToService(String tag, Service service) {
-        String tagLower = trimString(tag);
+    public void addTagToService(CharSequence tag, Service service) {
+        CharSequence tagClean = trimString(tag);
 
-        Map<String, Service> servicesWithTag = tagMap.get(tagLower);
+        PostingList servicesWithTag = tagMap.get(tagClean);
         if (servicesWithTag == null) {
-            servicesWithTag = new SepChainHashTable<>(5);
-            tagMap.put(tagLower, servicesWithTag);
+            servicesWithTag = new PostingList();
+            tagMap.put(tagClean.toString(), servicesWithTag); // the tag may be a temporary view
         }
 
-        servicesWithTag.put(service.getName().toLowerCase(), service);
+        servicesWithTag.add(columns.idOf(service));
     }
 
-    private String trimString(String s) {
+    // Returns the sequence without leading and trailing whitespace (a view, not a copy).
+    private CharSequence trimString(CharSequence s) {
         if (s == null || s.length() == 0) {
             return s;
         }
@@ -302,58 +350,38 @@ public class ServicesCollectionImpl implements ServiceCollection, Serializable {
             return "";
         }
 
-        return extractWord(s, start, end);
-    }
-
-
-    private String extractWord(String comment, int start, int end) { // dps tratar de nao te codigo repetido
-        char[] chars = new char[end-start];
-        for (int i = 0; i < chars.length; i++) {
-            char c = comment.charAt(start+i);
-            chars[i] = Character.toLowerCase(c);
-        }
-        return new String(chars);
+        return new CharSlice(s, start, end);
     }
 
     /**
      * Gets an iterator over all services that have the specified tag.
-     * Uses the tag map for O(1) lookup but returns services in insertion order.
+     * Uses the tag map for O(1) lookup, then walks the posting list of the tag:
+     * O(number of services with the tag), in insertion order.
      *
      * @param tag The tag to search for (case-insensitive).
      * @return An {@link Iterator} of services that have this tag, in insertion order.
      */
     @Override
     public Iterator<Service> getServicesByTag(String tag) {
-        String tagClean = trimString(tag);
-        Map<String, Service> servicesWithTag = tagMap.get(tagClean);
+        CharSequence tagClean = trimString(tag);
+        PostingList servicesWithTag = tagMap.get(tagClean);
 
         if (servicesWithTag == null || servicesWithTag.isEmpty()) {
             return new DoublyLinkedList<Service>().iterator();
         }
-        return new FilterIterator<>(servicesByInsertion.iterator(), service -> servicesWithTag.get(service.getName().toLowerCase()) != null);
+        return servicesWithTag.services(columns);
     }
 
+    /**
+     * Gets an iterator over the services of a type, sorted by their average
+     * star rating in descending order, streaming the star buckets of the type.
+     *
+     * @param type The service type.
+     * @return A sorted {@link Iterator} of the services of that type.
+     */
     @Override
     public Iterator<Service> getServicesByTypeOrderedByStars(ServiceType type) {
-        Map<Integer, List<Service>> starsMap = servicesByTypeAndStars.get(type);
-
-        if (starsMap == null) {
-            return new DoublyLinkedList<Service>().iterator();
-        }
-
-        DoublyLinkedList<Service> sortedServices = new DoublyLinkedList<>();
-
-        for (int stars = 5; stars >= 0; stars--) {
-            List<Service> list = starsMap.get(stars);
-            if (list != null) {
-                Iterator<Service> it = list.iterator();
-                while (it.hasNext()) {
-                    sortedServices.addLast(it.next());
-                }
-            }
-        }
-
-        return sortedServices.iterator();
+        return ranking.byTypeAndStarsDescending(type);
     }
 
     @Serial
@@ -364,6 +392,11 @@ public class ServicesCollectionImpl implements ServiceCollection, Serializable {
     @Serial
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
+        initLocations();
+        Iterator<Service> it = servicesByInsertion.iterator();
+        while (it.hasNext()) {
+            addLocation(it.next());
+        }
     }
 
 
@@ -0,0 +1,291 @@
+import Services.Service;
+import Services.ServiceType;
+import dataStructures.ConcatIterator;
+import dataStructures.DoublyLinkedList;
+import dataStructures.Iterator;
+import dataStructures.KDTree;
+import dataStructures.KDTreeHandle;
+import dataStructures.List;
+import dataStructures.ListHandle;
+import dataStructures.Map;
+import dataStructures.SepChainHashTable;
+import dataStructures.exceptions.NoSuchElementException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * A dense index of {@link Service} objects by average star rating and by
+ * (service type, average star rating).
+ * <p>
+ * Star ratings go from {@link #MIN_STARS} to {@link #MAX_STARS} and there is
+ * one {@link ServiceType} constant per type, so the buckets are kept in arrays
+ * indexed by the star value and by {@code ServiceType.ordinal()}: finding a
+ * bucket is a direct array access, with no hashing and no boxed keys.
+ * Each bucket keeps its services in the order they entered it, and the
+ * handle of every service in its two buckets is kept so that moving a
+ * service to other buckets takes O(1).
+ * <p>
+ * Each (type, stars) bucket also has a {@link KDTree} of the locations of its
+ * services, kept up to date by {@link #add} and {@link #move}, so the services
+ * of a bucket nearest to a point are found without measuring the distance to
+ * every one of them.
+ * <p>
+ * This class is serializable.
+ */
+class StarRankingIndex implements Serializable {
+
+    /**
+     * Standard serial version UID for serialization.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Lowest and highest average star rating of a service.
+     */
+    static final int MIN_STARS = 0;
+    static final int MAX_STARS = 5;
+
+    /**
+     * Services by average star rating: byStars[stars].
+     */
+    private final DoublyLinkedList<Service>[] byStars;
+
+    /**
+     * Services by type and average star rating: byTypeAndStars[type.ordinal()][stars].
+     */
+    private final DoublyLinkedList<Service>[][] byTypeAndStars;
+
+    /**
+     * Handle of each service in its byStars and byTypeAndStars buckets.
+     * Not serialized: rebuilt from the buckets when the index is read.
+     */
+    private transient Map<Service, ListHandle<Service>> starHandles;
+    private transient Map<Service, ListHandle<Service>> typeAndStarHandles;
+
+    /**
+     * Locations of the services by type and average star rating, like byTypeAndStars,
+     * and the handle of each service in its tree.
+     * Not serialized: rebuilt from the buckets when the index is read.
+     */
+    private transient KDTree<Service>[][] locationsByTypeAndStars;
+    private transient Map<Service, KDTreeHandle<Service>> locationHandles;
+
+    /**
+     * Empty bucket returned for star values out of range.
+     */
+    private final List<Service> noServices;
+
+    /**
+     * Constructs an empty index, with an empty bucket for every type and star rating.
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    StarRankingIndex() {
+        int starValues = MAX_STARS - MIN_STARS + 1;
+        byStars = new DoublyLinkedList[starValues];
+        byTypeAndStars = new DoublyLinkedList[ServiceType.values().length][starValues];
+        for (int s = 0; s < starValues; s++) {
+            byStars[s] = new DoublyLinkedList<>();
+            for (DoublyLinkedList<Service>[] typeBuckets : byTypeAndStars) {
+                typeBuckets[s] = new DoublyLinkedList<>();
+            }
+        }
+        noServices = new DoublyLinkedList<>();
+        starHandles = new SepChainHashTable<>();
+        typeAndStarHandles = new SepChainHashTable<>();
+        initLocations();
+    }
+
+    /**
+     * Creates an empty location tree for every type and star rating.
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private void initLocations() {
+        locationsByTypeAndStars = new KDTree[ServiceType.values().length][MAX_STARS - MIN_STARS + 1];
+        for (KDTree<Service>[] typeTrees : locationsByTypeAndStars) {
+            for (int s = 0; s < typeTrees.length; s++) {
+                typeTrees[s] = new KDTree<>();
+            }
+        }
+        locationHandles = new SepChainHashTable<>();
+    }
+
+    /**
+     * Adds a service to the end of the buckets of its current average star rating.
+     *
+     * @param service The service to add.
+     */
+    void add(Service service) {
+        int stars = service.getAvgStar();
+        starHandles.put(service, byStars[stars - MIN_STARS].addLastHandle(service));
+        typeAndStarHandles.put(service,
+                byTypeAndStars[service.getType().ordinal()][stars - MIN_STARS].addLastHandle(service));
+        addLocation(service);
+    }
+
+    /**
+     * Adds the location of a service to the tree of its type and current average star rating.
+     */
+    private void addLocation(Service service) {
+        KDTree<Service> tree = locationsByTypeAndStars[service.getType().ordinal()][service.getAvgStar() - MIN_STARS];
+        locationHandles.put(service, tree.insert(service.getLatitude(), service.getLongitude(), service));
+    }
+
+    /**
+     * Moves a service from the buckets of its previous average star rating
+     * to the end of the buckets of its current one.
+     *
+     * @param service  The service whose average star rating changed.
+     * @param oldStars The previous average star rating.
+     */
+    void move(Service service, int oldStars) {
+        byStars[oldStars - MIN_STARS].remove(starHandles.get(service));
+        byTypeAndStars[service.getType().ordinal()][oldStars - MIN_STARS].remove(typeAndStarHandles.get(service));
+        locationsByTypeAndStars[service.getType().ordinal()][oldStars - MIN_STARS].remove(locationHandles.get(service));
+        add(service);
+    }
+
+    /**
+     * Returns the services with the given average star rating.
+     *
+     * @param stars The average star rating.
+     * @return The bucket of services with that rating (empty if out of range).
+     */
+    List<Service> withStars(int stars) {
+        if (stars < MIN_STARS || stars > MAX_STARS) {
+            return noServices;
+        }
+        return byStars[stars - MIN_STARS];
+    }
+
+    /**
+     * Returns the services of the given type with the given average star rating.
+     *
+     * @param type  The service type.
+     * @param stars The average star rating.
+     * @return The bucket of services of that type and rating (empty if out of range).
+     */
+    List<Service> withTypeAndStars(ServiceType type, int stars) {
+        if (stars < MIN_STARS || stars > MAX_STARS) {
+            return noServices;
+        }
+        return byTypeAndStars[type.ordinal()][stars - MIN_STARS];
+    }
+
+    /**
+     * Returns the services of the given type with the given average star rating
+     * at the smallest Manhattan distance from a location, all of them if there
+     * is a tie, in the order of their bucket. Only the part of the location
+     * tree of the bucket near the location is visited.
+     *
+     * @param type      The service type.
+     * @param stars     The average star rating.
+     * @param latitude  The latitude of the location.
+     * @param longitude The longitude of the location.
+     * @return An {@link Iterator} of the nearest services (empty if the bucket is empty or out of range).
+     */
+    Iterator<Service> nearestWithTypeAndStars(ServiceType type, int stars, long latitude, long longitude) {
+        if (stars < MIN_STARS || stars > MAX_STARS) {
+            return noServices.iterator();
+        }
+        return locationsByTypeAndStars[type.ordinal()][stars - MIN_STARS].nearest(latitude, longitude);
+    }
+
+    /**
+     * Returns true iff there is a service of the given type, with any rating:
+     * one emptiness check per star bucket of the type.
+     *
+     * @param type The service type.
+     * @return {@code true} if a service of that type exists.
+     */
+    boolean hasType(ServiceType type) {
+        for (DoublyLinkedList<Service> bucket : byTypeAndStars[type.ordinal()]) {
+            if (!bucket.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the services from the highest to the lowest average star rating,
+     * each bucket in its own order. The buckets are streamed one after the
+     * other, with no intermediate list.
+     *
+     * @return An {@link Iterator} of all the services, highest stars first.
+     */
+    Iterator<Service> byStarsDescending() {
+        return new ConcatIterator<>(highestFirst(byStars));
+    }
+
+    /**
+     * Returns the services of the given type from the highest to the lowest
+     * average star rating, each bucket in its own order, with no intermediate list.
+     *
+     * @param type The service type.
+     * @return An {@link Iterator} of the services of that type, highest stars first.
+     */
+    Iterator<Service> byTypeAndStarsDescending(ServiceType type) {
+        return new ConcatIterator<>(highestFirst(byTypeAndStars[type.ordinal()]));
+    }
+
+    /**
+     * Returns an iteration of the iterators of the buckets, from MAX_STARS down to MIN_STARS.
+     */
+    private static Iterator<Iterator<Service>> highestFirst(DoublyLinkedList<Service>[] buckets) {
+        return new Iterator<>() {
+            private int stars = MAX_STARS;
+
+            public boolean hasNext() {
+                return stars >= MIN_STARS;
+            }
+
+            public Iterator<Service> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return buckets[stars-- - MIN_STARS].iterator();
+            }
+
+            public void rewind() {
+                stars = MAX_STARS;
+            }
+        };
+    }
+
+    /**
+     * Restores the buckets and rebuilds the handles and the location trees of
+     * the services from them, in the order of the buckets.
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        starHandles = new SepChainHashTable<>();
+        typeAndStarHandles = new SepChainHashTable<>();
+        for (int s = 0; s <= MAX_STARS - MIN_STARS; s++) {
+            putHandles(starHandles, byStars[s]);
+            for (DoublyLinkedList<Service>[] typeBuckets : byTypeAndStars) {
+                putHandles(typeAndStarHandles, typeBuckets[s]);
+            }
+        }
+        initLocations();
+        for (DoublyLinkedList<Service>[] typeBuckets : byTypeAndStars) {
+            for (DoublyLinkedList<Service> bucket : typeBuckets) {
+                Iterator<Service> it = bucket.iterator();
+                while (it.hasNext()) {
+                    addLocation(it.next());
+                }
+            }
+        }
+    }
+
+    private static void putHandles(Map<Service, ListHandle<Service>> handles, DoublyLinkedList<Service> bucket) {
+        Iterator<ListHandle<Service>> it = bucket.handleIterator();
+        while (it.hasNext()) {
+            ListHandle<Service> handle = it.next();
+            handles.put(handle.getElement(), handle);
+        }
+    }
+}
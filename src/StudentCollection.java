@@ -55,6 +55,25 @@ public interface StudentCollection  {
      */
     Iterator<Student> listAllStudents();
 
+    /**
+     * Gets an iterator over the students sorted alphabetically by name,
+     * starting at the given position (0 is the first student), so that
+     * long listings can be read page by page.
+     *
+     * @param position The alphabetical position of the first student, from 0 to the number of students.
+     * @return A sorted {@link Iterator} of the {@link Student}s from that position on.
+     */
+    Iterator<Student> listAllStudentsFrom(int position);
+
+    /**
+     * Gets an iterator over the students whose name starts with the given
+     * prefix (ignoring case), sorted alphabetically by name.
+     *
+     * @param prefix The beginning of the names.
+     * @return A sorted {@link Iterator} of the matching {@link Student}s.
+     */
+    Iterator<Student> listStudentsByNamePrefix(String prefix);
+
     /**
      * Gets an iterator over all students from a specific country,
      * in their original order of registration (insertion order)
@@ -72,7 +72,7 @@ public class StudentAbs implements Student, Serializable {
         this.home = home;
         this.current = home;
         this.visitedServices = new DoublyLinkedList<>();
-        this.visitedServicesSet = new ClosedHashTable<>();
+        this.visitedServicesSet = new RobinHoodHashTable<>();
 
 
         home.addOccupant(this);
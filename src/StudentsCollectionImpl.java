@@ -13,6 +13,8 @@ import java.io.*;
  *.</li>
  * <li>A {@link Map} (`studentsByCountry`) to store students grouped by country.</li>
  * </ol>
+ * The handle of each student in its country list is also kept, so that removing
+ * a student from its country list takes O(1).
  * This class is serializable with optimized custom serialization to reduce I/O overhead.
  */
 public class StudentsCollectionImpl implements StudentCollection, Serializable {
@@ -23,14 +25,41 @@ public class StudentsCollectionImpl implements StudentCollection, Serializable {
     // --- Fields ---
 
     /**
-     * Sorted map of students by name (lowercase) for O(log n) lookups and ordered iteration.
+     * Sorted map of students by name (ignoring case) for O(log n) lookups and ordered iteration.
      */
     private SortedMap<String, Student> studentsByName;
 
     /**
-     * Map of students grouped by country (lowercase) for O(1) country-based filtering.
+     * Map of students grouped by country (ignoring case) for O(1) country-based filtering.
+     * Finding the list of a country takes no lock, but the lists themselves
+     * (and countryHandles) are not thread-safe.
      */
-    private Map<String, List<Student>> studentsByCountry;
+    private Map<CharSequence, DoublyLinkedList<Student>> studentsByCountry;
+
+    /**
+     * Handle of each student in its country list.
+     * A plain hash table: it is only used by writers, like the country lists.
+     */
+    private transient Map<Student, ListHandle<Student>> countryHandles;
+
+    /**
+     * Kind of sorted map of studentsByName.
+     */
+    private NameIndex nameIndex;
+
+    /**
+     * Sorted maps that can keep the students by name.
+     */
+    public enum NameIndex {
+        /** {@link AVLSortedMap}: the default. */
+        AVL_TREE,
+        /** {@link BPlusTreeSortedMap}: fewer, packed nodes, for areas with very many students. */
+        B_PLUS_TREE,
+        /** {@link ConcurrentSkipListSortedMap}: lock-free, for a server whose commands run in several threads. */
+        SKIP_LIST,
+        /** {@link PersistentAVLSortedMap}: listings and saves read a frozen version while students come and go. */
+        PERSISTENT_AVL
+    }
 
     // --- Constructor ---
 
@@ -39,8 +68,51 @@ public class StudentsCollectionImpl implements StudentCollection, Serializable {
      * Initializes both the name-sorted map and the country map.
      */
     public StudentsCollectionImpl() {
-        this.studentsByName = new AVLSortedMap<>();
-        this.studentsByCountry = new SepChainHashTable<>();
+        this(NameIndex.AVL_TREE);
+    }
+
+    /**
+     * Constructs a new, empty student collection whose name map is of the given kind.
+     * With {@link NameIndex#SKIP_LIST}, the name map can be read, written and
+     * listed from several threads without a global lock. The country lists and
+     * the handles to them are not thread-safe, so adding or removing students
+     * and listing a country still need one.
+     *
+     * @param nameIndex The kind of sorted map of the names.
+     */
+    public StudentsCollectionImpl(NameIndex nameIndex) {
+        this.nameIndex = nameIndex;
+        this.studentsByName = newNameMap(nameIndex);
+        this.studentsByCountry = new ConcurrentSepChainHashTable<>(CaseInsensitiveEquivalence.INSTANCE);
+        this.countryHandles = new SepChainHashTable<>();
+    }
+
+    /**
+     * Creates an empty name map of the given kind, ordering names ignoring case.
+     */
+    private static SortedMap<String, Student> newNameMap(NameIndex nameIndex) {
+        return switch (nameIndex) {
+            case AVL_TREE -> new AVLSortedMap<>(CaseInsensitiveEquivalence.INSTANCE);
+            case B_PLUS_TREE -> new BPlusTreeSortedMap<>(CaseInsensitiveEquivalence.INSTANCE);
+            case SKIP_LIST -> new ConcurrentSkipListSortedMap<>(CaseInsensitiveEquivalence.INSTANCE);
+            case PERSISTENT_AVL -> new PersistentAVLSortedMap<>(CaseInsensitiveEquivalence.INSTANCE);
+        };
+    }
+
+    /**
+     * Creates a name map of the given kind with the entries of an iteration
+     * sorted by name, built in O(n) by the map's buildFromSorted.
+     */
+    private static SortedMap<String, Student> buildNameMap(NameIndex nameIndex,
+                                                           Iterator<Map.Entry<String, Student>> sorted, int size) {
+        SortedMap<String, Student> names = newNameMap(nameIndex);
+        switch (nameIndex) {
+            case AVL_TREE -> ((AVLSortedMap<String, Student>) names).buildFromSorted(sorted, size);
+            case B_PLUS_TREE -> ((BPlusTreeSortedMap<String, Student>) names).buildFromSorted(sorted, size);
+            case SKIP_LIST -> ((ConcurrentSkipListSortedMap<String, Student>) names).buildFromSorted(sorted, size);
+            case PERSISTENT_AVL -> ((PersistentAVLSortedMap<String, Student>) names).buildFromSorted(sorted, size);
+        }
+        return names;
     }
 
     // --- State Modifiers ---
@@ -53,17 +125,21 @@ public class StudentsCollectionImpl implements StudentCollection, Serializable {
      */
     @Override
     public void addStudent(Student student) {
-        String lowerName = student.getName().toLowerCase();
-        studentsByName.put(lowerName, student);
+        studentsByName.put(student.getName(), student);
+        addToCountry(student.getCountry(), student);
+    }
 
-        String lowerCountry = student.getCountry().toLowerCase();
-        List<Student> countryList = studentsByCountry.get(lowerCountry);
+    /**
+     * Adds a student to the end of its country list (created if needed) and keeps its handle.
+     */
+    private void addToCountry(String country, Student student) {
+        DoublyLinkedList<Student> countryList = studentsByCountry.get(country);
 
         if (countryList == null) {
             countryList = new DoublyLinkedList<>();
-            studentsByCountry.put(lowerCountry, countryList);
+            studentsByCountry.put(country, countryList);
         }
-        countryList.addLast(student);
+        countryHandles.put(student, countryList.addLastHandle(student));
     }
 
     /**
@@ -76,21 +152,19 @@ public class StudentsCollectionImpl implements StudentCollection, Serializable {
      */
     @Override
     public void removeStudent(String name) {
-        String lowerName = name.toLowerCase();
-
-        Student student = studentsByName.remove(lowerName);
+        Student student = studentsByName.remove(name);
 
         if (student != null) {
-            String lowerCountry = student.getCountry().toLowerCase();
-            List<Student> countryList = studentsByCountry.get(lowerCountry);
+            String country = student.getCountry();
+            DoublyLinkedList<Student> countryList = studentsByCountry.get(country);
+            ListHandle<Student> handle = countryHandles.remove(student);
             if (countryList != null) {
-                int index = countryList.indexOf(student);
-                if (index != -1) {
-                    countryList.remove(index);
+                if (handle != null) {
+                    countryList.remove(handle);
                 }
 
                 if (countryList.isEmpty()) {
-                    studentsByCountry.remove(lowerCountry);
+                    studentsByCountry.remove(country);
                 }
             }
         }
@@ -101,21 +175,22 @@ public class StudentsCollectionImpl implements StudentCollection, Serializable {
     /**
      * Finds a student by their name using case-insensitive lookup.
      * <p>
-     * This search is performed on the name-sorted map.
+     * This search is performed on the name-sorted map, without copying the name.
      *
      * @param name The name of the student to find.
      * @return The {@link Student} object, or {@code null} if not found.
      */
     @Override
     public Student findByName(String name) {
-        return studentsByName.get(name.toLowerCase());
+        return studentsByName.get(name);
     }
 
     // --- Iterators & Retrieval ---
 
     /**
      * Gets an iterator over all students in the collection,
-     * sorted alphabetically by name.
+     * sorted alphabetically by name. With a persistent name map, it lists
+     * the students of the moment it was created, whatever comes after.
      *
      * @return A sorted {@link Iterator} of all {@link Student}s.
      */
@@ -124,6 +199,66 @@ public class StudentsCollectionImpl implements StudentCollection, Serializable {
         return studentsByName.values();
     }
 
+    /**
+     * Gets an iterator over the students sorted alphabetically by name,
+     * from the given position. The first student is found in O(log n)
+     * through the subtree sizes of the name map.
+     *
+     * @param position The alphabetical position of the first student.
+     * @return A sorted {@link Iterator} of the {@link Student}s from that position on.
+     */
+    @Override
+    public Iterator<Student> listAllStudentsFrom(int position) {
+        return studentsOf(studentsByName.iterator(position));
+    }
+
+    /**
+     * Gets an iterator over the students whose name starts with the prefix,
+     * ignoring case: the names from the prefix up to {@link #prefixEnd(String)},
+     * a range of the name map whose first name is found in O(log n).
+     *
+     * @param prefix The beginning of the names.
+     * @return A sorted {@link Iterator} of the matching {@link Student}s.
+     */
+    @Override
+    public Iterator<Student> listStudentsByNamePrefix(String prefix) {
+        String end = prefixEnd(prefix);
+        if (end == null) {
+            return studentsOf(studentsByName.iterator(studentsByName.rank(prefix)));
+        }
+        return studentsOf(studentsByName.subMap(prefix, end));
+    }
+
+    /**
+     * Returns the least name, ignoring case, that is greater than every name
+     * starting with the prefix and not greater than any other name after the
+     * prefix: the prefix in lower case, with its last char raised to the next
+     * char that is its own lower case (a last char with no such next char is
+     * dropped). Returns null if no name follows the names with the prefix.
+     */
+    private static String prefixEnd(String prefix) {
+        char[] end = new char[prefix.length()];
+        for (int i = 0; i < end.length; i++) {
+            end[i] = Character.toLowerCase(prefix.charAt(i));
+        }
+        for (int i = end.length - 1; i >= 0; i--) {
+            for (int c = end[i] + 1; c <= Character.MAX_VALUE; c++) {
+                if (Character.toLowerCase((char) c) == c) {
+                    end[i] = (char) c;
+                    return new String(end, 0, i + 1);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns an iterator of the students of an iteration of name map entries.
+     */
+    private static Iterator<Student> studentsOf(Iterator<Map.Entry<String, Student>> entries) {
+        return new TransformIterator<>(entries, Map.Entry::value);
+    }
+
     /**
      * Gets an iterator over all students from a specific country,
      * in their original order of registration.
@@ -133,7 +268,7 @@ public class StudentsCollectionImpl implements StudentCollection, Serializable {
      */
     @Override
     public Iterator<Student> listStudentsByCountry(String country) {
-        List<Student> list = studentsByCountry.get(country.toLowerCase());
+        List<Student> list = studentsByCountry.get(country);
         if (list != null) {
             return list.iterator();
         }
@@ -142,23 +277,12 @@ public class StudentsCollectionImpl implements StudentCollection, Serializable {
 
     /**
      * Gets all students in insertion order for persistence or other needs.
-     * Builds a temporary list by concatenating country lists.
+     * Streams the country lists one after the other, without copying them.
      *
      * @return An {@link Iterator} of all students in insertion order.
      */
     public Iterator<Student> getStudentsByInsertion() {
-        DoublyLinkedList<Student> allOrdered = new DoublyLinkedList<>();
-
-        // Iterate over all country lists to maintain insertion order
-        Iterator<List<Student>> countryLists = studentsByCountry.values();
-        while (countryLists.hasNext()) {
-            List<Student> countryList = countryLists.next();
-            Iterator<Student> studentIt = countryList.iterator();
-            while (studentIt.hasNext()) {
-                allOrdered.addLast(studentIt.next());
-            }
-        }
-        return allOrdered.iterator();
+        return new ConcatIterator<>(new TransformIterator<>(studentsByCountry.values(), DoublyLinkedList::iterator));
     }
 
     // --- Custom Serialization ---
@@ -174,26 +298,31 @@ public class StudentsCollectionImpl implements StudentCollection, Serializable {
      */
     @Serial
     private void writeObject(ObjectOutputStream out) throws IOException {
-        // Write the number of students
-        out.writeInt(studentsByName.size());
+        // A persistent name map is written from a snapshot, so writers need not wait
+        SortedMap<String, Student> names = studentsByName instanceof PersistentAVLSortedMap<String, Student> persistent
+                ? persistent.snapshot() : studentsByName;
+
+        // Write the kind of name map and the number of students
+        out.writeUTF(nameIndex.name());
+        out.writeInt(names.size());
 
         // Iterate over all students using keys() + get()
-        Iterator<String> nameKeys = studentsByName.keys();
+        Iterator<String> nameKeys = names.keys();
         while (nameKeys.hasNext()) {
-            String lowerName = nameKeys.next();
-            Student student = studentsByName.get(lowerName);
-            out.writeUTF(lowerName); // lowercase name
-            out.writeUTF(student.getCountry().toLowerCase()); // lowercase country
+            String name = nameKeys.next();
+            Student student = names.get(name);
+            out.writeUTF(name); // name key
+            out.writeUTF(student.getCountry()); // country key
             out.writeObject(student); // the Student object
         }
 
         // Write the country map structure using keys() + get() (sizes for validation)
-        Iterator<String> countryKeys = studentsByCountry.keys();
+        Iterator<CharSequence> countryKeys = studentsByCountry.keys();
         out.writeInt(studentsByCountry.size());
         while (countryKeys.hasNext()) {
-            String country = countryKeys.next();
-            List<Student> countryList = studentsByCountry.get(country);
-            out.writeUTF(country); // country key
+            CharSequence country = countryKeys.next();
+            DoublyLinkedList<Student> countryList = studentsByCountry.get(country);
+            out.writeUTF(country.toString()); // country key
             out.writeInt(countryList != null ? countryList.size() : 0); // size
         }
     }
@@ -210,30 +339,30 @@ public class StudentsCollectionImpl implements StudentCollection, Serializable {
     @Serial
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         // Initialize empty maps
-        studentsByName = new AVLSortedMap<>();
-        studentsByCountry = new SepChainHashTable<>();
+        nameIndex = NameIndex.valueOf(in.readUTF());
+        studentsByCountry = new ConcurrentSepChainHashTable<>(CaseInsensitiveEquivalence.INSTANCE);
+        countryHandles = new SepChainHashTable<>();
 
         // Read the number of students
         int numStudents = in.readInt();
 
-        // Read and reconstruct each student
+        // Read and reconstruct each student; they were written sorted by name
+        ListInArray<Map.Entry<String, Student>> byName = new ListInArray<>(Math.max(numStudents, 1));
         for (int i = 0; i < numStudents; i++) {
-            String lowerName = in.readUTF();
-            String lowerCountry = in.readUTF();
+            String name = in.readUTF();
+            String country = in.readUTF();
             Student student = (Student) in.readObject();
 
-            // Add to name map
-            studentsByName.put(lowerName, student);
+            // Keep for the name map
+            byName.addLast(new Map.Entry<>(name, student));
 
             // Add to country map
-            List<Student> countryList = studentsByCountry.get(lowerCountry);
-            if (countryList == null) {
-                countryList = new DoublyLinkedList<>();
-                studentsByCountry.put(lowerCountry, countryList);
-            }
-            countryList.addLast(student);
+            addToCountry(country, student);
         }
 
+        // Build the name map in O(n), without comparisons or rotations
+        studentsByName = buildNameMap(nameIndex, byName.iterator(), numStudents);
+
         // Read country map metadata (sizes for validation, but lists already reconstructed above)
         int numCountries = in.readInt();
         for (int i = 0; i < numCountries; i++) {
@@ -308,6 +308,59 @@ public interface SystemManager {
             throws InvalidStarsException, StudentNotFoundException,
             NoTypeServicesWithStarsException, InvalidServiceTypeException, NoServicesOfThisTypeException;
 
+    /**
+     * Finds the k services of a given type closest to a student's current
+     * location, using Manhattan distance, closest first. Services at the same
+     * distance come in their order of registration.
+     *
+     * @param type        The {@link ServiceType} to filter by.
+     * @param k           The largest number of services returned.
+     * @param studentName The name of the student (for their location).
+     * @return An {@link Iterator} of at most k {@link Service}s, closest first.
+     * @throws IllegalArgumentException        if k is not positive.
+     * @throws StudentNotFoundException        if the student does not exist.
+     * @throws InvalidServiceTypeException     (Should not be thrown if using Enum).
+     * @throws NoServicesOfThisTypeException   if no services match the type.
+     */
+    Iterator<Service> getNearestServices(ServiceType type, int k, String studentName)
+            throws StudentNotFoundException, InvalidServiceTypeException, NoServicesOfThisTypeException;
+
+    /**
+     * Finds the k services of a given type closest to a location, using
+     * Manhattan distance, closest first. Services at the same distance come
+     * in their order of registration.
+     *
+     * @param type      The {@link ServiceType} to filter by.
+     * @param k         The largest number of services returned.
+     * @param latitude  The latitude of the location.
+     * @param longitude The longitude of the location.
+     * @return An {@link Iterator} of at most k {@link Service}s, closest first.
+     * @throws IllegalArgumentException        if k is not positive.
+     * @throws InvalidLocationException        if the location is outside the area bounds.
+     * @throws InvalidServiceTypeException     (Should not be thrown if using Enum).
+     * @throws NoServicesOfThisTypeException   if no services match the type.
+     */
+    Iterator<Service> getNearestServices(ServiceType type, int k, long latitude, long longitude)
+            throws InvalidLocationException, InvalidServiceTypeException, NoServicesOfThisTypeException;
+
+    /**
+     * Lists the services of a given type located inside a rectangle of the
+     * current area (bounds included), in order of registration. A rectangle
+     * may be a line or a point, and may reach beyond the area.
+     *
+     * @param type      The {@link ServiceType} to filter by.
+     * @param topLat    The top latitude of the rectangle.
+     * @param leftLong  The left longitude of the rectangle.
+     * @param bottomLat The bottom latitude of the rectangle.
+     * @param rightLong The right longitude of the rectangle.
+     * @return An {@link Iterator} of the {@link Service}s inside the rectangle (possibly empty).
+     * @throws InvalidBoundsException      if top is below bottom or left is right of right,
+     *                                     or if the rectangle lies entirely outside the area.
+     * @throws InvalidServiceTypeException (Should not be thrown if using Enum).
+     */
+    Iterator<Service> getServicesInRectangle(ServiceType type, long topLat, long leftLong, long bottomLat, long rightLong)
+            throws InvalidBoundsException, InvalidServiceTypeException;
+
     /**
      * Finds the "most relevant" service of a given type for a specific student.
      * <ul>
@@ -418,4 +471,4 @@ public interface SystemManager {
      */
     long manhattanDistance(long lat1, long lon1, long lat2, long lon2);
 
-}
\ No newline at end of file
+}
\ No newline at end of file
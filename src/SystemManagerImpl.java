@@ -192,14 +192,14 @@ public class SystemManagerImpl implements SystemManager {
         }
         int length = comment.length();
         int index = -1;
+        CharSlice word = new CharSlice(comment); // reused for every word: no copies
 
         for (int i = 0; i <= length; i++) {
             boolean isSpace = (i == length) || Character.isWhitespace(comment.charAt(i));
 
             if (isSpace) {
                 if (index != -1) {
-                    String word = extractWord(comment, index, i);
-                    currentArea.getServicesCollection().addTagToService(word.toLowerCase(), service);
+                    currentArea.getServicesCollection().addTagToService(word.select(index, i), service);
                     index = -1;
                 }
             } else {
@@ -210,15 +210,6 @@ public class SystemManagerImpl implements SystemManager {
         }
     }
 
-    private String extractWord(String comment, int start, int end) {
-        char[] chars = new char[end-start];
-        for (int i = 0; i < chars.length; i++) {
-            char c = comment.charAt(start+i);
-            chars[i] = Character.toLowerCase(c);
-        }
-        return new String(chars);
-    }
-
 
     /**
      * {@inheritDoc}
@@ -461,7 +452,8 @@ public class SystemManagerImpl implements SystemManager {
 
     /**
      * {@inheritDoc}
-     * Optimized implementation using the servicesByTypeAndStars index for O(1) lookup.
+     * Optimized implementation using the location tree of the (type, stars) bucket:
+     * only the services near the student are visited.
      */
     @Override
     public Iterator<Service> getRankedServicesByTypeAndStars(ServiceType type, int stars, String studentName)
@@ -479,43 +471,75 @@ public class SystemManagerImpl implements SystemManager {
             throw new InvalidServiceTypeException();
         }
 
-        // Check if any services of this type exist (single pass)
-        FilterIterator<Service> filteredByType = new FilterIterator<>(currentArea.getServices(), s -> s.getType() == type);
-        if (!filteredByType.hasNext()) {
+        // Check if any services of this type exist (one check per star bucket of the type)
+        if (!currentArea.hasServicesOfType(type)) {
             throw new NoServicesOfThisTypeException();
         }
 
-        // Use the optimized index to get services by type and stars directly (O(1) lookup)
-        Iterator<Service> filteredByTypeStars = currentArea.getServicesByTypeAndStars(type, stars);
-        if (!filteredByTypeStars.hasNext()) {
+        // The location tree of the (type, stars) bucket finds the closest services,
+        // all of them if there is a tie, without measuring the distance to every one
+        Service location = student.getCurrent();
+        Iterator<Service> closestServices = currentArea.getNearestServicesByTypeAndStars(
+                type, stars, location.getLatitude(), location.getLongitude());
+        if (!closestServices.hasNext()) {
             throw new NoTypeServicesWithStarsException();
         }
+        return closestServices;
+    }
 
-        // Find the closest services
-        List<Service> closestServices = new DoublyLinkedList<>();
-        long minDistance = Long.MAX_VALUE;
-
-        while (filteredByTypeStars.hasNext()) {
-            Service service = filteredByTypeStars.next();
-            long currentDistance = manhattanDistance(
-                    student.getCurrent().getLatitude(),
-                    student.getCurrent().getLongitude(),
-                    service.getLatitude(),
-                    service.getLongitude());
-
-            if (currentDistance < minDistance) {
-                // Found a closer one — clear the list and keep only this one
-                closestServices = new DoublyLinkedList<>();
-                closestServices.addLast(service);
-                minDistance = currentDistance;
-            } else if (currentDistance == minDistance) {
-                // Another service at the same distance — add it too
-                closestServices.addLast(service);
-            }
+    /**
+     * {@inheritDoc}
+     * Best-first search of the location tree of the type, from the student's location:
+     * only the services near the student are visited.
+     */
+    @Override
+    public Iterator<Service> getNearestServices(ServiceType type, int k, String studentName)
+            throws StudentNotFoundException, InvalidServiceTypeException, NoServicesOfThisTypeException {
+
+        Student student = currentArea.getStudent(studentName);
+        if (student == null) {
+            throw new StudentNotFoundException();
+        }
+        Service location = student.getCurrent();
+        return nearestServices(type, k, location.getLatitude(), location.getLongitude());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Best-first search of the location tree of the type, from the given location:
+     * only the services near the location are visited.
+     */
+    @Override
+    public Iterator<Service> getNearestServices(ServiceType type, int k, long latitude, long longitude)
+            throws InvalidLocationException, InvalidServiceTypeException, NoServicesOfThisTypeException {
+
+        if (!validLocation(latitude, longitude)) {
+            throw new InvalidLocationException();
         }
+        return nearestServices(type, k, latitude, longitude);
+    }
 
-        // Return an iterator with only the closest services
-        return closestServices.iterator();
+    /**
+     * {@inheritDoc}
+     * Range search of the location tree of the type: only the subtrees the
+     * rectangle reaches are visited.
+     */
+    @Override
+    public Iterator<Service> getServicesInRectangle(ServiceType type, long topLat, long leftLong,
+                                                    long bottomLat, long rightLong)
+            throws InvalidBoundsException, InvalidServiceTypeException {
+
+        if (topLat < bottomLat || leftLong > rightLong) {
+            throw new InvalidBoundsException();
+        }
+        if (bottomLat > currentArea.getTopLat() || topLat < currentArea.getBottomLat()
+                || leftLong > currentArea.getRightLong() || rightLong < currentArea.getLeftLong()) {
+            throw new InvalidBoundsException();
+        }
+        if (!validServiceType(type)) {
+            throw new InvalidServiceTypeException();
+        }
+        return currentArea.getServicesInRectangle(type, topLat, leftLong, bottomLat, rightLong);
     }
 
     /**
@@ -675,6 +699,20 @@ public class SystemManagerImpl implements SystemManager {
 
     // --- Private Helper Methods ---
 
+    private Iterator<Service> nearestServices(ServiceType type, int k, long latitude, long longitude)
+            throws InvalidServiceTypeException, NoServicesOfThisTypeException {
+        if (k < 1) {
+            throw new IllegalArgumentException("k < 1");
+        }
+        if (!validServiceType(type)) {
+            throw new InvalidServiceTypeException();
+        }
+        if (!currentArea.hasServicesOfType(type)) {
+            throw new NoServicesOfThisTypeException();
+        }
+        return currentArea.getNearestServices(type, latitude, longitude, k);
+    }
+
     // --- Private File I/O Helpers ---
 
     private void saveCurrentAreaToFile(Area area) {
@@ -832,4 +870,4 @@ public class SystemManagerImpl implements SystemManager {
             default -> null; // Should be unreachable if isStudentTypeValid is used
         };
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
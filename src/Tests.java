@@ -2,14 +2,22 @@ import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.Test;
 
+import dataStructures.ConcurrentSepChainHashTable;
+import dataStructures.Iterator;
+import dataStructures.Map;
+
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.PrintStream;
 import java.nio.file.Files;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Objects;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
 /**
@@ -38,6 +46,87 @@ public class Tests {
     @Test public void test16() { test("input16", "output16"); }
     @Test public void test17() { test("input17", "output17"); }
     @Test public void test18() { test("input18", "output18"); }
+    @Test public void testConcurrentHashTable() { testConcurrent(false); }
+    @Test public void testConcurrentHashTableCollisions() { testConcurrent(true); }
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 50000;
+
+    // A key with a chosen hash code, so that the keys can be made to collide.
+    private static final class Key implements Comparable<Key> {
+        private final int hash, id;
+
+        Key(int hash, int id) { this.hash = hash; this.id = id; }
+
+        @Override public int hashCode() { return hash; }
+        @Override public boolean equals(Object other) {
+            return other instanceof Key && ((Key) other).id == id;
+        }
+        @Override public int compareTo(Key other) { return Integer.compare(id, other.id); }
+    }
+
+    /**
+     * Runs puts, removes and gets from several threads on a small table, so
+     * that it is resized while they run. Each thread has its own keys, so the
+     * return values must match a map of the thread, and the final contents
+     * must be the union of those maps.
+     * @param collide if all keys fall into a few buckets (tree bins)
+     */
+    private void testConcurrent(boolean collide) {
+        ConcurrentSepChainHashTable<Key, Integer> table = new ConcurrentSepChainHashTable<>(16);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        HashMap<Key, Integer>[] expected = new HashMap[THREADS];
+        String[] errors = new String[THREADS];
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            expected[t] = new HashMap<>();
+            threads[t] = new Thread(() -> {
+                Random random = new Random(thread);
+                HashMap<Key, Integer> mine = expected[thread];
+                for (int i = 0; i < OPERATIONS && errors[thread] == null; i++) {
+                    int id = thread * 1000000 + random.nextInt(4000);
+                    Key key = new Key(collide ? id % 13 : id * 0x9E3779B9, id);
+                    switch (random.nextInt(3)) {
+                        case 0:
+                            if (!Objects.equals(table.put(key, i), mine.put(key, i)))
+                                errors[thread] = "put " + id;
+                            break;
+                        case 1:
+                            if (!Objects.equals(table.remove(key), mine.remove(key)))
+                                errors[thread] = "remove " + id;
+                            break;
+                        default:
+                            if (!Objects.equals(table.get(key), mine.get(key)))
+                                errors[thread] = "get " + id;
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        try {
+            for (Thread thread : threads)
+                thread.join();
+        } catch (InterruptedException e) {
+            fail("Interrompido");
+        }
+        HashMap<Key, Integer> all = new HashMap<>();
+        for (int t = 0; t < THREADS; t++) {
+            assertNull(errors[t]);
+            all.putAll(expected[t]);
+        }
+        assertEquals(all.size(), table.size());
+        int iterated = 0;
+        Iterator<Map.Entry<Key, Integer>> it = table.iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, Integer> entry = it.next();
+            assertEquals(all.get(entry.key()), entry.value());
+            iterated++;
+        }
+        assertEquals(all.size(), iterated);
+        for (Key key : all.keySet())
+            assertEquals(all.get(key), table.get(key));
+    }
 
     private static final File BASE = new File("Tests");
 
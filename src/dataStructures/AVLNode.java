@@ -14,19 +14,25 @@ class AVLNode<E> extends BTNode<E> implements Serializable {
     // Height of the node
     protected transient int height;
 
+    // Number of nodes in the subtree rooted at the node
+    protected transient int size;
+
     public AVLNode(E elem) {
         super(elem);
         height=0;
+        size=1;
     }
     
     public AVLNode( E element, AVLNode<E> parent, AVLNode<E> left, AVLNode<E> right ){
         super(element, parent, left, right);
         updateHeight();
+        updateSize();
         //TODO: Left as an exercise.//done
     }
     public AVLNode( E element, AVLNode<E> parent){
         super(element, parent,null, null);
         height=0;
+        size=1;
     }
 
     public void updateHeight() {
@@ -44,6 +50,27 @@ class AVLNode<E> extends BTNode<E> implements Serializable {
         return height;
     }
 
+    /**
+     * Recomputes the size of the subtree from the sizes of the children.
+     */
+    public void updateSize() {
+        this.size = 1 + size((AVLNode<E>) getLeftChild()) + size((AVLNode<E>) getRightChild());
+    }
+
+    // Size of the subtree rooted at node (0 for an empty subtree).
+    static int size(AVLNode<?> node) {
+        if (node==null) return 0;
+        return node.size;
+    }
+
+    /**
+     * Returns the number of nodes in the subtree rooted at this node.
+     * @return size of the subtree
+     */
+    public int getSize() {
+        return size;
+    }
+
     /**
      * Update the left child and height
      * @param node
@@ -1,9 +1,15 @@
 package dataStructures;
 
+import dataStructures.exceptions.InvalidPositionException;
+
 import java.io.*;
 
 /**
  * AVL Tree Sorted Map
+ * Keys are ordered by their natural order or by the comparator given to the
+ * constructor (which must then be serializable).
+ * Every node keeps the size of its subtree, so rank, select and iteration
+ * from a position take O(log n).
  * @author AED  Team
  * @version 1.0
  * @param <K> Generic Key
@@ -14,6 +20,18 @@ public class AVLSortedMap <K extends Comparable<K>,V> extends AdvancedBSTree<K,V
     @Serial
     private static final long serialVersionUID = 1L;
 
+    public AVLSortedMap() {
+        super();
+    }
+
+    /**
+     * Constructor of a map whose keys are ordered by the comparator.
+     * @param comparator order of the keys (null for their natural order)
+     */
+    public AVLSortedMap(Comparator<? super K> comparator) {
+        super(comparator);
+    }
+
     /**
      * @param key
      * @param value
@@ -28,7 +46,7 @@ public class AVLSortedMap <K extends Comparable<K>,V> extends AdvancedBSTree<K,V
         }
 
         BTNode<Entry<K, V>> node = findNode(key);
-        int cmp = key.compareTo(node.getElement().key());
+        int cmp = compare(key, node.getElement().key());
 
         if (cmp == 0) {
             V oldValue = node.getElement().value();
@@ -60,7 +78,7 @@ public class AVLSortedMap <K extends Comparable<K>,V> extends AdvancedBSTree<K,V
      */
     public V remove(K key) {
         BTNode<Entry<K, V>> nodeToRemove = findNode(key);
-        if (nodeToRemove == null || nodeToRemove.getElement().key().compareTo(key) != 0) {
+        if (nodeToRemove == null || compare(nodeToRemove.getElement().key(), key) != 0) {
             return null;
         }
         V returnValue = nodeToRemove.getElement().value();
@@ -128,6 +146,7 @@ public class AVLSortedMap <K extends Comparable<K>,V> extends AdvancedBSTree<K,V
         AVLNode<Entry<K, V>> current = node;
         while (current != null) {
             current.updateHeight();
+            current.updateSize();
             if (!current.isBalanced()) {
                 AVLNode<Entry<K, V>> y = getTallerChild(current);
                 if (y != null) {
@@ -137,6 +156,7 @@ public class AVLSortedMap <K extends Comparable<K>,V> extends AdvancedBSTree<K,V
 
                         if (current != null) {
                             current.updateHeight();
+                            current.updateSize();
                         }
                     }
                 }
@@ -148,6 +168,118 @@ public class AVLSortedMap <K extends Comparable<K>,V> extends AdvancedBSTree<K,V
         }
     }
 
+    /**
+     * Keeps the height and the subtree size of a rotated node up to date.
+     * @param node - node whose children changed
+     */
+    @Override
+    protected void updateAfterRotation(BTNode<Entry<K, V>> node) {
+        AVLNode<Entry<K, V>> avlNode = (AVLNode<Entry<K, V>>) node;
+        avlNode.updateHeight();
+        avlNode.updateSize();
+    }
+
+    /**
+     * Returns the number of keys smaller than the specified key, adding the
+     * sizes of the left subtrees passed on the way down: O(log n).
+     * @param key whose rank is to be returned
+     * @return number of keys smaller than key
+     */
+    @Override
+    public int rank(K key) {
+        int smaller = 0;
+        AVLNode<Entry<K, V>> current = (AVLNode<Entry<K, V>>) root;
+        while (current != null) {
+            int cmp = compare(key, current.getElement().key());
+            AVLNode<Entry<K, V>> left = (AVLNode<Entry<K, V>>) current.getLeftChild();
+            if (cmp <= 0) {
+                if (cmp == 0) {
+                    return smaller + AVLNode.size(left);
+                }
+                current = left;
+            } else {
+                smaller += AVLNode.size(left) + 1;
+                current = (AVLNode<Entry<K, V>>) current.getRightChild();
+            }
+        }
+        return smaller;
+    }
+
+    /**
+     * Returns the entry at the specified position in the order of the keys: O(log n).
+     * @param position of the entry to be returned
+     * @return entry with position smaller keys
+     * @throws InvalidPositionException if position is not valid
+     */
+    @Override
+    public Entry<K, V> select(int position) {
+        if (position < 0 || position >= currentSize)
+            throw new InvalidPositionException();
+        return selectNode(position).getElement();
+    }
+
+    /**
+     * Returns an iterator of the entries from the specified position; the
+     * first entry is found in O(log n).
+     * @param position of the first entry of the iteration
+     * @return iterator of the entries from position onwards
+     * @throws InvalidPositionException if position is not valid
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator(int position) {
+        if (position < 0 || position > currentSize)
+            throw new InvalidPositionException();
+        BTNode<Entry<K, V>> first = position == currentSize ? null : selectNode(position);
+        return new InOrderIterator<>((BTNode<Entry<K, V>>) root, first);
+    }
+
+    // Returns the node at the position (valid) in the order of the keys.
+    private AVLNode<Entry<K, V>> selectNode(int position) {
+        AVLNode<Entry<K, V>> current = (AVLNode<Entry<K, V>>) root;
+        int remaining = position;
+        while (true) {
+            int leftSize = AVLNode.size((AVLNode<Entry<K, V>>) current.getLeftChild());
+            if (remaining < leftSize) {
+                current = (AVLNode<Entry<K, V>>) current.getLeftChild();
+            } else if (remaining == leftSize) {
+                return current;
+            } else {
+                remaining -= leftSize + 1;
+                current = (AVLNode<Entry<K, V>>) current.getRightChild();
+            }
+        }
+    }
+
+    /**
+     * Replaces the entries of the map with the entries of an iteration sorted
+     * by the order of the map, building a perfectly balanced tree in O(n):
+     * no key comparisons and no rotations.
+     * @param sorted iteration of the entries, with strictly increasing keys
+     * @param size number of entries of the iteration
+     * @pre the keys of sorted are strictly increasing and there are size of them
+     */
+    public void buildFromSorted(Iterator<Entry<K, V>> sorted, int size) {
+        root = buildBalanced(sorted, size, null);
+        currentSize = size;
+    }
+
+    // Builds a balanced subtree with the next size entries of sorted, in order,
+    // with correct heights and sizes; returns its root (null if size is 0).
+    private AVLNode<Entry<K, V>> buildBalanced(Iterator<Entry<K, V>> sorted, int size, AVLNode<Entry<K, V>> parent) {
+        if (size == 0) {
+            return null;
+        }
+        int leftSize = size / 2;
+        AVLNode<Entry<K, V>> node = createNode(null, parent);
+        AVLNode<Entry<K, V>> left = buildBalanced(sorted, leftSize, node);
+        node.setElement(sorted.next());
+        AVLNode<Entry<K, V>> right = buildBalanced(sorted, size - leftSize - 1, node);
+        node.setLeftChild(left);
+        node.setRightChild(right);
+        node.updateSize();
+        return node;
+    }
+
     private AVLNode<Entry<K, V>> getTallerChild(AVLNode<Entry<K, V>> node) {
         AVLNode<Entry<K, V>> left = (AVLNode<Entry<K, V>>) node.getLeftChild();
         AVLNode<Entry<K, V>> right = (AVLNode<Entry<K, V>>) node.getRightChild();
@@ -179,7 +311,7 @@ public class AVLSortedMap <K extends Comparable<K>,V> extends AdvancedBSTree<K,V
 
         while (current != null) {
             parent = current;
-            int cmp = key.compareTo(current.getElement().key());
+            int cmp = compare(key, current.getElement().key());
             if (cmp == 0) {
                 return current;
             } else if (cmp < 0) {
@@ -194,6 +326,7 @@ public class AVLSortedMap <K extends Comparable<K>,V> extends AdvancedBSTree<K,V
     @Serial
     private void writeObject(ObjectOutputStream oos) throws IOException {
         oos.defaultWriteObject();
+        oos.writeObject(comparator); // the superclasses are not serializable
         oos.writeInt(currentSize);
         Iterator<Entry<K, V>> it = iterator();
         while (it.hasNext()) {
@@ -208,17 +341,20 @@ public class AVLSortedMap <K extends Comparable<K>,V> extends AdvancedBSTree<K,V
     @Serial
     private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
         ois.defaultReadObject();
+        @SuppressWarnings("unchecked")
+        Comparator<? super K> order = (Comparator<? super K>) ois.readObject();
+        this.comparator = order;
         int size = ois.readInt();
 
-        this.root = null;
-        this.currentSize = 0;
-
+        ListInArray<Entry<K, V>> entries = new ListInArray<>(Math.max(size, 1));
         for (int i = 0; i < size; i++) {
             @SuppressWarnings("unchecked")
             K key = (K) ois.readObject();
             @SuppressWarnings("unchecked")
             V value = (V) ois.readObject();
-            put(key, value);
+            entries.addLast(new Entry<>(key, value));
         }
+        // writeObject wrote the entries in order, so the tree is rebuilt in O(n)
+        buildFromSorted(entries.iterator(), size);
     }
 }
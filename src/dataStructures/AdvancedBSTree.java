@@ -7,6 +7,23 @@ package dataStructures;
  * @param <V> Generic Value
  */
 abstract class AdvancedBSTree <K extends Comparable<K>,V> extends BSTSortedMap<K,V>{
+
+    protected AdvancedBSTree() {
+        super();
+    }
+
+    protected AdvancedBSTree(Comparator<? super K> comparator) {
+        super(comparator);
+    }
+
+    /**
+     * Recomputes what a node keeps about its subtree (nothing in this tree),
+     * after a rotation changed its children. Called for the lower node first.
+     * @param node - node whose children changed
+     */
+    protected void updateAfterRotation( BTNode<Entry<K,V>> node ){
+    }
+
       /**
  	* Performs a single left rotation rooted at z node.
  	* Node y was a  right  child  of z before the  rotation,
@@ -34,6 +51,8 @@ abstract class AdvancedBSTree <K extends Comparable<K>,V> extends BSTSortedMap<K
                 pz.setRightChild( y );
             }
         }
+        updateAfterRotation( z );
+        updateAfterRotation( y );
    	 //TODO: Left as an exercise.
    	 //  a single rotation modifies a constant number of parent-child relationships,
     	// it can be implemented in O(1)time
@@ -66,6 +85,8 @@ abstract class AdvancedBSTree <K extends Comparable<K>,V> extends BSTSortedMap<K
                 pz.setRightChild( y );
             }
         }
+        updateAfterRotation( z );
+        updateAfterRotation( y );
         //TODO: Left as an exercise.//done
         //  a single rotation modifies a constant number of parent-child relationships,
         // it can be implemented in O(1)time
@@ -0,0 +1,94 @@
+package dataStructures;
+
+/**
+ * B+ Tree Inner Node
+ * An inner node of a {@link BPlusTreeSortedMap}. Keys in children[i] are
+ * smaller than keys[i], and keys in children[i+1] are not smaller than it.
+ * The number of entries under each child is kept in the array sizes, so
+ * rank and select only descend the tree.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class BPlusTreeInner<K,V> extends BPlusTreeNode<K,V> {
+
+    // Children of the node: children[0..count-1].
+    final BPlusTreeNode<K,V>[] children;
+
+    // Number of entries in the subtree of each child, parallel to children.
+    final int[] sizes;
+
+    /**
+     * @param capacity maximum number of children of the node
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    BPlusTreeInner(int capacity) {
+        super(capacity - 1);
+        children = (BPlusTreeNode<K,V>[]) new BPlusTreeNode[capacity];
+        sizes = new int[capacity];
+    }
+
+    @Override
+    boolean isLeaf() {
+        return false;
+    }
+
+    @Override
+    int size() {
+        int size = 0;
+        for (int i = 0; i < count; i++)
+            size += sizes[i];
+        return size;
+    }
+
+    /**
+     * Inserts the child at position i (i > 0), with key as its separator
+     * from the previous child.
+     */
+    void insert(int i, K key, BPlusTreeNode<K,V> child, int size) {
+        System.arraycopy(keys, i - 1, keys, i, count - i);
+        System.arraycopy(children, i, children, i + 1, count - i);
+        System.arraycopy(sizes, i, sizes, i + 1, count - i);
+        keys[i - 1] = key;
+        children[i] = child;
+        sizes[i] = size;
+        count++;
+    }
+
+    /**
+     * Removes the child at position i (i > 0) and its separator from the previous child.
+     */
+    void delete(int i) {
+        System.arraycopy(keys, i, keys, i - 1, count - i - 1);
+        System.arraycopy(children, i + 1, children, i, count - i - 1);
+        System.arraycopy(sizes, i + 1, sizes, i, count - i - 1);
+        count--;
+        keys[count - 1] = null;
+        children[count] = null;
+        sizes[count] = 0;
+    }
+
+    /**
+     * Moves the children from position from onwards, and the keys between
+     * them, to the end of the other node; separator goes between the last
+     * child of the other node and the first moved child. The key before the
+     * first moved child, if any, is dropped (the caller takes it first).
+     */
+    void moveTo(BPlusTreeInner<K,V> other, int from, Object separator) {
+        int moved = count - from;
+        if (other.count > 0)
+            other.keys[other.count - 1] = separator;
+        System.arraycopy(keys, from, other.keys, other.count, moved - 1);
+        System.arraycopy(children, from, other.children, other.count, moved);
+        System.arraycopy(sizes, from, other.sizes, other.count, moved);
+        other.count += moved;
+        for (int i = Math.max(from - 1, 0); i < count - 1; i++)
+            keys[i] = null;
+        for (int i = from; i < count; i++) {
+            children[i] = null;
+            sizes[i] = 0;
+        }
+        count = from;
+    }
+}
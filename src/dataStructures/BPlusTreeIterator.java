@@ -0,0 +1,94 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * B+ Tree Iterator
+ * Iterates over the entries of a {@link BPlusTreeSortedMap} by walking its
+ * linked leaves, from a given position onwards, building each entry only
+ * when it is returned. The iteration may end at the first entry that does
+ * not check a condition (the high end of a range).
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class BPlusTreeIterator<K,V> implements Iterator<Map.Entry<K,V>> {
+
+    // Leaf and position of the first entry of the iteration.
+    private final BPlusTreeLeaf<K,V> firstLeaf;
+    private final int firstIndex;
+
+    // Leaf and position of the next entry to return (leaf null when there is none).
+    private BPlusTreeLeaf<K,V> leaf;
+    private int index;
+
+    // Condition of the entries of the iteration (null for no condition).
+    private final Predicate<Map.Entry<K,V>> inRange;
+
+    // Next entry to return, once checked against inRange.
+    private Map.Entry<K,V> nextEntry;
+
+    /**
+     * Iterator of the entries from position index of leaf onwards, while they
+     * check the condition.
+     * @param leaf leaf of the first entry (null for an empty iteration)
+     * @param index position of the first entry in leaf (may be leaf.count)
+     * @param inRange condition of the entries of the iteration (null for no condition)
+     */
+    BPlusTreeIterator(BPlusTreeLeaf<K,V> leaf, int index, Predicate<Map.Entry<K,V>> inRange) {
+        while (leaf != null && index >= leaf.count) {
+            leaf = leaf.next;
+            index = 0;
+        }
+        this.firstLeaf = leaf;
+        this.firstIndex = index;
+        this.inRange = inRange;
+        rewind();
+    }
+
+    /**
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    public boolean hasNext() {
+        return nextEntry != null;
+    }
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    public Map.Entry<K,V> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        Map.Entry<K,V> entry = nextEntry;
+        if (++index == leaf.count) {
+            leaf = leaf.next;
+            index = 0;
+        }
+        load();
+        return entry;
+    }
+
+    /**
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    public void rewind() {
+        leaf = firstLeaf;
+        index = firstIndex;
+        load();
+    }
+
+    // Builds the entry at the current position, if there is one in range.
+    private void load() {
+        nextEntry = leaf == null ? null : leaf.entry(index);
+        if (nextEntry != null && inRange != null && !inRange.check(nextEntry))
+            nextEntry = null;
+    }
+}
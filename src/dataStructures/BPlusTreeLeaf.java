@@ -0,0 +1,87 @@
+package dataStructures;
+
+/**
+ * B+ Tree Leaf
+ * A leaf of a {@link BPlusTreeSortedMap}: the keys and the values of its
+ * entries are kept in parallel arrays, and the leaves are linked in the
+ * order of the keys, so an iteration never goes back up the tree.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class BPlusTreeLeaf<K,V> extends BPlusTreeNode<K,V> {
+
+    // Values of the entries, parallel to keys.
+    final Object[] values;
+
+    // (Pointer to) the next leaf, with greater keys.
+    BPlusTreeLeaf<K,V> next;
+
+    // (Pointer to) the previous leaf, with smaller keys.
+    BPlusTreeLeaf<K,V> previous;
+
+    /**
+     * @param capacity maximum number of entries of the leaf
+     */
+    BPlusTreeLeaf(int capacity) {
+        super(capacity);
+        values = new Object[capacity];
+    }
+
+    @Override
+    boolean isLeaf() {
+        return true;
+    }
+
+    @Override
+    int size() {
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    V value(int i) {
+        return (V) values[i];
+    }
+
+    Map.Entry<K,V> entry(int i) {
+        return new Map.Entry<>(key(i), value(i));
+    }
+
+    /**
+     * Inserts the entry at position i, shifting the following ones.
+     */
+    void insert(int i, K key, V value) {
+        System.arraycopy(keys, i, keys, i + 1, count - i);
+        System.arraycopy(values, i, values, i + 1, count - i);
+        keys[i] = key;
+        values[i] = value;
+        count++;
+    }
+
+    /**
+     * Removes the entry at position i, shifting the following ones.
+     */
+    void delete(int i) {
+        System.arraycopy(keys, i + 1, keys, i, count - i - 1);
+        System.arraycopy(values, i + 1, values, i, count - i - 1);
+        count--;
+        keys[count] = null;
+        values[count] = null;
+    }
+
+    /**
+     * Moves the entries from position from onwards to the end of the other leaf.
+     */
+    void moveTo(BPlusTreeLeaf<K,V> other, int from) {
+        int moved = count - from;
+        System.arraycopy(keys, from, other.keys, other.count, moved);
+        System.arraycopy(values, from, other.values, other.count, moved);
+        other.count += moved;
+        for (int i = from; i < count; i++) {
+            keys[i] = null;
+            values[i] = null;
+        }
+        count = from;
+    }
+}
@@ -0,0 +1,42 @@
+package dataStructures;
+
+/**
+ * B+ Tree Node
+ * A node of a {@link BPlusTreeSortedMap}. Its keys are packed in an array,
+ * in increasing order, so a search in the node is a binary search over
+ * contiguous memory instead of a chain of pointers.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+abstract class BPlusTreeNode<K,V> {
+
+    // Keys of the node: keys[0..count-1] in a leaf, keys[0..count-2] in an inner node.
+    final Object[] keys;
+
+    // Number of entries (in a leaf) or of children (in an inner node).
+    int count;
+
+    BPlusTreeNode(int keyCapacity) {
+        keys = new Object[keyCapacity];
+        count = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    K key(int i) {
+        return (K) keys[i];
+    }
+
+    /**
+     * Returns true iff the node is a leaf.
+     * @return true iff the node keeps entries rather than children
+     */
+    abstract boolean isLeaf();
+
+    /**
+     * Returns the number of entries in the subtree rooted at this node.
+     * @return size of the subtree
+     */
+    abstract int size();
+}
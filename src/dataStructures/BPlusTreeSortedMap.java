@@ -0,0 +1,698 @@
+package dataStructures;
+
+import dataStructures.exceptions.EmptyMapException;
+import dataStructures.exceptions.InvalidPositionException;
+
+import java.io.*;
+
+/**
+ * B+ Tree Sorted Map
+ * Keys are ordered by their natural order or by the comparator given to the
+ * constructor (which must then be serializable).
+ * <p>
+ * Every node packs up to fanout keys (and values, in the leaves) in arrays,
+ * so a lookup visits about log_fanout(n) nodes, each searched by binary
+ * search over contiguous memory, instead of one scattered node per level.
+ * All the entries are kept in the leaves, which are linked in the order of
+ * the keys: an iteration walks the leaves without going back up the tree.
+ * Inner nodes keep the number of entries under each child, so rank, select
+ * and iteration from a position take O(log n).
+ * Every node but the root has at least fanout/2 entries or children.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+public class BPlusTreeSortedMap<K extends Comparable<K>,V> implements SortedMap<K,V>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Default maximum number of entries of a leaf and of children of an inner node.
+    public static final int DEFAULT_FANOUT = 64;
+
+    // Smallest fanout allowed (every inner node has at least two children).
+    public static final int MIN_FANOUT = 4;
+
+    // Maximum number of entries of a leaf and of children of an inner node.
+    private final int fanout;
+
+    // Order of the keys, or null for their natural order.
+    private final Comparator<? super K> comparator;
+
+    // Root of the tree (an empty leaf when the map is empty).
+    private transient BPlusTreeNode<K,V> root;
+
+    // First and last leaves, with the smallest and the largest keys.
+    private transient BPlusTreeLeaf<K,V> firstLeaf;
+    private transient BPlusTreeLeaf<K,V> lastLeaf;
+
+    // Number of entries in the map.
+    private transient int size;
+
+    // Separator of the last split: the smallest key under the new right node.
+    private transient K splitKey;
+
+    public BPlusTreeSortedMap() {
+        this(DEFAULT_FANOUT, null);
+    }
+
+    public BPlusTreeSortedMap(Comparator<? super K> comparator) {
+        this(DEFAULT_FANOUT, comparator);
+    }
+
+    /**
+     * Constructor of a map with the given fanout whose keys are ordered by the comparator.
+     * @param fanout maximum number of entries of a leaf and of children of an inner node
+     * @param comparator order of the keys (null for their natural order)
+     * @throws IllegalArgumentException if fanout is smaller than MIN_FANOUT
+     */
+    public BPlusTreeSortedMap(int fanout, Comparator<? super K> comparator) {
+        if (fanout < MIN_FANOUT)
+            throw new IllegalArgumentException("fanout < " + MIN_FANOUT);
+        this.fanout = fanout;
+        this.comparator = comparator;
+        clear();
+    }
+
+    // Makes the map empty.
+    private void clear() {
+        firstLeaf = lastLeaf = newLeaf();
+        root = firstLeaf;
+        size = 0;
+    }
+
+    // A leaf and an inner node may hold one more entry or child than fanout until they are split.
+    private BPlusTreeLeaf<K,V> newLeaf() {
+        return new BPlusTreeLeaf<>(fanout + 1);
+    }
+
+    private BPlusTreeInner<K,V> newInner() {
+        return new BPlusTreeInner<>(fanout + 1);
+    }
+
+    // Minimum number of entries of a leaf and of children of an inner node (but the root).
+    private int minCount() {
+        return fanout / 2;
+    }
+
+    // Compares two keys by the order of the map.
+    private int compare(K key1, K key2) {
+        if (comparator == null)
+            return key1.compareTo(key2);
+        return comparator.compare(key1, key2);
+    }
+
+    /**
+     * Returns the position of the key in the leaf if it is there; otherwise,
+     * returns -(insertion point + 1), where the insertion point is the number
+     * of keys of the leaf smaller than key.
+     */
+    private int search(BPlusTreeLeaf<K,V> leaf, K key) {
+        int low = 0;
+        int high = leaf.count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int cmp = compare(leaf.key(middle), key);
+            if (cmp < 0)
+                low = middle + 1;
+            else if (cmp > 0)
+                high = middle - 1;
+            else
+                return middle;
+        }
+        return -(low + 1);
+    }
+
+    // Returns the position of the child of the inner node where key belongs:
+    // the number of separators not greater than key.
+    private int childIndex(BPlusTreeInner<K,V> node, K key) {
+        int low = 0;
+        int high = node.count - 2;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (compare(node.key(middle), key) <= 0)
+                low = middle + 1;
+            else
+                high = middle - 1;
+        }
+        return low;
+    }
+
+    // Returns the leaf where key is or would be.
+    private BPlusTreeLeaf<K,V> findLeaf(K key) {
+        BPlusTreeNode<K,V> node = root;
+        while (!node.isLeaf()) {
+            BPlusTreeInner<K,V> inner = (BPlusTreeInner<K,V>) node;
+            node = inner.children[childIndex(inner, key)];
+        }
+        return (BPlusTreeLeaf<K,V>) node;
+    }
+
+    /**
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true iff the dictionary contains no entries
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of entries in the dictionary
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V get(K key) {
+        BPlusTreeLeaf<K,V> leaf = findLeaf(key);
+        int i = search(leaf, key);
+        return i >= 0 ? leaf.value(i) : null;
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     * A full leaf is split in two, which may split its ancestors.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V put(K key, V value) {
+        BPlusTreeLeaf<K,V> leaf = findLeaf(key);
+        int i = search(leaf, key);
+        if (i >= 0) {
+            V oldValue = leaf.value(i);
+            leaf.keys[i] = key;
+            leaf.values[i] = value;
+            return oldValue;
+        }
+        BPlusTreeNode<K,V> right = insert(root, key, value);
+        if (right != null) {
+            BPlusTreeInner<K,V> newRoot = newInner();
+            newRoot.children[0] = root;
+            newRoot.sizes[0] = root.size();
+            newRoot.count = 1;
+            newRoot.insert(1, splitKey, right, right.size());
+            root = newRoot;
+        }
+        size++;
+        return null;
+    }
+
+    /**
+     * Inserts the entry (whose key is not in the map) in the subtree of node.
+     * If node overflows, it is split: returns the new right node, whose
+     * separator is left in splitKey; otherwise, returns null.
+     */
+    private BPlusTreeNode<K,V> insert(BPlusTreeNode<K,V> node, K key, V value) {
+        if (node.isLeaf()) {
+            BPlusTreeLeaf<K,V> leaf = (BPlusTreeLeaf<K,V>) node;
+            leaf.insert(-(search(leaf, key) + 1), key, value);
+            return leaf.count > fanout ? splitLeaf(leaf) : null;
+        }
+        BPlusTreeInner<K,V> inner = (BPlusTreeInner<K,V>) node;
+        int i = childIndex(inner, key);
+        BPlusTreeNode<K,V> right = insert(inner.children[i], key, value);
+        inner.sizes[i]++;
+        if (right == null)
+            return null;
+        int rightSize = right.size();
+        inner.sizes[i] -= rightSize;
+        inner.insert(i + 1, splitKey, right, rightSize);
+        return inner.count > fanout ? splitInner(inner) : null;
+    }
+
+    // Moves the upper half of the leaf to a new leaf, linked after it.
+    private BPlusTreeLeaf<K,V> splitLeaf(BPlusTreeLeaf<K,V> leaf) {
+        BPlusTreeLeaf<K,V> right = newLeaf();
+        leaf.moveTo(right, (leaf.count + 1) / 2);
+        right.next = leaf.next;
+        right.previous = leaf;
+        if (leaf.next != null)
+            leaf.next.previous = right;
+        else
+            lastLeaf = right;
+        leaf.next = right;
+        splitKey = right.key(0);
+        return right;
+    }
+
+    // Moves the upper half of the children of the node to a new node; the
+    // separator between the halves goes up.
+    private BPlusTreeInner<K,V> splitInner(BPlusTreeInner<K,V> inner) {
+        BPlusTreeInner<K,V> right = newInner();
+        int from = (inner.count + 1) / 2;
+        splitKey = inner.key(from - 1);
+        inner.moveTo(right, from, null);
+        return right;
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * A leaf left with too few entries borrows from a sibling or is merged
+     * with it, which may do the same to its ancestors.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    public V remove(K key) {
+        BPlusTreeLeaf<K,V> leaf = findLeaf(key);
+        int i = search(leaf, key);
+        if (i < 0)
+            return null;
+        V oldValue = leaf.value(i);
+        remove(root, key);
+        if (!root.isLeaf() && root.count == 1)
+            root = ((BPlusTreeInner<K,V>) root).children[0];
+        size--;
+        return oldValue;
+    }
+
+    // Removes the entry with the key (which is in the map) from the subtree of node.
+    private void remove(BPlusTreeNode<K,V> node, K key) {
+        if (node.isLeaf()) {
+            BPlusTreeLeaf<K,V> leaf = (BPlusTreeLeaf<K,V>) node;
+            leaf.delete(search(leaf, key));
+            return;
+        }
+        BPlusTreeInner<K,V> inner = (BPlusTreeInner<K,V>) node;
+        int i = childIndex(inner, key);
+        remove(inner.children[i], key);
+        inner.sizes[i]--;
+        if (inner.children[i].count < minCount())
+            rebalance(inner, i);
+    }
+
+    // Refills child i of the node, which has too few entries or children,
+    // from a sibling that can spare one; otherwise merges it with a sibling.
+    private void rebalance(BPlusTreeInner<K,V> parent, int i) {
+        if (i > 0 && parent.children[i - 1].count > minCount())
+            borrowFromLeft(parent, i);
+        else if (i < parent.count - 1 && parent.children[i + 1].count > minCount())
+            borrowFromRight(parent, i);
+        else if (i > 0)
+            merge(parent, i - 1);
+        else
+            merge(parent, i);
+    }
+
+    // Moves the last entry or child of child i-1 to the front of child i.
+    private void borrowFromLeft(BPlusTreeInner<K,V> parent, int i) {
+        BPlusTreeNode<K,V> left = parent.children[i - 1];
+        BPlusTreeNode<K,V> node = parent.children[i];
+        int moved;
+        if (node.isLeaf()) {
+            BPlusTreeLeaf<K,V> from = (BPlusTreeLeaf<K,V>) left;
+            BPlusTreeLeaf<K,V> to = (BPlusTreeLeaf<K,V>) node;
+            int last = from.count - 1;
+            to.insert(0, from.key(last), from.value(last));
+            from.delete(last);
+            parent.keys[i - 1] = to.keys[0];
+            moved = 1;
+        } else {
+            BPlusTreeInner<K,V> from = (BPlusTreeInner<K,V>) left;
+            BPlusTreeInner<K,V> to = (BPlusTreeInner<K,V>) node;
+            int last = from.count - 1;
+            BPlusTreeNode<K,V> child = from.children[last];
+            moved = from.sizes[last];
+            Object separator = from.keys[last - 1];
+            from.keys[last - 1] = null;
+            from.children[last] = null;
+            from.sizes[last] = 0;
+            from.count--;
+            System.arraycopy(to.keys, 0, to.keys, 1, to.count - 1);
+            System.arraycopy(to.children, 0, to.children, 1, to.count);
+            System.arraycopy(to.sizes, 0, to.sizes, 1, to.count);
+            to.keys[0] = parent.keys[i - 1];
+            to.children[0] = child;
+            to.sizes[0] = moved;
+            to.count++;
+            parent.keys[i - 1] = separator;
+        }
+        parent.sizes[i - 1] -= moved;
+        parent.sizes[i] += moved;
+    }
+
+    // Moves the first entry or child of child i+1 to the end of child i.
+    private void borrowFromRight(BPlusTreeInner<K,V> parent, int i) {
+        BPlusTreeNode<K,V> right = parent.children[i + 1];
+        BPlusTreeNode<K,V> node = parent.children[i];
+        int moved;
+        if (node.isLeaf()) {
+            BPlusTreeLeaf<K,V> from = (BPlusTreeLeaf<K,V>) right;
+            BPlusTreeLeaf<K,V> to = (BPlusTreeLeaf<K,V>) node;
+            to.insert(to.count, from.key(0), from.value(0));
+            from.delete(0);
+            parent.keys[i] = from.keys[0];
+            moved = 1;
+        } else {
+            BPlusTreeInner<K,V> from = (BPlusTreeInner<K,V>) right;
+            BPlusTreeInner<K,V> to = (BPlusTreeInner<K,V>) node;
+            moved = from.sizes[0];
+            to.keys[to.count - 1] = parent.keys[i];
+            to.children[to.count] = from.children[0];
+            to.sizes[to.count] = moved;
+            to.count++;
+            parent.keys[i] = from.keys[0];
+            System.arraycopy(from.keys, 1, from.keys, 0, from.count - 2);
+            System.arraycopy(from.children, 1, from.children, 0, from.count - 1);
+            System.arraycopy(from.sizes, 1, from.sizes, 0, from.count - 1);
+            from.count--;
+            from.keys[from.count - 1] = null;
+            from.children[from.count] = null;
+            from.sizes[from.count] = 0;
+        }
+        parent.sizes[i] += moved;
+        parent.sizes[i + 1] -= moved;
+    }
+
+    // Moves everything in child i+1 to child i and removes child i+1.
+    private void merge(BPlusTreeInner<K,V> parent, int i) {
+        BPlusTreeNode<K,V> left = parent.children[i];
+        BPlusTreeNode<K,V> right = parent.children[i + 1];
+        if (left.isLeaf()) {
+            BPlusTreeLeaf<K,V> from = (BPlusTreeLeaf<K,V>) right;
+            BPlusTreeLeaf<K,V> to = (BPlusTreeLeaf<K,V>) left;
+            from.moveTo(to, 0);
+            to.next = from.next;
+            if (from.next != null)
+                from.next.previous = to;
+            else
+                lastLeaf = to;
+        } else {
+            ((BPlusTreeInner<K,V>) right).moveTo((BPlusTreeInner<K,V>) left, 0, parent.keys[i]);
+        }
+        parent.sizes[i] += parent.sizes[i + 1];
+        parent.delete(i + 1);
+    }
+
+    /**
+     * Returns the entry with the smallest key in the dictionary.
+     *
+     * @return entry with the smallest key
+     * @throws EmptyMapException if the dictionary is empty
+     */
+    @Override
+    public Entry<K,V> minEntry() {
+        if (isEmpty())
+            throw new EmptyMapException();
+        return firstLeaf.entry(0);
+    }
+
+    /**
+     * Returns the entry with the largest key in the dictionary.
+     *
+     * @return entry with the largest key
+     * @throws EmptyMapException if the dictionary is empty
+     */
+    @Override
+    public Entry<K,V> maxEntry() {
+        if (isEmpty())
+            throw new EmptyMapException();
+        return lastLeaf.entry(lastLeaf.count - 1);
+    }
+
+    /**
+     * Returns the entry with the greatest key less than or equal to the key,
+     * or null. Keys in the leaves before the leaf of key are smaller than key,
+     * so it is in that leaf or it is the last entry of the previous one.
+     *
+     * @param key to search for
+     * @return the floor entry of key, or null
+     */
+    @Override
+    public Entry<K,V> floorEntry(K key) {
+        BPlusTreeLeaf<K,V> leaf = findLeaf(key);
+        int i = search(leaf, key);
+        if (i >= 0)
+            return leaf.entry(i);
+        int before = -(i + 1) - 1;
+        if (before >= 0)
+            return leaf.entry(before);
+        BPlusTreeLeaf<K,V> previous = leaf.previous;
+        return previous == null ? null : previous.entry(previous.count - 1);
+    }
+
+    /**
+     * Returns the entry with the least key greater than or equal to the key,
+     * or null. It is in the leaf of key or it is the first entry of the next one.
+     *
+     * @param key to search for
+     * @return the ceiling entry of key, or null
+     */
+    @Override
+    public Entry<K,V> ceilingEntry(K key) {
+        BPlusTreeLeaf<K,V> leaf = findLeaf(key);
+        int i = search(leaf, key);
+        if (i < 0)
+            i = -(i + 1);
+        if (i < leaf.count)
+            return leaf.entry(i);
+        return leaf.next == null ? null : leaf.next.entry(0);
+    }
+
+    // Returns an iterator from the ceiling of key onwards, while the entries check the condition.
+    private Iterator<Entry<K,V>> iteratorFrom(K key, Predicate<Entry<K,V>> inRange) {
+        BPlusTreeLeaf<K,V> leaf = findLeaf(key);
+        int i = search(leaf, key);
+        return new BPlusTreeIterator<>(leaf, i >= 0 ? i : -(i + 1), inRange);
+    }
+
+    /**
+     * Returns an iterator of the entries with keys in [fromKey, toKey).
+     * The first entry is found in O(log n); then the leaves are walked in order.
+     *
+     * @param fromKey low end of the keys of the iteration (inclusive)
+     * @param toKey high end of the keys of the iteration (exclusive)
+     * @return iterator of the entries with keys in [fromKey, toKey)
+     */
+    @Override
+    public Iterator<Entry<K,V>> subMap(K fromKey, K toKey) {
+        if (compare(fromKey, toKey) >= 0)
+            return new BPlusTreeIterator<>(null, 0, null);
+        return iteratorFrom(fromKey, entry -> compare(entry.key(), toKey) < 0);
+    }
+
+    /**
+     * Returns the number of keys smaller than the specified key, adding the
+     * sizes of the children passed on the way down: O(log n).
+     *
+     * @param key whose rank is to be returned
+     * @return number of keys smaller than key
+     */
+    @Override
+    public int rank(K key) {
+        int smaller = 0;
+        BPlusTreeNode<K,V> node = root;
+        while (!node.isLeaf()) {
+            BPlusTreeInner<K,V> inner = (BPlusTreeInner<K,V>) node;
+            int i = childIndex(inner, key);
+            for (int j = 0; j < i; j++)
+                smaller += inner.sizes[j];
+            node = inner.children[i];
+        }
+        int i = search((BPlusTreeLeaf<K,V>) node, key);
+        return smaller + (i >= 0 ? i : -(i + 1));
+    }
+
+    /**
+     * Returns the entry at the specified position in the order of the keys: O(log n).
+     *
+     * @param position of the entry to be returned
+     * @return entry with position smaller keys
+     * @throws InvalidPositionException if position is not valid
+     */
+    @Override
+    public Entry<K,V> select(int position) {
+        if (position < 0 || position >= size)
+            throw new InvalidPositionException();
+        return iterator(position).next();
+    }
+
+    /**
+     * Returns an iterator of the entries from the specified position; the
+     * first entry is found in O(log n).
+     *
+     * @param position of the first entry of the iteration
+     * @return iterator of the entries from position onwards
+     * @throws InvalidPositionException if position is not valid
+     */
+    @Override
+    public Iterator<Entry<K,V>> iterator(int position) {
+        if (position < 0 || position > size)
+            throw new InvalidPositionException();
+        if (position == size)
+            return new BPlusTreeIterator<>(null, 0, null);
+        BPlusTreeNode<K,V> node = root;
+        int remaining = position;
+        while (!node.isLeaf()) {
+            BPlusTreeInner<K,V> inner = (BPlusTreeInner<K,V>) node;
+            int i = 0;
+            while (remaining >= inner.sizes[i]) {
+                remaining -= inner.sizes[i];
+                i++;
+            }
+            node = inner.children[i];
+        }
+        return new BPlusTreeIterator<>((BPlusTreeLeaf<K,V>) node, remaining, null);
+    }
+
+    /**
+     * Returns an iterator of the entries in the dictionary, walking the linked leaves.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<K,V>> iterator() {
+        return new BPlusTreeIterator<>(firstLeaf, 0, null);
+    }
+
+    /**
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Iterator<V> values() {
+        return new ValuesIterator(iterator());
+    }
+
+    /**
+     * Returns an iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Iterator<K> keys() {
+        return new KeysIterator(iterator());
+    }
+
+    /**
+     * Replaces the entries of the map with the entries of an iteration sorted
+     * by the order of the map, in O(n) and with no key comparisons: the
+     * leaves are filled left to right, then each level of inner nodes is
+     * built over the one below, spreading the entries (and the children)
+     * evenly so that every node has at least fanout/2 of them.
+     * @param sorted iteration of the entries, with strictly increasing keys
+     * @param size number of entries of the iteration
+     * @pre the keys of sorted are strictly increasing and there are size of them
+     */
+    public void buildFromSorted(Iterator<Entry<K,V>> sorted, int size) {
+        clear();
+        if (size == 0)
+            return;
+        int count = (size + fanout - 1) / fanout;
+        BPlusTreeNode<K,V>[] level = newLevel(count);
+        BPlusTreeLeaf<K,V> previous = null;
+        for (int n = 0; n < count; n++) {
+            BPlusTreeLeaf<K,V> leaf = newLeaf();
+            int entries = share(size, count, n);
+            for (int i = 0; i < entries; i++) {
+                Entry<K,V> entry = sorted.next();
+                leaf.keys[i] = entry.key();
+                leaf.values[i] = entry.value();
+            }
+            leaf.count = entries;
+            leaf.previous = previous;
+            if (previous != null)
+                previous.next = leaf;
+            else
+                firstLeaf = leaf;
+            previous = leaf;
+            level[n] = leaf;
+        }
+        lastLeaf = previous;
+        while (count > 1) {
+            int parents = (count + fanout - 1) / fanout;
+            BPlusTreeNode<K,V>[] above = newLevel(parents);
+            int child = 0;
+            for (int n = 0; n < parents; n++) {
+                BPlusTreeInner<K,V> inner = newInner();
+                int children = share(count, parents, n);
+                for (int i = 0; i < children; i++, child++) {
+                    if (i > 0)
+                        inner.keys[i - 1] = firstKey(level[child]);
+                    inner.children[i] = level[child];
+                    inner.sizes[i] = level[child].size();
+                }
+                inner.count = children;
+                above[n] = inner;
+            }
+            level = above;
+            count = parents;
+        }
+        root = level[0];
+        this.size = size;
+    }
+
+    // Number of the items that go to part n when total items are spread evenly over parts.
+    private static int share(int total, int parts, int n) {
+        return total / parts + (n < total % parts ? 1 : 0);
+    }
+
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private BPlusTreeNode<K,V>[] newLevel(int count) {
+        return (BPlusTreeNode<K,V>[]) new BPlusTreeNode[count];
+    }
+
+    // Smallest key in the subtree of node.
+    private static Object firstKey(BPlusTreeNode<?,?> node) {
+        while (!node.isLeaf())
+            node = ((BPlusTreeInner<?,?>) node).children[0];
+        return node.keys[0];
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        oos.writeInt(size);
+        for (BPlusTreeLeaf<K,V> leaf = firstLeaf; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                oos.writeObject(leaf.keys[i]);
+                oos.writeObject(leaf.values[i]);
+            }
+        }
+        oos.flush();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        int size = ois.readInt();
+        ListInArray<Entry<K,V>> entries = new ListInArray<>(Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            @SuppressWarnings("unchecked")
+            K key = (K) ois.readObject();
+            @SuppressWarnings("unchecked")
+            V value = (V) ois.readObject();
+            entries.addLast(new Entry<>(key, value));
+        }
+        // writeObject wrote the entries in order, so the tree is rebuilt in O(n)
+        buildFromSorted(entries.iterator(), size);
+    }
+}
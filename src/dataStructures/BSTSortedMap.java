@@ -1,8 +1,12 @@
 package dataStructures;
 
 import dataStructures.exceptions.EmptyMapException;
+import dataStructures.exceptions.InvalidPositionException;
+
+import java.util.Spliterator;
 /**
  * Binary Search Tree Sorted Map
+ * Keys are ordered by their natural order or by the comparator given to the constructor.
  * @author AED  Team
  * @version 1.0
  * @param <K> Generic Key
@@ -10,11 +14,30 @@ import dataStructures.exceptions.EmptyMapException;
  */
 public class BSTSortedMap<K extends Comparable<K>,V> extends BTree<Map.Entry<K,V>> implements SortedMap<K,V>{
 
+    // Order of the keys, or null for their natural order.
+    protected Comparator<? super K> comparator;
+
     /**
      * Constructor
      */
     public BSTSortedMap(){
+        this(null);
+    }
+
+    /**
+     * Constructor of a map whose keys are ordered by the comparator.
+     * @param comparator order of the keys (null for their natural order)
+     */
+    public BSTSortedMap(Comparator<? super K> comparator){
         super();
+        this.comparator = comparator;
+    }
+
+    // Compares two keys by the order of the map.
+    protected int compare(K key1, K key2) {
+        if (comparator == null)
+            return key1.compareTo(key2);
+        return comparator.compare(key1, key2);
     }
     /**
      * Returns the entry with the smallest key in the dictionary.
@@ -59,11 +82,87 @@ public class BSTSortedMap<K extends Comparable<K>,V> extends BTree<Map.Entry<K,V
         return null;
     }
 
+    /**
+     * Returns the entry with the greatest key less than or equal to the key, or null.
+     * Follows one path from the root: O(height).
+     *
+     * @param key to search for
+     * @return the floor entry of key, or null
+     */
+    @Override
+    public Entry<K, V> floorEntry(K key) {
+        BTNode<Entry<K,V>> node = floorNode(key);
+        return node == null ? null : node.getElement();
+    }
+
+    /**
+     * Returns the entry with the least key greater than or equal to the key, or null.
+     * Follows one path from the root: O(height).
+     *
+     * @param key to search for
+     * @return the ceiling entry of key, or null
+     */
+    @Override
+    public Entry<K, V> ceilingEntry(K key) {
+        BTNode<Entry<K,V>> node = ceilingNode(key);
+        return node == null ? null : node.getElement();
+    }
+
+    /**
+     * Returns an iterator of the entries with keys in [fromKey, toKey).
+     * The first entry is found in O(height); then the entries are streamed in order.
+     *
+     * @param fromKey low end of the keys of the iteration (inclusive)
+     * @param toKey high end of the keys of the iteration (exclusive)
+     * @return iterator of the entries with keys in [fromKey, toKey)
+     */
+    @Override
+    public Iterator<Entry<K, V>> subMap(K fromKey, K toKey) {
+        BTNode<Entry<K,V>> first = compare(fromKey, toKey) < 0 ? ceilingNode(fromKey) : null;
+        return new InOrderIterator<>((BTNode<Entry<K,V>>) root, first, entry -> compare(entry.key(), toKey) < 0);
+    }
+
+    // Returns the node with the greatest key less than or equal to the key, or null.
+    private BTNode<Entry<K,V>> floorNode(K key) {
+        BTNode<Entry<K,V>> current = (BTNode<Entry<K,V>>) root;
+        BTNode<Entry<K,V>> floor = null;
+        while (current != null) {
+            int cmp = compare(key, current.getElement().key());
+            if (cmp == 0) {
+                return current;
+            } else if (cmp < 0) {
+                current = (BTNode<Entry<K,V>>) current.getLeftChild();
+            } else {
+                floor = current;
+                current = (BTNode<Entry<K,V>>) current.getRightChild();
+            }
+        }
+        return floor;
+    }
+
+    // Returns the node with the least key greater than or equal to the key, or null.
+    private BTNode<Entry<K,V>> ceilingNode(K key) {
+        BTNode<Entry<K,V>> current = (BTNode<Entry<K,V>>) root;
+        BTNode<Entry<K,V>> ceiling = null;
+        while (current != null) {
+            int cmp = compare(key, current.getElement().key());
+            if (cmp == 0) {
+                return current;
+            } else if (cmp < 0) {
+                ceiling = current;
+                current = (BTNode<Entry<K,V>>) current.getLeftChild();
+            } else {
+                current = (BTNode<Entry<K,V>>) current.getRightChild();
+            }
+        }
+        return ceiling;
+    }
+
     private BTNode<Entry<K,V>> getNode(K key) {
         BTNode<Entry<K,V>> current = (BTNode<Entry<K,V>>) root;
 
         while (current != null) {
-            int cmp = key.compareTo(current.getElement().key());
+            int cmp = compare(key, current.getElement().key());
             if (cmp == 0) {
                 return current;
             } else if (cmp < 0) {
@@ -100,7 +199,7 @@ public class BSTSortedMap<K extends Comparable<K>,V> extends BTree<Map.Entry<K,V
         BTNode<Entry<K,V>> parent=null;
         int cmp = 0;
         while(current!=null){
-            cmp = key.compareTo(current.getElement().key());
+            cmp = compare(key, current.getElement().key());
             parent=current;
             if(cmp==0){
                 V oldValue=current.getElement().value();
@@ -198,6 +297,68 @@ public class BSTSortedMap<K extends Comparable<K>,V> extends BTree<Map.Entry<K,V
         return new InOrderIterator<>((BTNode<Entry<K,V>>) root);
     }
 
+    /**
+     * Returns a spliterator of the entries in the dictionary, in order,
+     * which splits by subtrees.
+     *
+     * @return spliterator of the entries in the dictionary
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        BTNode<Entry<K,V>> first = isEmpty() ? null : furtherLeftElement();
+        return new TreeSpliterator<>(this, first, null, 0, currentSize);
+    }
+
+    /**
+     * Returns the number of keys in the dictionary that are smaller than the specified key.
+     * The plain tree does not know the sizes of its subtrees, so this counts
+     * the keys in order: O(n).
+     *
+     * @param key whose rank is to be returned
+     * @return number of keys smaller than key
+     */
+    @Override
+    public int rank(K key) {
+        int smaller = 0;
+        Iterator<Entry<K,V>> it = iterator();
+        while (it.hasNext() && compare(it.next().key(), key) < 0)
+            smaller++;
+        return smaller;
+    }
+
+    /**
+     * Returns the entry at the specified position in the order of the keys,
+     * walking the entries in order: O(n).
+     *
+     * @param position of the entry to be returned
+     * @return entry with position smaller keys
+     * @throws InvalidPositionException if position is not valid
+     */
+    @Override
+    public Entry<K,V> select(int position) {
+        if (position < 0 || position >= currentSize)
+            throw new InvalidPositionException();
+        return iterator(position).next();
+    }
+
+    /**
+     * Returns an iterator of the entries from the specified position,
+     * reached by walking the entries in order: O(n).
+     *
+     * @param position of the first entry of the iteration
+     * @return iterator of the entries from position onwards
+     * @throws InvalidPositionException if position is not valid
+     */
+    @Override
+    public Iterator<Entry<K,V>> iterator(int position) {
+        if (position < 0 || position > currentSize)
+            throw new InvalidPositionException();
+        BTNode<Entry<K,V>> first = isEmpty() ? null : furtherLeftElement();
+        for (int i = 0; i < position; i++)
+            first = InOrderIterator.successor(first);
+        return new InOrderIterator<>((BTNode<Entry<K,V>>) root, first);
+    }
+
     /**
      * Returns an iterator of the values in the dictionary.
      *
@@ -0,0 +1,223 @@
+package dataStructures;
+
+import dataStructures.exceptions.EmptyQueueException;
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Binary Heap (indexed)
+ * A priority queue in an array: the element at position i is not greater
+ * than the ones at positions 2i+1 and 2i+2, so the smallest element is at
+ * position 0. insert, pollMin, updateKey and remove take O(log n), moving
+ * one element up or down one path of the heap; peekMin takes O(1).
+ * <p>
+ * Every element is kept in a node that knows its position in the array (the
+ * index of the heap), which is the handle returned by insert: the element is
+ * found in O(1) when its priority changes or it is removed.
+ * The order is given by a comparator; a max heap uses it reversed.
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+public class BinaryHeap<E> implements PriorityQueue<E> {
+
+    // Default initial capacity of the array.
+    static final int DEFAULT_CAPACITY = 16;
+
+    // Nodes of the heap, in positions 0, ..., currentSize-1.
+    private BinaryHeapNode<E>[] nodes;
+
+    // Number of elements in the heap.
+    private int currentSize;
+
+    // Order of the elements: the smallest comes first.
+    private final Comparator<? super E> comparator;
+
+    // True iff the largest element comes first.
+    private final boolean maxFirst;
+
+    /**
+     * Constructor of an empty heap whose smallest element comes first.
+     * @param comparator order of the elements
+     */
+    public BinaryHeap(Comparator<? super E> comparator) {
+        this(comparator, false);
+    }
+
+    /**
+     * Constructor of an empty heap.
+     * @param comparator order of the elements
+     * @param maxFirst true for the largest element first (a max heap)
+     */
+    public BinaryHeap(Comparator<? super E> comparator, boolean maxFirst) {
+        this(DEFAULT_CAPACITY, comparator, maxFirst);
+    }
+
+    /**
+     * Constructor of an empty heap with room for capacity elements before growing.
+     * @param capacity initial capacity of the array
+     * @param comparator order of the elements
+     * @param maxFirst true for the largest element first (a max heap)
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public BinaryHeap(int capacity, Comparator<? super E> comparator, boolean maxFirst) {
+        this.nodes = (BinaryHeapNode<E>[]) new BinaryHeapNode[Math.max(1, capacity)];
+        this.currentSize = 0;
+        this.comparator = comparator;
+        this.maxFirst = maxFirst;
+    }
+
+    // True iff the node at position i must come before the one at position j.
+    private boolean before(int i, int j) {
+        int cmp = comparator.compare(nodes[i].element, nodes[j].element);
+        return maxFirst ? cmp > 0 : cmp < 0;
+    }
+
+    // Puts the node at position i, updating its index.
+    private void place(BinaryHeapNode<E> node, int i) {
+        nodes[i] = node;
+        node.index = i;
+    }
+
+    private void swap(int i, int j) {
+        BinaryHeapNode<E> node = nodes[i];
+        place(nodes[j], i);
+        place(node, j);
+    }
+
+    // Moves the node at position i up while it comes before its parent; returns its final position.
+    private int siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!before(i, parent))
+                break;
+            swap(i, parent);
+            i = parent;
+        }
+        return i;
+    }
+
+    // Moves the node at position i down while a child comes before it.
+    private void siftDown(int i) {
+        while (true) {
+            int first = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < currentSize && before(left, first))
+                first = left;
+            if (right < currentSize && before(right, first))
+                first = right;
+            if (first == i)
+                return;
+            swap(i, first);
+            i = first;
+        }
+    }
+
+    // Returns the node of the handle, checking that it is in this heap.
+    private BinaryHeapNode<E> nodeOf(PriorityQueueHandle<E> handle) {
+        if (!(handle instanceof BinaryHeapNode<E> node) || node.index == BinaryHeapNode.REMOVED
+                || node.index >= currentSize || nodes[node.index] != node)
+            throw new NoSuchElementException();
+        return node;
+    }
+
+    /**
+     * Returns true iff the heap contains no elements.
+     * @return true iff the heap is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return currentSize == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     * @return number of elements in the heap
+     */
+    @Override
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * Inserts the specified element in the heap: O(log n) (amortized, as
+     * the array doubles when full).
+     * @param element to be inserted
+     * @return handle to the element in the heap
+     */
+    @Override
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public PriorityQueueHandle<E> insert(E element) {
+        if (currentSize == nodes.length) {
+            BinaryHeapNode<E>[] larger = (BinaryHeapNode<E>[]) new BinaryHeapNode[2 * nodes.length];
+            System.arraycopy(nodes, 0, larger, 0, currentSize);
+            nodes = larger;
+        }
+        BinaryHeapNode<E> node = new BinaryHeapNode<>(element, currentSize);
+        nodes[currentSize++] = node;
+        siftUp(node.index);
+        return node;
+    }
+
+    /**
+     * Returns the element with the highest priority: O(1).
+     * @return element with the highest priority
+     * @throws EmptyQueueException if the heap is empty
+     */
+    @Override
+    public E peekMin() {
+        if (isEmpty())
+            throw new EmptyQueueException();
+        return nodes[0].element;
+    }
+
+    /**
+     * Removes and returns the element with the highest priority: O(log n).
+     * @return element with the highest priority
+     * @throws EmptyQueueException if the heap is empty
+     */
+    @Override
+    public E pollMin() {
+        if (isEmpty())
+            throw new EmptyQueueException();
+        return removeAt(0);
+    }
+
+    /**
+     * Moves the element of the handle up or down after its priority
+     * changed: O(log n).
+     * @param handle of an element in the heap
+     * @throws NoSuchElementException if the element of the handle left the heap
+     */
+    @Override
+    public void updateKey(PriorityQueueHandle<E> handle) {
+        int i = nodeOf(handle).index;
+        if (siftUp(i) == i)
+            siftDown(i);
+    }
+
+    /**
+     * Removes the element of the handle from the heap and returns it: O(log n).
+     * @param handle of an element in the heap
+     * @return element removed
+     * @throws NoSuchElementException if the element of the handle left the heap
+     */
+    @Override
+    public E remove(PriorityQueueHandle<E> handle) {
+        return removeAt(nodeOf(handle).index);
+    }
+
+    // Removes the node at position i, moving the last node to its place.
+    private E removeAt(int i) {
+        BinaryHeapNode<E> removed = nodes[i];
+        currentSize--;
+        if (i != currentSize) {
+            place(nodes[currentSize], i);
+            if (siftUp(i) == i)
+                siftDown(i);
+        }
+        nodes[currentSize] = null;
+        removed.index = BinaryHeapNode.REMOVED;
+        return removed.element;
+    }
+}
@@ -0,0 +1,37 @@
+package dataStructures;
+
+/**
+ * Binary Heap Node
+ * A package-private helper class for {@link BinaryHeap}: an element and its
+ * current position in the array of the heap, kept up to date by every move,
+ * so that the node is the handle of the element.
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+class BinaryHeapNode<E> implements PriorityQueueHandle<E> {
+
+    // Position that marks a node no longer in the heap.
+    static final int REMOVED = -1;
+
+    // Element of the node.
+    final E element;
+
+    // Position of the node in the array of the heap (REMOVED once it left).
+    int index;
+
+    BinaryHeapNode(E element, int index) {
+        this.element = element;
+        this.index = index;
+    }
+
+    @Override
+    public E getElement() {
+        return element;
+    }
+
+    @Override
+    public boolean isValid() {
+        return index != REMOVED;
+    }
+}
@@ -0,0 +1,76 @@
+package dataStructures;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Bucket Spliterator
+ * A {@link Spliterator} over the entries of the buckets [index, fence) of a
+ * {@link SepChainHashTable}, which splits in O(1) by handing the upper half
+ * of its bucket range to a new spliterator (the entries have no order).
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class BucketSpliterator<K,V> implements Spliterator<Map.Entry<K,V>> {
+
+    // Buckets of the table (null for an empty bucket).
+    private final Map<K,V>[] table;
+
+    // Next bucket to traverse and end (exclusive) of the range.
+    private int index;
+    private int fence;
+
+    // Remaining entries of the bucket being traversed, or null.
+    private Iterator<Map.Entry<K,V>> bucket;
+
+    // Estimated number of entries in the range.
+    private long estimate;
+
+    /**
+     * @param table buckets of the table
+     * @param from first bucket of the range
+     * @param to end (exclusive) of the range
+     * @param estimate number of entries in the range
+     */
+    BucketSpliterator(Map<K,V>[] table, int from, int to, long estimate) {
+        this.table = table;
+        this.index = from;
+        this.fence = to;
+        this.estimate = estimate;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Map.Entry<K,V>> action) {
+        while (bucket == null || !bucket.hasNext()) {
+            if (index >= fence)
+                return false;
+            Map<K,V> next = table[index++];
+            bucket = next == null ? null : next.iterator();
+        }
+        action.accept(bucket.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<Map.Entry<K,V>> trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (middle <= index)
+            return null;
+        BucketSpliterator<K,V> suffix = new BucketSpliterator<>(table, middle, fence, estimate >>> 1);
+        fence = middle;
+        estimate -= suffix.estimate;
+        return suffix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.DISTINCT | Spliterator.NONNULL;
+    }
+}
@@ -0,0 +1,82 @@
+package dataStructures;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Case Insensitive Equivalence
+ * Hashes and compares {@link CharSequence}s character by character, folding
+ * each character with {@link Character#toLowerCase(char)}, so that keys can
+ * be looked up whatever their case without building a lowercase copy.
+ * The hash code and the order are those of the lowercase string
+ * (hash code of {@link String}, lexicographic order).
+ *
+ * @author AED  Team
+ * @version 1.0
+ */
+public class CaseInsensitiveEquivalence implements Equivalence<CharSequence>, Comparator<CharSequence>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // The only instance.
+    public static final CaseInsensitiveEquivalence INSTANCE = new CaseInsensitiveEquivalence();
+
+    private CaseInsensitiveEquivalence() {
+    }
+
+    /**
+     * Returns the hash code of the lowercase version of the sequence.
+     *
+     * @param sequence to hash
+     * @return hash code of the sequence, ignoring case
+     */
+    public int hash(CharSequence sequence) {
+        int h = 0;
+        for (int i = 0; i < sequence.length(); i++)
+            h = 31 * h + Character.toLowerCase(sequence.charAt(i));
+        return h;
+    }
+
+    /**
+     * Returns true iff the two sequences are equal, ignoring case.
+     *
+     * @param s1 the first sequence
+     * @param s2 the second sequence
+     * @return true if s1 and s2 are equal, ignoring case
+     */
+    public boolean equivalent(CharSequence s1, CharSequence s2) {
+        int length = s1.length();
+        if (length != s2.length())
+            return false;
+        for (int i = 0; i < length; i++) {
+            if (Character.toLowerCase(s1.charAt(i)) != Character.toLowerCase(s2.charAt(i)))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Compares the two sequences lexicographically, ignoring case.
+     *
+     * @param s1 the first sequence
+     * @param s2 the second sequence
+     * @return a negative integer, zero, or a positive integer as s1
+     * is less than, equal to, or greater than s2, ignoring case
+     */
+    public int compare(CharSequence s1, CharSequence s2) {
+        int length = Math.min(s1.length(), s2.length());
+        for (int i = 0; i < length; i++) {
+            char c1 = Character.toLowerCase(s1.charAt(i));
+            char c2 = Character.toLowerCase(s2.charAt(i));
+            if (c1 != c2)
+                return c1 - c2;
+        }
+        return s1.length() - s2.length();
+    }
+
+    @Serial
+    private Object readResolve() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,72 @@
+package dataStructures;
+
+/**
+ * Char Slice
+ * A {@link CharSequence} view of a range of another character sequence.
+ * The range can be moved with {@link #select(int, int)}, so one slice can be
+ * reused to look up many substrings (e.g. the words of a comment) without
+ * copying their characters into new strings.
+ * A slice must not be kept as a map key: its contents change when the range
+ * moves. {@link #toString()} returns an independent copy.
+ *
+ * @author AED  Team
+ * @version 1.0
+ */
+public final class CharSlice implements CharSequence {
+
+    // The sequence this slice is a view of.
+    private final CharSequence source;
+
+    // Range of the source covered by the slice: [start, end).
+    private int start;
+    private int end;
+
+    public CharSlice(CharSequence source) {
+        this(source, 0, source.length());
+    }
+
+    public CharSlice(CharSequence source, int start, int end) {
+        this.source = source;
+        select(start, end);
+    }
+
+    /**
+     * Moves the slice to the range [start, end) of the source.
+     *
+     * @param start index of the first character (inclusive)
+     * @param end index after the last character (exclusive)
+     * @return this slice
+     * @throws IndexOutOfBoundsException if the range is not inside the source
+     */
+    public CharSlice select(int start, int end) {
+        if (start < 0 || end < start || end > source.length())
+            throw new IndexOutOfBoundsException();
+        this.start = start;
+        this.end = end;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= end - start)
+            throw new IndexOutOfBoundsException();
+        return source.charAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        if (from < 0 || to < from || to > end - start)
+            throw new IndexOutOfBoundsException();
+        return new CharSlice(source, start + from, start + to);
+    }
+
+    @Override
+    public String toString() {
+        return source.subSequence(start, end).toString();
+    }
+}
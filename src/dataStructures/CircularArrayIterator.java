@@ -0,0 +1,130 @@
+package dataStructures;
+
+import dataStructures.exceptions.*;
+
+/**
+ * Circular Array Iterator.
+ * Implements the {@link TwoWayIterator} interface for the elements of a
+ * {@link CircularArrayList}: counter elements stored from position first of
+ * an array with a power-of-two length, wrapping around its end.
+ * Like {@link ArrayIterator}, it iterates over the state of the list at the
+ * time of its creation.
+ *
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+class CircularArrayIterator<E> implements TwoWayIterator<E> {
+
+    // --- Fields ---
+
+    /**
+     * The underlying array of elements to iterate over.
+     */
+    private final E[] elems;
+
+    /**
+     * Array index of the first element.
+     */
+    private final int first;
+
+    /**
+     * Number of elements of the iteration.
+     */
+    private final int counter;
+
+    /**
+     * Number of elements before the cursor: next() returns element current
+     * and previous() returns element current - 1 of the iteration.
+     */
+    private int current;
+
+    // --- Constructor ---
+
+    /**
+     * Creates a new iterator for the elements of a circular array.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @param elems   array with the elements (power-of-two length).
+     * @param first   array index of the first element.
+     * @param counter number of elements.
+     */
+    public CircularArrayIterator(E[] elems, int first, int counter) {
+        this.elems = elems;
+        this.first = first;
+        this.counter = counter;
+        this.current = 0;
+    }
+
+    // --- Public Methods ---
+
+    /**
+     * Returns true if the iteration has more elements.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return {@code true} iff the iteration has more elements.
+     */
+    public boolean hasNext() {
+        return current < counter;
+    }
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return The next element in the iteration.
+     * @throws NoSuchElementException - if call is made without verifying pre-condition.
+     */
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return elems[(first + current++) & (elems.length - 1)];
+    }
+
+    /**
+     * Returns true if previous would return an element
+     * rather than throwing an exception.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return {@code true} iff the iteration has more elements in the reverse direction.
+     */
+    public boolean hasPrevious() {
+        return current > 0;
+    }
+
+    /**
+     * Returns the previous element in the iteration.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return The previous element in the iteration.
+     * @throws NoSuchElementException - if call is made without verifying pre-condition.
+     */
+    public E previous() {
+        if (!hasPrevious()) {
+            throw new NoSuchElementException();
+        }
+        return elems[(first + --current) & (elems.length - 1)];
+    }
+
+    /**
+     * Restarts the iteration in the reverse direction.
+     * After fullForward, if iteration is not empty,
+     * previous will return the last element.
+     *
+     * @apiNote Time Complexity: O(1)
+     */
+    public void fullForward() {
+        current = counter;
+    }
+
+    /**
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     *
+     * @apiNote Time Complexity: O(1)
+     */
+    public void rewind() {
+        current = 0;
+    }
+}
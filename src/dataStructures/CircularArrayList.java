@@ -0,0 +1,389 @@
+package dataStructures;
+import dataStructures.exceptions.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Spliterator;
+
+/**
+ * Circular Array List.
+ * An implementation of the {@link TwoWayList} interface using a growable
+ * circular array: the elements occupy the positions head, head+1, ...
+ * (modulo the array length), so both ends of the list can grow and shrink
+ * in O(1) without shifting elements, and there is no node per element.
+ * The array length is always a power of two, so positions wrap around
+ * with a mask instead of a division.
+ * This class is serializable.
+ *
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+public class CircularArrayList<E> implements TwoWayList<E>, Serializable {
+
+    // --- Fields ---
+
+    /**
+     * Standard serial version UID for serialization.
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default initial capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The growth factor for resizing the internal array.
+     */
+    private static final int FACTOR = 2;
+
+    /**
+     * Array of generic elements E, with a power-of-two length.
+     */
+    private transient E[] elems;
+
+    /**
+     * Position in the array of the first element.
+     */
+    private transient int head;
+
+    /**
+     * Number of elements in the list.
+     */
+    private transient int counter;
+
+    // --- Constructors ---
+
+    /**
+     * Constructor of an empty list with the default initial capacity.
+     *
+     * @apiNote Time Complexity: O(1)
+     */
+    public CircularArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor of an empty list with initial capacity.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @param dimension - initial capacity of array (rounded up to a power of two).
+     */
+    @SuppressWarnings("unchecked")
+    public CircularArrayList(int dimension) {
+        elems = (E[]) new Object[HashTable.nextPowerOfTwo(dimension)];
+        head = 0;
+        counter = 0;
+    }
+
+    // --- Status Checkers ---
+
+    /**
+     * Returns true iff the list contains no elements.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return {@code true} if list is empty
+     */
+    public boolean isEmpty() {
+        return counter == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return number of elements in the list
+     */
+    public int size() {
+        return counter;
+    }
+
+    // --- Iterators ---
+
+    /**
+     * Returns an iterator of the elements in the list (in proper sequence).
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return Iterator of the elements in the list
+     */
+    public Iterator<E> iterator() {
+        return new CircularArrayIterator<>(elems, head, counter);
+    }
+
+    /**
+     * Returns a two-way iterator of the elements in the list.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return A {@link TwoWayIterator} of the elements in the list.
+     */
+    public TwoWayIterator<E> twoWayiterator() {
+        return new CircularArrayIterator<>(elems, head, counter);
+    }
+
+    /**
+     * Returns a spliterator of the elements in the list, which splits by
+     * ranges of positions.
+     *
+     * @apiNote Time Complexity: O(1); each split also takes O(1).
+     * @return Spliterator of the elements in the list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        E[] array = elems;
+        int first = head;
+        return new IndexSpliterator<>(position -> array[(first + position) & (array.length - 1)],
+                0, counter, true, counter, Spliterator.ORDERED);
+    }
+
+    // --- Get Operations ---
+
+    /**
+     * Returns the first element of the list.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return First element in the list
+     * @throws NoSuchElementException - if size() == 0
+     */
+    public E getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return elems[head];
+    }
+
+    /**
+     * Returns the last element of the list.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return Last element in the list
+     * @throws NoSuchElementException - if size() == 0
+     */
+    public E getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return elems[slot(counter - 1)];
+    }
+
+    /**
+     * Returns the element at the specified position in the list.
+     * Range of valid positions: 0, ..., size()-1.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @param position - position of element to be returned
+     * @return Element at position
+     * @throws InvalidPositionException if position is not valid in the list
+     */
+    public E get(int position) {
+        if (position < 0 || position >= counter) {
+            throw new InvalidPositionException();
+        }
+        return elems[slot(position)];
+    }
+
+    /**
+     * Returns the position of the first occurrence of the specified element
+     * in the list, if the list contains the element.
+     * Otherwise, returns -1.
+     *
+     * @apiNote Time Complexity: O(N) (linear search)
+     * @param element - element to be searched in list
+     * @return Position of the first occurrence of the element in the list (or -1)
+     */
+    public int indexOf(E element) {
+        for (int i = 0; i < counter; i++) {
+            if (elems[slot(i)].equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // --- Add Operations ---
+
+    /**
+     * Inserts the specified element at the first position in the list.
+     *
+     * @apiNote Time Complexity: O(1) (Amortized)
+     * @param element to be inserted
+     */
+    public void addFirst(E element) {
+        if (counter == elems.length) {
+            resize(elems.length * FACTOR);
+        }
+        head = (head - 1) & (elems.length - 1);
+        elems[head] = element;
+        counter++;
+    }
+
+    /**
+     * Inserts the specified element at the last position in the list.
+     *
+     * @apiNote Time Complexity: O(1) (Amortized)
+     * @param element to be inserted
+     */
+    public void addLast(E element) {
+        if (counter == elems.length) {
+            resize(elems.length * FACTOR);
+        }
+        elems[slot(counter)] = element;
+        counter++;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in the list.
+     * The elements on the shorter side of the position are shifted by one.
+     * Range of valid positions: 0, ..., size().
+     *
+     * @apiNote Time Complexity: O(min(position, N - position)) (Amortized)
+     * @param position - position where to insert element
+     * @param element  - element to be inserted
+     * @throws InvalidPositionException - if position is not valid in the list
+     */
+    public void add(int position, E element) {
+        if (position < 0 || position > counter) {
+            throw new InvalidPositionException();
+        }
+        if (counter == elems.length) {
+            resize(elems.length * FACTOR);
+        }
+        if (position < counter - position) {
+            // Shift the elements before the position one place to the left.
+            head = (head - 1) & (elems.length - 1);
+            for (int i = 0; i < position; i++) {
+                elems[slot(i)] = elems[slot(i + 1)];
+            }
+        } else {
+            // Shift the elements from the position onwards one place to the right.
+            for (int i = counter; i > position; i--) {
+                elems[slot(i)] = elems[slot(i - 1)];
+            }
+        }
+        elems[slot(position)] = element;
+        counter++;
+    }
+
+    // --- Remove Operations ---
+
+    /**
+     * Removes and returns the element at the first position in the list.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return Element removed from the first position of the list
+     * @throws NoSuchElementException - if size() == 0
+     */
+    public E removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        E removedElement = elems[head];
+        elems[head] = null; // Help garbage collector
+        head = (head + 1) & (elems.length - 1);
+        counter--;
+        return removedElement;
+    }
+
+    /**
+     * Removes and returns the element at the last position in the list.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return Element removed from the last position of the list
+     * @throws NoSuchElementException - if size() == 0
+     */
+    public E removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        int last = slot(--counter);
+        E removedElement = elems[last];
+        elems[last] = null; // Help garbage collector
+        return removedElement;
+    }
+
+    /**
+     * Removes and returns the element at the specified position in the list.
+     * The elements on the shorter side of the position are shifted by one.
+     * Range of valid positions: 0, ..., size()-1.
+     *
+     * @apiNote Time Complexity: O(min(position, N - position))
+     * @param position - position of element to be removed
+     * @return Element removed at position
+     * @throws InvalidPositionException - if position is not valid in the list
+     */
+    public E remove(int position) {
+        if (position < 0 || position >= counter) {
+            throw new InvalidPositionException();
+        }
+        E removedElement = elems[slot(position)];
+        if (position < counter - 1 - position) {
+            // Shift the elements before the position one place to the right.
+            for (int i = position; i > 0; i--) {
+                elems[slot(i)] = elems[slot(i - 1)];
+            }
+            elems[head] = null; // Help garbage collector
+            head = (head + 1) & (elems.length - 1);
+        } else {
+            // Shift the elements after the position one place to the left.
+            for (int i = position; i < counter - 1; i++) {
+                elems[slot(i)] = elems[slot(i + 1)];
+            }
+            elems[slot(counter - 1)] = null; // Help garbage collector
+        }
+        counter--;
+        return removedElement;
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Returns the array index of the specified list position.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @param position - position in the list, 0, ..., elems.length
+     * @return Index in the array.
+     */
+    private int slot(int position) {
+        return (head + position) & (elems.length - 1);
+    }
+
+    /**
+     * Resizes the internal array to a new capacity.
+     * The elements are copied to the new array, starting at index 0.
+     *
+     * @apiNote Time Complexity: O(N)
+     * @param newCapacity The new capacity (a power of two) for the array.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int newCapacity) {
+        E[] newArray = (E[]) new Object[newCapacity];
+        int firstPart = Math.min(counter, elems.length - head);
+        System.arraycopy(elems, head, newArray, 0, firstPart);
+        System.arraycopy(elems, 0, newArray, firstPart, counter - firstPart);
+        elems = newArray;
+        head = 0;
+    }
+
+    @Serial
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+        out.defaultWriteObject();
+        out.writeInt(counter);
+        for (int i = 0; i < counter; i++) {
+            out.writeObject(elems[slot(i)]);
+        }
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int size = in.readInt();
+        this.elems = (E[]) new Object[HashTable.nextPowerOfTwo(Math.max(size, DEFAULT_CAPACITY))];
+        this.head = 0;
+        this.counter = size;
+        for (int i = 0; i < size; i++) {
+            elems[i] = (E) in.readObject();
+        }
+    }
+}
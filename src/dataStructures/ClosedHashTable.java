@@ -1,9 +1,17 @@
 package dataStructures;
 
 import java.io.Serializable;
+import java.util.Spliterator;
 
 /**
  * Closed Hash Table
+ * With incremental rehashing, growing the table does not move every entry
+ * at once: the old and the new arrays are kept side by side and each
+ * following operation moves MIGRATION_STEP slots of the old array, while
+ * get and remove look in both arrays.
+ * <p>
+ * The {@link HashStrategy} chooses the array lengths and the first position
+ * of each key; collisions are solved by linear probing from there.
  * @author AED  Team
  * @version 1.0
  * @param <K> Generic Key
@@ -20,9 +28,27 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> implements Serializable
     // removed cell
     static final Entry<?,?> REMOVED_CELL = new Entry<>(null,null);
 
+    // Number of old slots moved by each operation during an incremental rehash.
+    static final int MIGRATION_STEP = 8;
+
     // The array of entries.
     private transient Entry<K,V>[] table; // mudado p transient
 
+    // Whether the table grows by incremental rehashing.
+    private final boolean incrementalRehash;
+
+    // Hashing and equality of the keys.
+    private final Equivalence<? super K> equivalence;
+
+    // Array lengths and positions of the hash codes.
+    private final HashStrategy hashStrategy;
+
+    // Array being emptied by an incremental rehash, or null.
+    private transient Entry<K,V>[] oldTable;
+
+    // Slots of oldTable below this index were already moved (and marked as removed).
+    private transient int migrationIndex;
+
     /**
      * Constructors
      */
@@ -31,10 +57,52 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> implements Serializable
         this(DEFAULT_CAPACITY);
     }
 
-    @SuppressWarnings("unchecked")
     public ClosedHashTable( int capacity ){
+        this(capacity, false);
+    }
+
+    public ClosedHashTable( int capacity, boolean incrementalRehash ){
+        this(capacity, incrementalRehash, NaturalEquivalence.INSTANCE);
+    }
+
+    /**
+     * Creates a table whose keys are hashed and compared by the equivalence.
+     * @param capacity expected number of entries
+     * @param equivalence hashing and equality of the keys
+     */
+    public ClosedHashTable( int capacity, Equivalence<? super K> equivalence ){
+        this(capacity, false, equivalence);
+    }
+
+    /**
+     * Creates a table that maps hash codes to positions with the hash strategy.
+     * @param capacity expected number of entries
+     * @param hashStrategy array lengths and positions of the hash codes
+     */
+    public ClosedHashTable( int capacity, HashStrategy hashStrategy ){
+        this(capacity, false, NaturalEquivalence.INSTANCE, hashStrategy);
+    }
+
+    public ClosedHashTable( int capacity, boolean incrementalRehash, Equivalence<? super K> equivalence ){
+        this(capacity, incrementalRehash, equivalence, DEFAULT_HASH_STRATEGY);
+    }
+
+    /**
+     * Creates a table that, if incrementalRehash is true, spreads the work of
+     * each resize over the operations that follow it.
+     * @param capacity expected number of entries
+     * @param incrementalRehash true to use incremental rehashing
+     * @param equivalence hashing and equality of the keys
+     * @param hashStrategy array lengths and positions of the hash codes
+     */
+    @SuppressWarnings("unchecked")
+    public ClosedHashTable( int capacity, boolean incrementalRehash, Equivalence<? super K> equivalence,
+                            HashStrategy hashStrategy ){
         super(capacity);
-        int arraySize = HashTable.nextPrime((int) (capacity / IDEAL_LOAD_FACTOR));
+        this.incrementalRehash = incrementalRehash;
+        this.equivalence = equivalence;
+        this.hashStrategy = hashStrategy;
+        int arraySize = hashStrategy.tableLength((int) (capacity / IDEAL_LOAD_FACTOR));
         // Compiler gives a warning.
         table =  new Entry[arraySize];
         for ( int i = 0; i < arraySize; i++ )
@@ -43,9 +111,20 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> implements Serializable
     }
 
     //Methods for handling collisions.
-    // Returns the hash value of the specified key.
+    // Returns the hash value of the specified key (its position in the i-th probe).
     int hash( K key, int i ){
-        return Math.abs( key.hashCode() + i) % table.length;
+        return probe(home(key, table.length), i, table.length);
+    }
+
+    // Returns the first position of the key in an array with the specified length.
+    private int home( K key, int length ){
+        return hashStrategy.index(equivalence.hash(key), length);
+    }
+
+    // Returns the position of the i-th probe (0 <= i < length) from the first position.
+    private static int probe( int home, int i, int length ){
+        int index = home + i;
+        return index < length ? index : index - length;
     }
     /**
      * Linear Proving
@@ -53,13 +132,18 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> implements Serializable
      * @return the index of the table, where is the entry with the specified key, or null
      */
     int searchLinearProving(K key) {
-        for (int i = 0; i < table.length; i++) {
-            int index = hash(key, i);
-            Entry<K,V> entry = table[index];
+        return searchLinearProving(table, key);
+    }
+
+    private int searchLinearProving(Entry<K,V>[] entries, K key) {
+        int home = home(key, entries.length);
+        for (int i = 0; i < entries.length; i++) {
+            int index = probe(home, i, entries.length);
+            Entry<K,V> entry = entries[index];
             if (entry == null) {
                 return NOT_FOUND; // Key not found
             }
-            if (entry != REMOVED_CELL && entry.key().equals(key)) {
+            if (entry != REMOVED_CELL && equivalence.equivalent(entry.key(), key)) {
                 return index; // Key found
             }
         }
@@ -67,7 +151,21 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> implements Serializable
         return NOT_FOUND; 
     }
 
-    
+    /**
+     * Returns the number of slots inspected by a successful search of the key
+     * (1 if the key is in its first position), or 0 if the key is not in the table.
+     * Used to measure the length of the probe sequences.
+     * @param key to search
+     * @return number of probes needed to find the key
+     */
+    int probeLength(K key) {
+        int index = searchLinearProving(key);
+        if (index == NOT_FOUND)
+            return 0;
+        int home = home(key, table.length);
+        return (index >= home ? index - home : index - home + table.length) + 1;
+    }
+
     /**
      * If there is an entry in the dictionary whose key is the specified key,
      * returns its value; otherwise, returns null.
@@ -78,6 +176,11 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> implements Serializable
      */
     @Override
     public V get(K key) {
+        if (oldTable != null) {
+            int oldIndex = searchLinearProving(oldTable, key);
+            if (oldIndex != NOT_FOUND)
+                return oldTable[oldIndex].value();
+        }
         int index = searchLinearProving(key);
         if (index != NOT_FOUND) {
             return table[index].value();
@@ -99,57 +202,88 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> implements Serializable
      */
     @Override
     public V put(K key, V value) {
+        migrateStep();
         if (isFull())
             rehash();
 
+        if (oldTable != null) {
+            int oldIndex = searchLinearProving(oldTable, key);
+            if (oldIndex != NOT_FOUND) {
+                V oldValue = oldTable[oldIndex].value();
+                oldTable[oldIndex] = new Entry<>(key, value);
+                return oldValue;
+            }
+        }
+
         int index = searchLinearProving(key);
         if (index != NOT_FOUND) {
             V oldValue = table[index].value();
             table[index] = new Entry<>(key, value);
             return oldValue;
         }
+        insertAbsent(key, value);
+        currentSize++;
+        //TODO: Left as an exercise.//done
+        return null;
+    }
+
+    // Inserts an entry whose key is known not to be in the table,
+    // in the first free or removed cell of its probe sequence.
+    private void insertAbsent(K key, V value) {
+        int home = home(key, table.length);
         int insertionIdx = -1;
-        for (int i = 0; i < table.length; i++) {
-            int idx = hash(key, i);
-            if (table[idx] == REMOVED_CELL) {
-                if (insertionIdx == -1) {
-                    insertionIdx = idx;
-                }
-            } else if (table[idx] == null) {
-                if (insertionIdx == -1) {
-                    insertionIdx = idx;
-                }
-                break;
+        for (int i = 0; i < table.length && insertionIdx == -1; i++) {
+            int idx = probe(home, i, table.length);
+            if (table[idx] == null || table[idx] == REMOVED_CELL) {
+                insertionIdx = idx;
             }
         }
 
         table[insertionIdx] = new Entry<>(key, value);
-        currentSize++;
-        //TODO: Left as an exercise.//done
-        return null;
     }
 
-     private void rehash(){
-         Entry<K,V>[] oldTable = table;
-         int newCapacity = HashTable.nextPrime(table.length * 2);
-         table = new Entry[newCapacity];
-         currentSize = 0;
-         maxSize = (int)(newCapacity * MAX_LOAD_FACTOR);
+    @SuppressWarnings("unchecked")
+    private void rehash(){
+        completeRehash();
+        Entry<K,V>[] previousTable = table;
+        int newCapacity = hashStrategy.tableLength(table.length * 2);
+        table = new Entry[newCapacity];
+        maxSize = (int)(newCapacity * MAX_LOAD_FACTOR);
 
-         for (int i = 0; i < table.length; i++) {
-             table[i] = null;
-         }
-         for (Entry<K,V> entry : oldTable) {
-             if (entry != null && entry != REMOVED_CELL) {
-                 put(entry.key(), entry.value());
-             }
-         }
+        oldTable = previousTable;
+        migrationIndex = 0;
+        if (!incrementalRehash)
+            completeRehash();
+    }
 
+    // Moves the next MIGRATION_STEP slots of an incremental rehash in progress.
+    private void migrateStep() {
+        if (oldTable != null)
+            migrateSlots(MIGRATION_STEP);
+    }
 
- //TODO: Left as an exercise.
-     }
+    // Moves every remaining slot of a rehash in progress.
+    private void completeRehash() {
+        if (oldTable != null)
+            migrateSlots(oldTable.length);
+    }
+
+    // Moved slots are marked as removed, so that the entries still in
+    // oldTable remain reachable by linear probing.
+    @SuppressWarnings("unchecked")
+    private void migrateSlots(int count) {
+        int end = Math.min(migrationIndex + count, oldTable.length);
+        for (; migrationIndex < end; migrationIndex++) {
+            Entry<K,V> entry = oldTable[migrationIndex];
+            if (entry != null && entry != REMOVED_CELL) {
+                insertAbsent(entry.key(), entry.value());
+                oldTable[migrationIndex] = (Entry<K,V>) REMOVED_CELL;
+            }
+        }
+        if (migrationIndex == oldTable.length)
+            oldTable = null;
+    }
 
-   
     /**
      * If there is an entry in the dictionary whose key is the specified key,
      * removes it from the dictionary and returns its value;
@@ -160,7 +294,18 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> implements Serializable
      * or null if the dictionary does not an entry with that key
      */
     @Override
+    @SuppressWarnings("unchecked")
     public V remove(K key) {
+        migrateStep();
+        if (oldTable != null) {
+            int oldIndex = searchLinearProving(oldTable, key);
+            if (oldIndex != NOT_FOUND) {
+                V oldValue = oldTable[oldIndex].value();
+                oldTable[oldIndex] = (Entry<K,V>) REMOVED_CELL;
+                currentSize--;
+                return oldValue;
+            }
+        }
         int index = searchLinearProving(key);
 
         if (index == NOT_FOUND) {
@@ -178,18 +323,35 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> implements Serializable
 
     /**
      * Returns an iterator of the entries in the dictionary.
+     * A rehash in progress is completed first.
      *
      * @return iterator of the entries in the dictionary
      */
     @Override
     public Iterator<Entry<K, V>> iterator() {
-        return new FilterIterator<>(new ArrayIterator<>(table,table.length-1), m ->  m!=null && m!= REMOVED_CELL);
+        completeRehash();
+        return new FilterIterator<>(new ArrayIterator<>(table,table.length), m ->  m!=null && m!= REMOVED_CELL);
          //TODO: Left as an exercise.//done
 
     }
 
+    /**
+     * Returns a spliterator of the entries in the dictionary, which splits by
+     * ranges of slots. A rehash in progress is completed first.
+     *
+     * @return spliterator of the entries in the dictionary
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        completeRehash();
+        Entry<K,V>[] slots = table;
+        return new IndexSpliterator<>(i -> slots[i] == REMOVED_CELL ? null : slots[i],
+                0, slots.length, false, currentSize, Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
     private void writeObject(java.io.ObjectOutputStream out)
             throws java.io.IOException {
+        completeRehash();
         out.defaultWriteObject();
         out.writeInt(table.length);
         for (Entry<K,V> entry : table) {
@@ -210,6 +372,7 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> implements Serializable
         for (int i = 0; i < tableLength; i++) {
             table[i] = null;
         }
+        currentSize = 0; // the entries below are counted again by put
 
         Object key;
         while ((key = in.readObject()) != null) {
@@ -0,0 +1,100 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * An iterator over the elements of a sequence of iterators, one after the
+ * other (the concatenation of the iterations).
+ * The iterators are taken from an iteration of iterators only when the
+ * previous one is exhausted, so they can be built lazily (e.g. by a
+ * {@link TransformIterator} over a collection of lists), and no element is
+ * ever copied.
+ *
+ * @author AED Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+public class ConcatIterator<E> implements Iterator<E> {
+
+    // --- Fields ---
+
+    /**
+     * The iteration of the iterators to concatenate.
+     */
+    private final Iterator<Iterator<E>> iterators;
+
+    /**
+     * The iterator being consumed, or null when all are exhausted.
+     */
+    private Iterator<E> current;
+
+    // --- Constructor ---
+
+    /**
+     * Creates a new ConcatIterator.
+     *
+     * @apiNote Time Complexity: O(k) in the worst case, where k is the number
+     * of empty iterators before the first element.
+     * @param iterators The iteration of the iterators to concatenate.
+     */
+    public ConcatIterator(Iterator<Iterator<E>> iterators) {
+        this.iterators = iterators;
+        advanceIterator();
+    }
+
+    // --- Public Methods (from Iterator interface) ---
+
+    /**
+     * Returns true if some remaining iterator has more elements.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return {@code true} if the iteration has more elements
+     */
+    public boolean hasNext() {
+        return current != null;
+    }
+
+    /**
+     * Returns the next element of the iterator being consumed, moving on to
+     * the next non-empty iterator when it is exhausted.
+     *
+     * @apiNote Time Complexity: O(1), amortized over the empty iterators skipped.
+     * @return The next element in the iteration.
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        E element = current.next();
+        if (!current.hasNext()) {
+            advanceIterator();
+        }
+        return element;
+    }
+
+    /**
+     * Restarts the iteration by rewinding the iteration of iterators, which
+     * must then give each iterator from its start again (e.g. fresh ones).
+     */
+    public void rewind() {
+        iterators.rewind();
+        advanceIterator();
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Moves to the next iterator that has elements, or to null if there is none.
+     */
+    private void advanceIterator() {
+        current = null;
+        while (iterators.hasNext()) {
+            Iterator<E> candidate = iterators.next();
+            if (candidate.hasNext()) {
+                current = candidate;
+                break;
+            }
+        }
+    }
+}
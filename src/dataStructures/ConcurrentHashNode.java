@@ -0,0 +1,89 @@
+package dataStructures;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Concurrent Hash Node
+ * A node of a bucket list of a {@link ConcurrentSepChainHashTable}. The key
+ * and the link to the next node never change, so a reader that reaches a
+ * node always sees a well-formed list; only the value is updated in place
+ * (it is volatile, so the update is seen at once by the readers).
+ * A forwarding node (with no key) marks a bucket already
+ * moved to the table being built by a resize (nextTable), and a tree bin
+ * node (with no key either) holds a bucket converted into a tree (treeBin).
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class ConcurrentHashNode<K,V> {
+
+    // Spread hash code of the key.
+    final int hash;
+
+    // Key of the entry (null in a forwarding node).
+    final K key;
+
+    // Value of the entry.
+    volatile V value;
+
+    // (Pointer to) the next node of the bucket.
+    final ConcurrentHashNode<K,V> next;
+
+    // Table where the bucket was moved (forwarding nodes only).
+    final AtomicReferenceArray<ConcurrentHashNode<K,V>> nextTable;
+
+    // Entries of the bucket (tree bin nodes only).
+    final ConcurrentTreeBin<K,V> treeBin;
+
+    ConcurrentHashNode(int hash, K key, V value, ConcurrentHashNode<K,V> next) {
+        this.hash = hash;
+        this.key = key;
+        this.value = value;
+        this.next = next;
+        this.nextTable = null;
+        this.treeBin = null;
+    }
+
+    /**
+     * Creates a forwarding node to the table being built by a resize.
+     * @param nextTable table where the bucket was moved
+     */
+    ConcurrentHashNode(AtomicReferenceArray<ConcurrentHashNode<K,V>> nextTable) {
+        this.hash = 0;
+        this.key = null;
+        this.value = null;
+        this.next = null;
+        this.nextTable = nextTable;
+        this.treeBin = null;
+    }
+
+    /**
+     * Creates a tree bin node, which stands for a bucket converted into a tree.
+     * @param treeBin entries of the bucket
+     */
+    ConcurrentHashNode(ConcurrentTreeBin<K,V> treeBin) {
+        this.hash = 0;
+        this.key = null;
+        this.value = null;
+        this.next = null;
+        this.nextTable = null;
+        this.treeBin = treeBin;
+    }
+
+    /**
+     * Returns true iff this is a forwarding node.
+     * @return true iff the bucket was moved to nextTable
+     */
+    boolean isForwarding() {
+        return nextTable != null;
+    }
+
+    /**
+     * Returns true iff this is a tree bin node.
+     * @return true iff the entries of the bucket are in treeBin
+     */
+    boolean isTreeBin() {
+        return treeBin != null;
+    }
+}
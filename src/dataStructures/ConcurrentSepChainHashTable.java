@@ -0,0 +1,448 @@
+package dataStructures;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent SepChain Hash Table
+ * A separate chaining hash table that many threads can use at the same time.
+ * <ul>
+ * <li>Reads take no lock. The nodes of a bucket never change their key nor
+ * their link to the next node: a put adds a node at the head of the list
+ * and a remove copies the nodes before the removed one, so a reader always
+ * walks a well-formed list. Values are volatile.</li>
+ * <li>Writes lock one of STRIPES locks, chosen by the position of the bucket,
+ * so writes to buckets of different stripes do not wait for each other.</li>
+ * <li>A bucket list longer than TREEIFY_THRESHOLD is converted into a
+ * {@link ConcurrentTreeBin} (a balanced tree under a read-write lock), as
+ * {@link SepChainHashTable} does with its tree buckets, so many colliding
+ * keys cost O(log n) instead of O(n) per operation; it is converted back
+ * into a list when it shrinks below UNTREEIFY_THRESHOLD entries.</li>
+ * <li>Resizes are cooperative and do not stop the other threads: every write
+ * made while the table grows claims and moves the next TRANSFER_STRIDE
+ * buckets, so no single write pays for the whole resize. A moved bucket is
+ * marked by a forwarding node, which sends reads and writes to the new
+ * table. The thread that moves the last bucket installs the new table.</li>
+ * </ul>
+ * The array length is a power of two (at least STRIPES) and a bucket is
+ * chosen by the low bits of the spread hash code. A bucket i of a table of
+ * length n then moves to buckets i and i + n, which are guarded by the same
+ * stripe. The size is kept in a {@link LongAdder}. Iterators are weakly
+ * consistent: they never fail, and they see the entries present when they
+ * were created that were not removed before being reached.
+ * Keys are hashed and compared by an {@link Equivalence} (by default,
+ * hashCode and equals).
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+public class ConcurrentSepChainHashTable<K,V> implements Map<K,V>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // Number of write locks (a power of two, not greater than the smallest table).
+    static final int STRIPES = 64;
+
+    // A bucket list longer than this is converted into a tree bin.
+    static final int TREEIFY_THRESHOLD = SepChainHashTable.TREEIFY_THRESHOLD;
+
+    // A tree bin smaller than this is converted back into a list.
+    static final int UNTREEIFY_THRESHOLD = SepChainHashTable.UNTREEIFY_THRESHOLD;
+
+    // Number of buckets claimed at a time by a thread helping a resize.
+    static final int TRANSFER_STRIDE = 16;
+
+    // Load factor that triggers a resize.
+    static final float MAX_LOAD_FACTOR = 0.75f;
+
+    // Default expected number of entries.
+    static final int DEFAULT_CAPACITY = 50;
+
+    // The bucket lists (null for an empty bucket).
+    private transient volatile AtomicReferenceArray<ConcurrentHashNode<K,V>> table;
+
+    // Resize in progress, or null.
+    private transient AtomicReference<Transfer<K,V>> transfer;
+
+    // Number of entries, for resizing (the size may be off while writes are in flight).
+    private transient LongAdder size;
+
+    // Number of entries that triggers the next resize.
+    private transient volatile int maxSize;
+
+    // Write locks of the buckets: bucket i is guarded by locks[i & (STRIPES - 1)].
+    private transient Object[] locks;
+
+    // Hashing and equality of the keys.
+    private final Equivalence<? super K> equivalence;
+
+    /**
+     * A resize of one table into a table twice as long.
+     */
+    private static class Transfer<K,V> {
+        final AtomicReferenceArray<ConcurrentHashNode<K,V>> from;
+        final AtomicReferenceArray<ConcurrentHashNode<K,V>> to;
+        // Buckets of from below this index are not claimed yet.
+        final AtomicInteger nextIndex;
+        // Buckets of from not moved yet.
+        final AtomicInteger remaining;
+
+        Transfer(AtomicReferenceArray<ConcurrentHashNode<K,V>> from) {
+            this.from = from;
+            this.to = new AtomicReferenceArray<>(from.length() * 2);
+            this.nextIndex = new AtomicInteger(from.length());
+            this.remaining = new AtomicInteger(from.length());
+        }
+    }
+
+    public ConcurrentSepChainHashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ConcurrentSepChainHashTable(int capacity) {
+        this(capacity, NaturalEquivalence.INSTANCE);
+    }
+
+    public ConcurrentSepChainHashTable(Equivalence<? super K> equivalence) {
+        this(DEFAULT_CAPACITY, equivalence);
+    }
+
+    /**
+     * Creates a table whose keys are hashed and compared by the equivalence.
+     * @param capacity expected number of entries
+     * @param equivalence hashing and equality of the keys
+     */
+    public ConcurrentSepChainHashTable(int capacity, Equivalence<? super K> equivalence) {
+        this.equivalence = equivalence;
+        initialize(capacity);
+    }
+
+    private void initialize(int capacity) {
+        int length = Math.max(STRIPES, HashTable.nextPowerOfTwo((int) (capacity / MAX_LOAD_FACTOR) + 1));
+        table = new AtomicReferenceArray<>(length);
+        maxSize = (int) (length * MAX_LOAD_FACTOR);
+        transfer = new AtomicReference<>();
+        size = new LongAdder();
+        locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++)
+            locks[i] = new Object();
+    }
+
+    // Returns the hash code of the key, with the high bits mixed into the
+    // low ones (which choose the bucket).
+    private int spread(K key) {
+        return spread(equivalence.hash(key));
+    }
+
+    static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static int index(int hash, AtomicReferenceArray<?> table) {
+        return hash & (table.length() - 1);
+    }
+
+    private Object lockOf(int index) {
+        return locks[index & (STRIPES - 1)];
+    }
+
+    /**
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true iff the dictionary contains no entries
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of entries in the dictionary (while other threads
+     * write, the number at some moment of the call).
+     *
+     * @return number of entries in the dictionary
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null. Takes no lock.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V get(K key) {
+        int hash = spread(key);
+        AtomicReferenceArray<ConcurrentHashNode<K,V>> tab = table;
+        ConcurrentHashNode<K,V> node = tab.get(index(hash, tab));
+        while (node != null && node.isForwarding()) {
+            tab = node.nextTable;
+            node = tab.get(index(hash, tab));
+        }
+        if (node != null && node.isTreeBin())
+            return node.treeBin.get(key);
+        for (; node != null; node = node.next) {
+            if (node.hash == hash && equivalence.equivalent(node.key, key))
+                return node.value;
+        }
+        return null;
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     * Locks the stripe of the bucket of the key.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V put(K key, V value) {
+        helpTransfer();
+        int hash = spread(key);
+        AtomicReferenceArray<ConcurrentHashNode<K,V>> tab = table;
+        while (true) {
+            int i = index(hash, tab);
+            ConcurrentHashNode<K,V> first = tab.get(i);
+            if (first != null && first.isForwarding()) {
+                tab = first.nextTable;
+                continue;
+            }
+            synchronized (lockOf(i)) {
+                if (tab.get(i) != first)
+                    continue; // the bucket changed (or moved) meanwhile
+                if (first != null && first.isTreeBin()) {
+                    V oldValue = first.treeBin.put(key, value);
+                    if (oldValue != null)
+                        return oldValue;
+                } else {
+                    int length = 0;
+                    for (ConcurrentHashNode<K,V> node = first; node != null; node = node.next, length++) {
+                        if (node.hash == hash && equivalence.equivalent(node.key, key)) {
+                            V oldValue = node.value;
+                            node.value = value;
+                            return oldValue;
+                        }
+                    }
+                    ConcurrentHashNode<K,V> list = new ConcurrentHashNode<>(hash, key, value, first);
+                    tab.set(i, length + 1 > TREEIFY_THRESHOLD ? treeify(list) : list);
+                }
+            }
+            size.increment();
+            if (size.sum() > maxSize)
+                startTransfer(tab);
+            return null;
+        }
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * Locks the stripe of the bucket of the key.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    public V remove(K key) {
+        helpTransfer();
+        int hash = spread(key);
+        AtomicReferenceArray<ConcurrentHashNode<K,V>> tab = table;
+        while (true) {
+            int i = index(hash, tab);
+            ConcurrentHashNode<K,V> first = tab.get(i);
+            if (first == null)
+                return null;
+            if (first.isForwarding()) {
+                tab = first.nextTable;
+                continue;
+            }
+            V oldValue;
+            synchronized (lockOf(i)) {
+                if (tab.get(i) != first)
+                    continue; // the bucket changed (or moved) meanwhile
+                if (first.isTreeBin()) {
+                    oldValue = first.treeBin.remove(key);
+                    if (oldValue == null)
+                        return null;
+                    if (first.treeBin.size() < UNTREEIFY_THRESHOLD)
+                        tab.set(i, first.treeBin.toList());
+                    size.decrement();
+                    return oldValue;
+                }
+                ConcurrentHashNode<K,V> removed = first;
+                while (removed != null && !(removed.hash == hash && equivalence.equivalent(removed.key, key)))
+                    removed = removed.next;
+                if (removed == null)
+                    return null;
+                oldValue = removed.value;
+                tab.set(i, copyWithout(first, removed));
+            }
+            size.decrement();
+            return oldValue;
+        }
+    }
+
+    // Returns the list from first without the node removed: the nodes before
+    // it are copied, the ones after it are shared.
+    private static <K,V> ConcurrentHashNode<K,V> copyWithout(ConcurrentHashNode<K,V> first,
+                                                            ConcurrentHashNode<K,V> removed) {
+        if (first == removed)
+            return removed.next;
+        return new ConcurrentHashNode<>(first.hash, first.key, first.value, copyWithout(first.next, removed));
+    }
+
+    // Returns a tree bin node with the entries of the bucket list from first.
+    private ConcurrentHashNode<K,V> treeify(ConcurrentHashNode<K,V> first) {
+        return new ConcurrentHashNode<>(new ConcurrentTreeBin<>(first, equivalence));
+    }
+
+    // Returns the bucket of a new table with the entries of the list from
+    // first: the list itself, or a tree bin if it is too long.
+    private ConcurrentHashNode<K,V> bucketOf(ConcurrentHashNode<K,V> first, int length) {
+        return length > TREEIFY_THRESHOLD ? treeify(first) : first;
+    }
+
+    // Starts doubling the table tab, unless it was replaced or is already
+    // being resized. The writes that follow move its buckets.
+    private void startTransfer(AtomicReferenceArray<ConcurrentHashNode<K,V>> tab) {
+        if (tab != table || transfer.get() != null || tab.length() >= (1 << 30))
+            return;
+        Transfer<K,V> t = new Transfer<>(tab);
+        // A resize of tab may have ended between the check and the CAS: then
+        // tab is no longer the table, and the transfer is withdrawn
+        if (transfer.compareAndSet(null, t) && table != tab)
+            transfer.compareAndSet(t, null);
+    }
+
+    // Moves the next chunk of buckets of the resize in progress, if any.
+    // The thread that moves the last bucket installs the new table, unless
+    // the transfer was withdrawn (its table had been replaced already).
+    private void helpTransfer() {
+        Transfer<K,V> t = transfer.get();
+        if (t == null)
+            return;
+        int end;
+        do {
+            end = t.nextIndex.get();
+            if (end <= 0)
+                return;
+        } while (!t.nextIndex.compareAndSet(end, Math.max(0, end - TRANSFER_STRIDE)));
+        int start = Math.max(0, end - TRANSFER_STRIDE);
+        for (int i = start; i < end; i++)
+            moveBucket(t, i);
+        if (t.remaining.addAndGet(start - end) == 0) {
+            if (table == t.from) {
+                maxSize = (int) (t.to.length() * MAX_LOAD_FACTOR);
+                table = t.to;
+            }
+            transfer.compareAndSet(t, null);
+        }
+    }
+
+    // Splits bucket i of the old table into buckets i and i + n of the new
+    // one (new nodes, so readers of the old list or tree bin are not
+    // disturbed), then leaves a forwarding node in its place. A bucket that
+    // already holds a forwarding node was moved before and is left alone.
+    private void moveBucket(Transfer<K,V> t, int i) {
+        int n = t.from.length();
+        synchronized (lockOf(i)) {
+            ConcurrentHashNode<K,V> first = t.from.get(i);
+            if (first != null && first.isForwarding())
+                return;
+            if (first != null && first.isTreeBin())
+                first = first.treeBin.toList();
+            ConcurrentHashNode<K,V> low = null;
+            ConcurrentHashNode<K,V> high = null;
+            int lowLength = 0;
+            int highLength = 0;
+            for (ConcurrentHashNode<K,V> node = first; node != null; node = node.next) {
+                if ((node.hash & n) == 0) {
+                    low = new ConcurrentHashNode<>(node.hash, node.key, node.value, low);
+                    lowLength++;
+                } else {
+                    high = new ConcurrentHashNode<>(node.hash, node.key, node.value, high);
+                    highLength++;
+                }
+            }
+            t.to.set(i, bucketOf(low, lowLength));
+            t.to.set(i + n, bucketOf(high, highLength));
+            t.from.set(i, new ConcurrentHashNode<>(t.to));
+        }
+    }
+
+    /**
+     * Returns a weakly consistent iterator of the entries in the dictionary.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<K,V>> iterator() {
+        return new ConcurrentSepChainHashTableIterator<>(this);
+    }
+
+    // Returns the table, for the iterators.
+    AtomicReferenceArray<ConcurrentHashNode<K,V>> currentTable() {
+        return table;
+    }
+
+    /**
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Iterator<V> values() {
+        return new ValuesIterator(iterator());
+    }
+
+    /**
+     * Returns an iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Iterator<K> keys() {
+        return new KeysIterator(iterator());
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out)
+            throws java.io.IOException {
+        out.defaultWriteObject();
+        Iterator<Entry<K,V>> it = iterator();
+        while (it.hasNext()) {
+            Entry<K,V> entry = it.next();
+            out.writeObject(entry.key());
+            out.writeObject(entry.value());
+        }
+        out.writeObject(null); // End marker
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(java.io.ObjectInputStream in)
+            throws java.io.IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        initialize(DEFAULT_CAPACITY);
+        Object key;
+        while ((key = in.readObject()) != null) {
+            V value = (V) in.readObject();
+            put((K) key, value);
+        }
+    }
+}
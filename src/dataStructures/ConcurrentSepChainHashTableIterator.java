@@ -0,0 +1,104 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Concurrent SepChain Hash Table Iterator
+ * Weakly consistent: it walks the buckets of the table it started with and,
+ * for a bucket moved by a resize, the two buckets of the next table where
+ * its entries went. A tree bin is walked through a copy of its entries,
+ * taken when the iteration reaches it. It never fails while other threads write.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class ConcurrentSepChainHashTableIterator<K,V> implements Iterator<Map.Entry<K,V>> {
+
+    // A bucket still to visit.
+    private record Bucket<K,V>(AtomicReferenceArray<ConcurrentHashNode<K,V>> table, int index) {}
+
+    private final ConcurrentSepChainHashTable<K,V> map;
+
+    // Table whose buckets are walked, and the next of its buckets to visit.
+    private AtomicReferenceArray<ConcurrentHashNode<K,V>> table;
+    private int nextIndex;
+
+    // Buckets of later tables to visit before going on in table.
+    private Stack<Bucket<K,V>> pending;
+
+    // Node to return next, or null if the iteration is over.
+    private ConcurrentHashNode<K,V> current;
+
+    public ConcurrentSepChainHashTableIterator(ConcurrentSepChainHashTable<K,V> map) {
+        this.map = map;
+        this.rewind();
+    }
+
+    /**
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    public boolean hasNext() {
+        return current != null;
+    }
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    public Map.Entry<K,V> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        Map.Entry<K,V> entry = new Map.Entry<>(current.key, current.value);
+        current = current.next;
+        if (current == null)
+            advance();
+        return entry;
+    }
+
+    /**
+     * Restarts the iteration at the table the map has now.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    public void rewind() {
+        table = map.currentTable();
+        nextIndex = 0;
+        pending = new StackWithListInArray<>();
+        current = null;
+        advance();
+    }
+
+    // Moves current to the first node of the next non-empty bucket, if any.
+    private void advance() {
+        while (current == null) {
+            ConcurrentHashNode<K,V> first;
+            AtomicReferenceArray<ConcurrentHashNode<K,V>> tab;
+            int index;
+            if (!pending.isEmpty()) {
+                Bucket<K,V> bucket = pending.pop();
+                tab = bucket.table();
+                index = bucket.index();
+            } else if (nextIndex < table.length()) {
+                tab = table;
+                index = nextIndex++;
+            } else
+                return;
+            first = tab.get(index);
+            if (first != null && first.isForwarding()) {
+                AtomicReferenceArray<ConcurrentHashNode<K,V>> next = first.nextTable;
+                pending.push(new Bucket<>(next, index + tab.length()));
+                pending.push(new Bucket<>(next, index));
+            } else if (first != null && first.isTreeBin())
+                current = first.treeBin.toList();
+            else
+                current = first;
+        }
+    }
+}
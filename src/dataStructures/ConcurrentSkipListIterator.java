@@ -0,0 +1,83 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Concurrent Skip List Iterator
+ * Walks level 0 of a {@link ConcurrentSkipListSortedMap} from a given node,
+ * in the order of the keys, skipping removed entries. It is weakly
+ * consistent: it never fails while other threads write, and each entry is
+ * the one present when the iterator reached it.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class ConcurrentSkipListIterator<K,V> implements Iterator<Map.Entry<K,V>> {
+
+    // Node where the iteration starts (null for an empty iteration).
+    private final ConcurrentSkipListNode<K,V> first;
+
+    // The iteration ends at the first entry that fails the condition (null for none).
+    private final Predicate<Map.Entry<K,V>> inRange;
+
+    // Node after the next entry to return.
+    private ConcurrentSkipListNode<K,V> current;
+
+    // Next entry to return, or null if the iteration is over.
+    private Map.Entry<K,V> nextEntry;
+
+    /**
+     * @param first node where the iteration starts (null for an empty iteration)
+     * @param inRange condition of the entries of the iteration (null for none)
+     */
+    public ConcurrentSkipListIterator(ConcurrentSkipListNode<K,V> first, Predicate<Map.Entry<K,V>> inRange) {
+        this.first = first;
+        this.inRange = inRange;
+        rewind();
+    }
+
+    /**
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    public boolean hasNext() {
+        return nextEntry != null;
+    }
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    public Map.Entry<K,V> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        Map.Entry<K,V> entry = nextEntry;
+        advance();
+        return entry;
+    }
+
+    /**
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    public void rewind() {
+        current = first;
+        advance();
+    }
+
+    // Moves nextEntry to the entry of the next node still in the map.
+    private void advance() {
+        nextEntry = null;
+        while (current != null && nextEntry == null) {
+            nextEntry = current.entry();
+            current = current.next(0);
+        }
+        if (nextEntry != null && inRange != null && !inRange.check(nextEntry))
+            nextEntry = null;
+    }
+}
@@ -0,0 +1,83 @@
+package dataStructures;
+
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Concurrent Skip List Node
+ * A node of a {@link ConcurrentSkipListSortedMap}, linked at levels
+ * 0, ..., level. Each link carries a mark: a marked link means this node is
+ * being removed from that level, and the link can no longer change, so the
+ * node is unlinked by a compare-and-set on its predecessor.
+ * A null value means the entry was removed (the nodes are marked afterwards).
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class ConcurrentSkipListNode<K,V> {
+
+    // Key of the entry (null in the head of the list).
+    final K key;
+
+    // Value of the entry, or null once the entry is removed.
+    final AtomicReference<V> value;
+
+    // (Marked pointers to) the next nodes, one per level.
+    final AtomicMarkableReference<ConcurrentSkipListNode<K,V>>[] next;
+
+    @SuppressWarnings({"unchecked","rawtypes"})
+    ConcurrentSkipListNode(K key, V value, int level) {
+        this.key = key;
+        this.value = new AtomicReference<>(value);
+        this.next = (AtomicMarkableReference<ConcurrentSkipListNode<K,V>>[]) new AtomicMarkableReference[level + 1];
+        for (int i = 0; i <= level; i++)
+            next[i] = new AtomicMarkableReference<>(null, false);
+    }
+
+    /**
+     * Returns the highest level where the node is linked.
+     * @return level of the node
+     */
+    int level() {
+        return next.length - 1;
+    }
+
+    /**
+     * Returns the node after this one at the level.
+     * @param level of the link
+     * @return next node at the level, or null
+     */
+    ConcurrentSkipListNode<K,V> next(int level) {
+        return next[level].getReference();
+    }
+
+    /**
+     * Returns true iff the node is being removed (its level 0 link is marked).
+     * @return true iff the node is logically removed from the list
+     */
+    boolean isMarked() {
+        return next[0].isMarked();
+    }
+
+    /**
+     * Marks the links of every level, from the top down, so that they no
+     * longer change and the node can be unlinked. Marking twice does nothing.
+     */
+    void markAll() {
+        for (int i = level(); i >= 0; i--) {
+            AtomicMarkableReference<ConcurrentSkipListNode<K,V>> link = next[i];
+            while (!link.isMarked())
+                link.attemptMark(link.getReference(), true);
+        }
+    }
+
+    /**
+     * Returns the entry of the node, or null if it was removed.
+     * @return entry (key, value) of the node, or null
+     */
+    Map.Entry<K,V> entry() {
+        V v = value.get();
+        return v == null ? null : new Map.Entry<>(key, v);
+    }
+}
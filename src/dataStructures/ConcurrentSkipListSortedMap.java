@@ -0,0 +1,535 @@
+package dataStructures;
+
+import dataStructures.exceptions.EmptyMapException;
+import dataStructures.exceptions.InvalidPositionException;
+
+import java.io.*;
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent Skip List Sorted Map
+ * A sorted map that many threads can read and write at the same time
+ * without locks (after Herlihy and Shavit's lock-free skip list).
+ * Keys are ordered by their natural order or by the comparator given to the
+ * constructor (which must then be serializable).
+ * <p>
+ * Every node is linked at level 0 and, with probability 1/2 per level, at
+ * the levels above, so a search skips about half of the remaining nodes at
+ * each level: O(log n) expected. There are no rotations: a put links one
+ * new node, and a remove first sets the value of the node to null (the
+ * moment the entry leaves the map), then marks its links and unlinks it.
+ * Every change is a compare-and-set, retried if another thread got there
+ * first, and searches unlink the marked nodes they pass.
+ * <p>
+ * Iterators are weakly consistent: they never fail, and they see the entries
+ * present when they were created that were not removed before being reached.
+ * Rank, select and iterator(position) count the entries one by one at
+ * level 0 (O(n)): there are no subtree sizes to keep up to date.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+public class ConcurrentSkipListSortedMap<K extends Comparable<K>,V> implements SortedMap<K,V>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Highest level of a node.
+    static final int MAX_LEVEL = 31;
+
+    // Order of the keys, or null for their natural order.
+    private final Comparator<? super K> comparator;
+
+    // First node of every level (holds no entry).
+    private transient ConcurrentSkipListNode<K,V> head;
+
+    // Number of entries (the size may be off while writes are in flight).
+    private transient LongAdder size;
+
+    public ConcurrentSkipListSortedMap() {
+        this(null);
+    }
+
+    /**
+     * Constructor of a map whose keys are ordered by the comparator.
+     * @param comparator order of the keys (null for their natural order)
+     */
+    public ConcurrentSkipListSortedMap(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+        clear();
+    }
+
+    // Makes the map empty.
+    private void clear() {
+        head = new ConcurrentSkipListNode<>(null, null, MAX_LEVEL);
+        size = new LongAdder();
+    }
+
+    // Compares two keys by the order of the map.
+    private int compare(K key1, K key2) {
+        if (comparator == null)
+            return key1.compareTo(key2);
+        return comparator.compare(key1, key2);
+    }
+
+    // Returns a random level: level l with probability 1/2^(l+1).
+    private static int randomLevel() {
+        int level = Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << MAX_LEVEL));
+        return Math.min(level, MAX_LEVEL);
+    }
+
+    /**
+     * Fills preds and succs with, at each level, the last node with a key
+     * smaller than key and the node after it, unlinking the marked nodes on
+     * the way. Returns true iff succs[0] has the key.
+     */
+    private boolean find(K key, ConcurrentSkipListNode<K,V>[] preds, ConcurrentSkipListNode<K,V>[] succs) {
+        boolean[] marked = {false};
+        retry:
+        while (true) {
+            ConcurrentSkipListNode<K,V> pred = head;
+            for (int level = MAX_LEVEL; level >= 0; level--) {
+                ConcurrentSkipListNode<K,V> curr = pred.next(level);
+                while (curr != null) {
+                    ConcurrentSkipListNode<K,V> succ = curr.next[level].get(marked);
+                    if (marked[0]) {
+                        // curr is being removed: unlink it, or start over if pred changed
+                        if (!pred.next[level].compareAndSet(curr, succ, false, false))
+                            continue retry;
+                        curr = succ;
+                    } else if (compare(curr.key, key) < 0) {
+                        pred = curr;
+                        curr = succ;
+                    } else
+                        break;
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return succs[0] != null && compare(succs[0].key, key) == 0;
+        }
+    }
+
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private static <K,V> ConcurrentSkipListNode<K,V>[] newLevels() {
+        return (ConcurrentSkipListNode<K,V>[]) new ConcurrentSkipListNode[MAX_LEVEL + 1];
+    }
+
+    // Returns the node with the key (possibly removed meanwhile), or null.
+    // Only reads: the marked nodes are skipped, not unlinked.
+    private ConcurrentSkipListNode<K,V> findNode(K key) {
+        ConcurrentSkipListNode<K,V> pred = head;
+        ConcurrentSkipListNode<K,V> curr = null;
+        boolean[] marked = {false};
+        for (int level = MAX_LEVEL; level >= 0; level--) {
+            curr = pred.next(level);
+            while (curr != null) {
+                ConcurrentSkipListNode<K,V> succ = curr.next[level].get(marked);
+                if (marked[0])
+                    curr = succ;
+                else if (compare(curr.key, key) < 0) {
+                    pred = curr;
+                    curr = succ;
+                } else
+                    break;
+            }
+        }
+        return curr != null && compare(curr.key, key) == 0 ? curr : null;
+    }
+
+    /**
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true iff the dictionary contains no entries
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of entries in the dictionary (while other threads
+     * write, the number at some moment of the call).
+     *
+     * @return number of entries in the dictionary
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null. Takes no lock and writes nothing.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V get(K key) {
+        ConcurrentSkipListNode<K,V> node = findNode(key);
+        return node == null ? null : node.value.get();
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V put(K key, V value) {
+        ConcurrentSkipListNode<K,V>[] preds = newLevels();
+        ConcurrentSkipListNode<K,V>[] succs = newLevels();
+        int topLevel = randomLevel();
+        while (true) {
+            if (find(key, preds, succs)) {
+                ConcurrentSkipListNode<K,V> node = succs[0];
+                V oldValue = node.value.get();
+                while (oldValue != null) {
+                    if (node.value.compareAndSet(oldValue, value))
+                        return oldValue;
+                    oldValue = node.value.get();
+                }
+                // removed meanwhile: help unlink it and insert a new node
+                node.markAll();
+                continue;
+            }
+            ConcurrentSkipListNode<K,V> node = new ConcurrentSkipListNode<>(key, value, topLevel);
+            for (int level = 0; level <= topLevel; level++)
+                node.next[level].set(succs[level], false);
+            if (!preds[0].next[0].compareAndSet(succs[0], node, false, false))
+                continue;
+            size.increment();
+            linkLevels(node, preds, succs);
+            return null;
+        }
+    }
+
+    // Links the node, already in level 0, at its upper levels, unless it is
+    // removed meanwhile (then the search that unlinks it finds it marked).
+    private void linkLevels(ConcurrentSkipListNode<K,V> node,
+                            ConcurrentSkipListNode<K,V>[] preds, ConcurrentSkipListNode<K,V>[] succs) {
+        boolean[] marked = {false};
+        for (int level = 1; level <= node.level(); level++) {
+            while (true) {
+                ConcurrentSkipListNode<K,V> pred = preds[level];
+                ConcurrentSkipListNode<K,V> succ = succs[level];
+                ConcurrentSkipListNode<K,V> current = node.next[level].get(marked);
+                if (marked[0])
+                    return;
+                if (current != succ && !node.next[level].compareAndSet(current, succ, false, false))
+                    return; // marked meanwhile
+                if (pred.next[level].compareAndSet(succ, node, false, false))
+                    break;
+                if (!find(node.key, preds, succs) || succs[0] != node)
+                    return;
+            }
+        }
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    public V remove(K key) {
+        ConcurrentSkipListNode<K,V>[] preds = newLevels();
+        ConcurrentSkipListNode<K,V>[] succs = newLevels();
+        if (!find(key, preds, succs))
+            return null;
+        ConcurrentSkipListNode<K,V> node = succs[0];
+        V oldValue = node.value.get();
+        while (oldValue != null && !node.value.compareAndSet(oldValue, null))
+            oldValue = node.value.get();
+        node.markAll();
+        find(key, preds, succs); // unlinks the node
+        if (oldValue != null)
+            size.decrement();
+        return oldValue;
+    }
+
+    /**
+     * Returns the entry with the smallest key in the dictionary.
+     *
+     * @return entry with the smallest key
+     * @throws EmptyMapException if the dictionary is empty
+     */
+    @Override
+    public Entry<K,V> minEntry() {
+        Iterator<Entry<K,V>> it = iterator();
+        if (!it.hasNext())
+            throw new EmptyMapException();
+        return it.next();
+    }
+
+    /**
+     * Returns the entry with the largest key in the dictionary: the search
+     * goes right as far as possible at every level, then takes the last
+     * entry still in the map from there (or, if they were all removed
+     * meanwhile, from the start of level 0).
+     *
+     * @return entry with the largest key
+     * @throws EmptyMapException if the dictionary is empty
+     */
+    @Override
+    public Entry<K,V> maxEntry() {
+        ConcurrentSkipListNode<K,V> node = head;
+        for (int level = MAX_LEVEL; level > 0; level--) {
+            for (ConcurrentSkipListNode<K,V> next = node.next(level); next != null; next = node.next(level))
+                node = next;
+        }
+        Entry<K,V> last = lastEntryFrom(node);
+        if (last == null)
+            last = lastEntryFrom(head);
+        if (last == null)
+            throw new EmptyMapException();
+        return last;
+    }
+
+    // Returns the last entry still in the map at level 0 from the node, or null.
+    private Entry<K,V> lastEntryFrom(ConcurrentSkipListNode<K,V> node) {
+        Entry<K,V> last = null;
+        for (; node != null; node = node.next(0)) {
+            Entry<K,V> entry = node.entry();
+            if (entry != null)
+                last = entry;
+        }
+        return last;
+    }
+
+    /**
+     * Returns the entry with the greatest key less than or equal to the key,
+     * or null. If the node before the key is removed before its entry is
+     * read, the search is repeated.
+     *
+     * @param key to search for
+     * @return the floor entry of key, or null
+     */
+    @Override
+    public Entry<K,V> floorEntry(K key) {
+        ConcurrentSkipListNode<K,V>[] preds = newLevels();
+        ConcurrentSkipListNode<K,V>[] succs = newLevels();
+        while (true) {
+            if (find(key, preds, succs)) {
+                Entry<K,V> entry = succs[0].entry();
+                if (entry != null)
+                    return entry;
+            }
+            if (preds[0] == head)
+                return null;
+            Entry<K,V> entry = preds[0].entry();
+            if (entry != null)
+                return entry;
+        }
+    }
+
+    /**
+     * Returns the entry with the least key greater than or equal to the key,
+     * or null.
+     *
+     * @param key to search for
+     * @return the ceiling entry of key, or null
+     */
+    @Override
+    public Entry<K,V> ceilingEntry(K key) {
+        Iterator<Entry<K,V>> it = iteratorFrom(key, null);
+        return it.hasNext() ? it.next() : null;
+    }
+
+    // Returns an iterator from the ceiling of key onwards, while the entries check the condition.
+    private Iterator<Entry<K,V>> iteratorFrom(K key, Predicate<Entry<K,V>> inRange) {
+        ConcurrentSkipListNode<K,V>[] preds = newLevels();
+        ConcurrentSkipListNode<K,V>[] succs = newLevels();
+        find(key, preds, succs);
+        return new ConcurrentSkipListIterator<>(succs[0], inRange);
+    }
+
+    /**
+     * Returns an iterator of the entries with keys in [fromKey, toKey).
+     * The first entry is found in O(log n) expected; then level 0 is walked in order.
+     *
+     * @param fromKey low end of the keys of the iteration (inclusive)
+     * @param toKey high end of the keys of the iteration (exclusive)
+     * @return iterator of the entries with keys in [fromKey, toKey)
+     */
+    @Override
+    public Iterator<Entry<K,V>> subMap(K fromKey, K toKey) {
+        if (compare(fromKey, toKey) >= 0)
+            return new ConcurrentSkipListIterator<>(null, null);
+        return iteratorFrom(fromKey, entry -> compare(entry.key(), toKey) < 0);
+    }
+
+    /**
+     * Returns the number of keys smaller than the specified key, counting
+     * the entries at level 0: O(n).
+     *
+     * @param key whose rank is to be returned
+     * @return number of keys smaller than key
+     */
+    @Override
+    public int rank(K key) {
+        int smaller = 0;
+        for (ConcurrentSkipListNode<K,V> node = head.next(0); node != null && compare(node.key, key) < 0;
+             node = node.next(0)) {
+            if (node.value.get() != null)
+                smaller++;
+        }
+        return smaller;
+    }
+
+    /**
+     * Returns the entry at the specified position in the order of the keys: O(n).
+     *
+     * @param position of the entry to be returned
+     * @return entry with position smaller keys
+     * @throws InvalidPositionException if position is not valid
+     */
+    @Override
+    public Entry<K,V> select(int position) {
+        if (position < 0)
+            throw new InvalidPositionException();
+        Iterator<Entry<K,V>> it = skip(iterator(), position);
+        if (!it.hasNext())
+            throw new InvalidPositionException();
+        return it.next();
+    }
+
+    /**
+     * Returns an iterator of the entries from the specified position, after
+     * walking past the position entries before it: O(n).
+     *
+     * @param position of the first entry of the iteration
+     * @return iterator of the entries from position onwards
+     * @throws InvalidPositionException if position is not valid
+     */
+    @Override
+    public Iterator<Entry<K,V>> iterator(int position) {
+        if (position < 0 || position > size())
+            throw new InvalidPositionException();
+        return skip(iterator(), position);
+    }
+
+    // Advances the iterator by count entries (or to its end) and returns it.
+    private static <E> Iterator<E> skip(Iterator<E> it, int count) {
+        for (int i = 0; i < count && it.hasNext(); i++)
+            it.next();
+        return it;
+    }
+
+    /**
+     * Returns a weakly consistent iterator of the entries in the dictionary,
+     * walking level 0.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<K,V>> iterator() {
+        return new ConcurrentSkipListIterator<>(head, null);
+    }
+
+    /**
+     * Returns a spliterator of the entries in the dictionary, which splits off
+     * batches of the iteration (positions cost O(n) to reach here).
+     *
+     * @return spliterator of the entries in the dictionary
+     */
+    @Override
+    public Spliterator<Entry<K,V>> spliterator() {
+        return new IteratorSpliterator<>(iterator(), size(),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Iterator<V> values() {
+        return new ValuesIterator(iterator());
+    }
+
+    /**
+     * Returns an iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Iterator<K> keys() {
+        return new KeysIterator(iterator());
+    }
+
+    /**
+     * Replaces the entries of the map with the entries of an iteration sorted
+     * by the order of the map, in O(n) and with no key comparisons: each node
+     * is appended after the last node of each of its levels.
+     * Not to be called while other threads use the map.
+     * @param sorted iteration of the entries, with strictly increasing keys
+     * @param size number of entries of the iteration
+     * @pre the keys of sorted are strictly increasing and there are size of them
+     */
+    public void buildFromSorted(Iterator<Entry<K,V>> sorted, int size) {
+        clear();
+        ConcurrentSkipListNode<K,V>[] last = newLevels();
+        for (int level = 0; level <= MAX_LEVEL; level++)
+            last[level] = head;
+        for (int i = 0; i < size; i++) {
+            Entry<K,V> entry = sorted.next();
+            ConcurrentSkipListNode<K,V> node = new ConcurrentSkipListNode<>(entry.key(), entry.value(), randomLevel());
+            for (int level = 0; level <= node.level(); level++) {
+                last[level].next[level].set(node, false);
+                last[level] = node;
+            }
+        }
+        this.size.add(size);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        ListInArray<Entry<K,V>> entries = new ListInArray<>(Math.max(size(), 1));
+        Iterator<Entry<K,V>> it = iterator();
+        while (it.hasNext())
+            entries.addLast(it.next());
+        oos.writeInt(entries.size());
+        it = entries.iterator();
+        while (it.hasNext()) {
+            Entry<K,V> entry = it.next();
+            oos.writeObject(entry.key());
+            oos.writeObject(entry.value());
+        }
+        oos.flush();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        int size = ois.readInt();
+        ListInArray<Entry<K,V>> entries = new ListInArray<>(Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            @SuppressWarnings("unchecked")
+            K key = (K) ois.readObject();
+            @SuppressWarnings("unchecked")
+            V value = (V) ois.readObject();
+            entries.addLast(new Entry<>(key, value));
+        }
+        // writeObject wrote the entries in order, so the list is rebuilt in O(n)
+        buildFromSorted(entries.iterator(), size);
+    }
+}
@@ -0,0 +1,117 @@
+package dataStructures;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Concurrent Tree Bin
+ * A bucket of a {@link ConcurrentSepChainHashTable} that grew past
+ * TREEIFY_THRESHOLD entries: a {@link TreeBucket}, so that many colliding
+ * keys cost O(log n) instead of O(n) per operation. The tree is rebalanced in
+ * place, so it is guarded by a read-write lock: reads of the bin share it,
+ * writes (which already hold the stripe lock of the bucket) take it alone.
+ * Only overflowing buckets pay for the lock; reads of list buckets take none.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class ConcurrentTreeBin<K,V> {
+
+    // The entries of the bucket.
+    private final TreeBucket<K,V> tree;
+
+    // Hashing and equality of the keys.
+    private final Equivalence<? super K> equivalence;
+
+    private final ReentrantReadWriteLock lock;
+
+    /**
+     * Creates a tree bin with the entries of a bucket list.
+     * @param first first node of the bucket list
+     * @param equivalence hashing and equality of the keys
+     */
+    ConcurrentTreeBin(ConcurrentHashNode<K,V> first, Equivalence<? super K> equivalence) {
+        this.tree = new TreeBucket<>(equivalence);
+        this.equivalence = equivalence;
+        this.lock = new ReentrantReadWriteLock();
+        for (ConcurrentHashNode<K,V> node = first; node != null; node = node.next)
+            tree.put(node.key, node.value);
+    }
+
+    /**
+     * Returns the number of entries in the bin.
+     * @return number of entries in the bin
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the value of the key in the bin, or null.
+     * @param key whose associated value is to be returned
+     * @return value of the key, or null if the bin does not have it
+     */
+    V get(K key) {
+        lock.readLock().lock();
+        try {
+            return tree.get(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Associates the value with the key in the bin.
+     * @param key with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key, or null
+     */
+    V put(K key, V value) {
+        lock.writeLock().lock();
+        try {
+            return tree.put(key, value);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the key from the bin.
+     * @param key whose entry is to be removed
+     * @return previous value associated with key, or null
+     */
+    V remove(K key) {
+        lock.writeLock().lock();
+        try {
+            return tree.remove(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a bucket list with the entries of the bin (new nodes, with
+     * the spread hash codes of the table), as they are at the call.
+     * @return first node of the list, or null if the bin is empty
+     */
+    ConcurrentHashNode<K,V> toList() {
+        lock.readLock().lock();
+        try {
+            ConcurrentHashNode<K,V> first = null;
+            Iterator<Map.Entry<K,V>> it = tree.iterator();
+            while (it.hasNext()) {
+                Map.Entry<K,V> entry = it.next();
+                int hash = ConcurrentSepChainHashTable.spread(equivalence.hash(entry.key()));
+                first = new ConcurrentHashNode<>(hash, entry.key(), entry.value(), first);
+            }
+            return first;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
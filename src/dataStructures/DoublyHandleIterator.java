@@ -0,0 +1,71 @@
+package dataStructures;
+import dataStructures.exceptions.*;
+
+/**
+ * Iterator of the {@link ListHandle}s of a Doubly Linked List,
+ * from the head (first node) to the tail (last node).
+ * Used to rebuild the maps from elements to handles kept by the owners
+ * of a list, for instance after the list is deserialized.
+ *
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+class DoublyHandleIterator<E> implements Iterator<ListHandle<E>> {
+
+    /**
+     * Node with the first element in the iteration.
+     */
+    private final DoublyListNode<E> firstNode;
+
+    /**
+     * Node to be returned by {@link #next()}.
+     */
+    private DoublyListNode<E> nextToReturn;
+
+    /**
+     * DoublyHandleIterator constructor.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @param first - Node with the first element of the iteration.
+     */
+    public DoublyHandleIterator(DoublyListNode<E> first) {
+        this.firstNode = first;
+        this.nextToReturn = first;
+    }
+
+    /**
+     * Returns true if the iteration has more handles.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return {@code true} iff the iteration has more handles.
+     */
+    public boolean hasNext( ) {
+        return nextToReturn != null;
+    }
+
+    /**
+     * Returns the next handle in the iteration and advances the iterator.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return The next handle in the iteration.
+     * @throws NoSuchElementException - if call is made without verifying pre-condition.
+     */
+    public ListHandle<E> next( ){
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        DoublyListNode<E> node = nextToReturn;
+        nextToReturn = nextToReturn.getNext();
+        return node;
+    }
+
+    /**
+     * Restarts the iterator to the beginning of the list.
+     *
+     * @apiNote Time Complexity: O(1)
+     */
+    public void rewind(){
+        this.nextToReturn = this.firstNode;
+    }
+}
@@ -102,6 +102,16 @@ public class DoublyLinkedList<E> implements TwoWayList<E>, Serializable {
         return new DoublyIterator<>(head);
     }
 
+    /**
+     * Returns an iterator of the handles of the elements in the list (in proper sequence).
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return An {@link Iterator} of the handles of the elements in the list.
+     */
+    public Iterator<ListHandle<E>> handleIterator() {
+        return new DoublyHandleIterator<>(head);
+    }
+
     // --- Add Operations ---
 
     /**
@@ -111,6 +121,18 @@ public class DoublyLinkedList<E> implements TwoWayList<E>, Serializable {
      * @param element - Element to be inserted.
      */
     public void addFirst(E element) {
+        addFirstHandle(element);
+    }
+
+    /**
+     * Inserts the element at the first position in the list
+     * and returns the handle of its node, for {@link #remove(ListHandle)}.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @param element - Element to be inserted.
+     * @return Handle of the inserted element.
+     */
+    public ListHandle<E> addFirstHandle(E element) {
         DoublyListNode<E> newNode = new DoublyListNode<>(element);
         if (isEmpty()) {
             tail = newNode;
@@ -121,6 +143,7 @@ public class DoublyLinkedList<E> implements TwoWayList<E>, Serializable {
             head = newNode;
         }
         currentSize++;
+        return newNode;
         //TODO: Left as an exercise. //done
     }
 
@@ -131,6 +154,18 @@ public class DoublyLinkedList<E> implements TwoWayList<E>, Serializable {
      * @param element - Element to be inserted.
      */
     public void addLast(E element) {
+        addLastHandle(element);
+    }
+
+    /**
+     * Inserts the element at the last position in the list
+     * and returns the handle of its node, for {@link #remove(ListHandle)}.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @param element - Element to be inserted.
+     * @return Handle of the inserted element.
+     */
+    public ListHandle<E> addLastHandle(E element) {
         DoublyListNode<E> newNode = new DoublyListNode<>(element);
         if (isEmpty()) {
             tail = newNode;
@@ -141,6 +176,7 @@ public class DoublyLinkedList<E> implements TwoWayList<E>, Serializable {
             tail = newNode;
         }
         currentSize++;
+        return newNode;
         //TODO: Left as an exercise.//done
     }
 
@@ -337,6 +373,41 @@ public class DoublyLinkedList<E> implements TwoWayList<E>, Serializable {
         }
     }
 
+    /**
+     * Removes and returns the element of the specified handle,
+     * which was returned by this list and whose element was not removed yet.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @param handle - handle of the element to be removed.
+     * @return Element removed.
+     * @throws InvalidPositionException - if handle is not a handle of an element of the list.
+     */
+    public E remove(ListHandle<E> handle) {
+        if (!(handle instanceof DoublyListNode<E> node)) {
+            throw new InvalidPositionException();
+        }
+        DoublyListNode<E> previous = node.getPrevious();
+        DoublyListNode<E> next = node.getNext();
+        // An unlinked (removed) node has no neighbours and is neither the head nor the tail.
+        if ((previous == null && head != node) || (next == null && tail != node)) {
+            throw new InvalidPositionException();
+        }
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        node.setPrevious(null);
+        node.setNext(null);
+        currentSize--;
+        return node.getElement();
+    }
+
     @Serial
     private void writeObject(ObjectOutputStream oos) throws IOException {
         oos.defaultWriteObject();
@@ -15,7 +15,7 @@ import java.io.Serializable;
  * @version 1.0
  * @param <E> Generic Element
  */
-class DoublyListNode<E> implements Serializable {
+class DoublyListNode<E> implements ListHandle<E>, Serializable {
     private static final long serialVersionUID = 1L;
 
         // --- Fields ---
@@ -0,0 +1,44 @@
+package dataStructures;
+
+/**
+ * Equivalence interface.
+ * Defines how the keys of a hash table are hashed and compared, so that a
+ * table can use a notion of key equality other than equals/hashCode
+ * (for instance, strings that differ only in case).
+ *
+ * @author AED  Team
+ * @version 1.0
+ * @param <T> Generic Element
+ */
+public interface Equivalence<T> {
+
+    /**
+     * Returns the hash code of the element.
+     * Equivalent elements must have the same hash code.
+     *
+     * @param element to hash
+     * @return hash code of the element
+     */
+    int hash(T element);
+
+    /**
+     * Returns true iff the two elements are equivalent.
+     *
+     * @param e1 the first element
+     * @param e2 the second element
+     * @return true if e1 and e2 are equivalent
+     */
+    boolean equivalent(T e1, T e2);
+
+    /**
+     * Compares two elements with the same hash code, to order the entries of
+     * a tree bucket. Returns zero for equivalent elements, and may also return
+     * zero for elements that the equivalence cannot order.
+     *
+     * @param e1 the first element
+     * @param e2 the second element
+     * @return a negative integer, zero, or a positive integer as e1
+     * is less than, not ordered with, or greater than e2
+     */
+    int compare(T e1, T e2);
+}
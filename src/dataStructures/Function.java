@@ -0,0 +1,19 @@
+package dataStructures;
+
+/**
+ * Function Abstract Data Type
+ * Includes description of general methods for a function from elements
+ * of one type to elements of another.
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ * @param <R> Generic Result
+ */
+public interface Function<E,R> {
+    /**
+     * Returns the result of applying the function to the element.
+     * @param elem the element
+     * @return the result of the function for elem
+     */
+    R apply(E elem);
+}
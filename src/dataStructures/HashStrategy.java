@@ -0,0 +1,32 @@
+package dataStructures;
+
+/**
+ * Hash Strategy interface.
+ * Defines how a hash table turns the hash code of a key into a position of
+ * its array, and which array lengths it uses (e.g. primes with a division, or
+ * powers of two with a bit-mixing function and a mask).
+ *
+ * @author AED  Team
+ * @version 1.0
+ */
+public interface HashStrategy {
+
+    /**
+     * Returns the length of the array of a table that needs at least the
+     * specified number of positions.
+     *
+     * @param minimumLength minimum number of positions
+     * @return array length to use, not less than minimumLength
+     */
+    int tableLength(int minimumLength);
+
+    /**
+     * Returns the position of a hash code in an array with the specified
+     * length, which was obtained from {@link #tableLength(int)}.
+     *
+     * @param hashCode hash code of the key
+     * @param tableLength length of the array
+     * @return position in the range 0, ..., tableLength - 1
+     */
+    int index(int hashCode, int tableLength);
+}
@@ -15,6 +15,9 @@ import java.io.Serializable;
      // Default size of the hash table.
      static final int DEFAULT_CAPACITY = 50;
 
+     // Default mapping of hash codes to positions of the table.
+     static final HashStrategy DEFAULT_HASH_STRATEGY = StandardHashStrategy.FIBONACCI;
+
      // Number of entries in the hash table.
      protected int currentSize;
 
@@ -29,21 +32,16 @@ import java.io.Serializable;
          size=capacity;
      }
 
-     // Public Static Methods
-
-     // Returns the hash code of the specified key,
-     // which is an integer in the range 0, ..., b-1.
-     public static int hash( String key ){
-
-         int a = 127; // a is a prime number.
-         int b = 2147483647; // b is a prime number.
-         int hashCode = 0;
+     // Protected Static Methods
 
-         for ( int i = 0; i < key.length(); i++ )
-             hashCode = ( hashCode * a + key.charAt(i) ) % b;
-         return hashCode;
+     // Returns the smallest power of two (at least 2) that is not less than the
+     // specified number, or 2^30 if the number is greater than that.
+     protected static int nextPowerOfTwo( int number ){
+         int n = 2;
+         while (n < number && n < (1 << 30))
+             n <<= 1;
+         return n;
      }
-     // Protected Static Methods
 
      // Returns a prime number that is not less than the
      // specified number; or zero if all such primes are greater
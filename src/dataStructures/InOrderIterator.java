@@ -20,6 +20,22 @@ public class InOrderIterator<E> implements Iterator<E> {
      */
     private BTNode<E> root;
 
+    /**
+     * Node with the first element of the iteration, if it does not start at the smallest one.
+     */
+    private BTNode<E> first;
+
+    /**
+     * True iff the iteration starts at node first.
+     */
+    private boolean startsAtFirst;
+
+    /**
+     * Condition of the elements of the iteration, which ends at the first
+     * element that does not check it (null for no condition).
+     */
+    private Predicate<E> inRange;
+
     /**
      *
      * @param root
@@ -29,6 +45,30 @@ public class InOrderIterator<E> implements Iterator<E> {
         rewind();
     }
 
+    /**
+     * Iterator of the elements of the tree from the element of node first onwards.
+     * @param root of the tree
+     * @param first node with the first element of the iteration (null for an empty iteration)
+     */
+    InOrderIterator(BTNode<E> root, BTNode<E> first) {
+        this(root, first, null);
+    }
+
+    /**
+     * Iterator of the elements of the tree from the element of node first
+     * onwards, while they check the condition.
+     * @param root of the tree
+     * @param first node with the first element of the iteration (null for an empty iteration)
+     * @param inRange condition of the elements of the iteration (null for no condition)
+     */
+    InOrderIterator(BTNode<E> root, BTNode<E> first, Predicate<E> inRange) {
+        this.root=root;
+        this.first=first;
+        this.startsAtFirst=true;
+        this.inRange=inRange;
+        rewind();
+    }
+
     /**
      * Returns true if next would return an element
      * rather than throwing an exception.
@@ -37,7 +77,7 @@ public class InOrderIterator<E> implements Iterator<E> {
      */
     @Override
     public boolean hasNext() {
-        return next!=null;
+        return next!=null && (inRange==null || inRange.check(next.getElement()));
     }
 
     /**
@@ -56,29 +96,38 @@ public class InOrderIterator<E> implements Iterator<E> {
     }
 
     private void advance() {
-        if (next.getRightChild()!=null){
-            next = ((BTNode<E>)next.getRightChild()).furtherLeftElement();
-        }
-        else {
-            BTNode<E> current = next;
-            BTNode<E> parent = (BTNode<E>) current.getParent();
-            while (parent != null && current == parent.getRightChild()) {
-                current = parent;
-                parent = (BTNode<E>) parent.getParent();
-            }
-            next = parent;
-        }
+        next = successor(next);
         //TODO: Left as an exercise.//done
 
     }
 
+    /**
+     * Returns the node that follows the specified node in order, or null if it is the last one.
+     * @param node a node of the tree
+     * @return the in-order successor of node
+     */
+    static <E> BTNode<E> successor(BTNode<E> node) {
+        if (node.getRightChild()!=null){
+            return ((BTNode<E>)node.getRightChild()).furtherLeftElement();
+        }
+        BTNode<E> current = node;
+        BTNode<E> parent = (BTNode<E>) current.getParent();
+        while (parent != null && current == parent.getRightChild()) {
+            current = parent;
+            parent = (BTNode<E>) parent.getParent();
+        }
+        return parent;
+    }
+
 
     /**
      * Restarts the iteration.
      * After rewind, if the iteration is not empty, next will return the first element.
      */
     public void rewind() {
-        if (root==null)
+        if (startsAtFirst)
+            next=first;
+        else if (root==null)
             next=null;
         else
             next=root.furtherLeftElement();
@@ -0,0 +1,95 @@
+package dataStructures;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Index Spliterator
+ * A {@link Spliterator} over the positions [index, fence) of an array-based
+ * structure, which splits in O(1) by halving the range of positions.
+ * The element at each position is given by a function: in a dense
+ * structure (a list) every position holds an element, and the sizes are
+ * exact; in a sparse one (an open addressing table) a position may be
+ * free, the function then gives null, and the sizes are estimates.
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+class IndexSpliterator<E> implements Spliterator<E> {
+
+    // Element at each position (null for a free position of a sparse structure).
+    private final IntFunction<E> elementAt;
+
+    // Next position to traverse and end (exclusive) of the range.
+    private int index;
+    private final int fence;
+
+    // True iff every position holds an element.
+    private final boolean dense;
+
+    // Estimated number of elements in the range (sparse structures only).
+    private long estimate;
+
+    // Characteristics of the elements.
+    private final int characteristics;
+
+    /**
+     * @param elementAt element at each position
+     * @param from first position of the range
+     * @param to end (exclusive) of the range
+     * @param dense true iff every position holds an element
+     * @param estimate number of elements in the range (ignored if dense)
+     * @param characteristics characteristics of the elements (e.g. ORDERED)
+     */
+    IndexSpliterator(IntFunction<E> elementAt, int from, int to, boolean dense, long estimate, int characteristics) {
+        this.elementAt = elementAt;
+        this.index = from;
+        this.fence = to;
+        this.dense = dense;
+        this.estimate = estimate;
+        this.characteristics = dense ? characteristics | Spliterator.SIZED | Spliterator.SUBSIZED : characteristics;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        while (index < fence) {
+            E element = elementAt.apply(index++);
+            if (dense || element != null) {
+                action.accept(element);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        while (index < fence) {
+            E element = elementAt.apply(index++);
+            if (dense || element != null)
+                action.accept(element);
+        }
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (middle <= index)
+            return null;
+        IndexSpliterator<E> prefix = new IndexSpliterator<>(elementAt, index, middle, dense, estimate >>> 1, characteristics);
+        index = middle;
+        estimate -= prefix.estimate;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return dense ? fence - index : estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
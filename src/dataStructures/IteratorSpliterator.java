@@ -0,0 +1,89 @@
+package dataStructures;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Iterator Spliterator
+ * A {@link Spliterator} over the elements of an {@link Iterator}, for
+ * collections that cannot split their elements by position. Each split
+ * copies the next batch of elements of the iteration into an array (a
+ * little larger every time) and hands that array to the new spliterator,
+ * so the work can still be shared by several threads.
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+class IteratorSpliterator<E> implements Spliterator<E> {
+
+    // Growth of the batch of elements taken by each split.
+    static final int BATCH_UNIT = 1 << 10;
+
+    // Largest batch of elements taken by a split.
+    static final int MAX_BATCH = 1 << 25;
+
+    // Elements not yet traversed nor split off.
+    private final Iterator<E> iterator;
+
+    // Number of elements left in the iteration.
+    private long estimate;
+
+    // Characteristics of the spliterator (SIZED and SUBSIZED are added).
+    private final int characteristics;
+
+    // Size of the last batch split off.
+    private int batch;
+
+    /**
+     * @param iterator iteration of the elements, not started
+     * @param size number of elements of the iteration
+     * @param characteristics characteristics of the elements (e.g. ORDERED)
+     */
+    IteratorSpliterator(Iterator<E> iterator, int size, int characteristics) {
+        this.iterator = iterator;
+        this.estimate = size;
+        this.characteristics = characteristics | Spliterator.SIZED | Spliterator.SUBSIZED;
+        this.batch = 0;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        if (!iterator.hasNext())
+            return false;
+        estimate--;
+        action.accept(iterator.next());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        while (iterator.hasNext())
+            action.accept(iterator.next());
+        estimate = 0;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        if (estimate <= 1 || !iterator.hasNext())
+            return null;
+        int n = (int) Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), estimate);
+        Object[] elements = new Object[n];
+        int count = 0;
+        while (count < n && iterator.hasNext())
+            elements[count++] = iterator.next();
+        batch = count;
+        estimate -= count;
+        return Spliterators.spliterator(elements, 0, count, characteristics);
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
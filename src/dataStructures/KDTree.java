@@ -0,0 +1,325 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * K-d Tree (2-d)
+ * A set of elements at points of the plane (long coordinates), split
+ * alternately by x and by y: a node at an even depth has the points with x
+ * not greater than its own on the left and not smaller on the right; at an
+ * odd depth the same holds for y. A nearest point query visits a subtree only
+ * if the distance to its splitting line is not larger than the best distance
+ * found so far, so it visits O(log n) nodes for points spread over the plane,
+ * instead of all of them.
+ * <p>
+ * The tree stays balanced as a scapegoat tree does: when an insertion lands
+ * deeper than log(n) / log(1 / ALPHA), the lowest ancestor whose subtree is
+ * out of balance is rebuilt, split at medians, in time linear in its size;
+ * insert takes O(log n) amortized. A removal only marks the node (found in
+ * O(1) through the handle returned by insert); the whole tree is rebuilt
+ * without the marked nodes when they outnumber the others.
+ * <p>
+ * The same splitting lines answer range queries: a rectangle is searched
+ * only in the subtrees on the sides of the lines it reaches.
+ * <p>
+ * Distances are Manhattan distances: |x1 - x2| + |y1 - y2|.
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+public class KDTree<E> {
+
+    // Largest fraction of the nodes of a subtree in one of its children.
+    private static final double ALPHA = 0.7;
+
+    // log(1 / ALPHA), the base of the largest depth of a node.
+    private static final double LOG_INVERSE_ALPHA = Math.log(1 / ALPHA);
+
+    // Root of the tree.
+    private KDTreeNode<E> root;
+
+    // Number of elements in the tree.
+    private int currentSize;
+
+    // Number of removed nodes still in the tree.
+    private int removedCount;
+
+    // Order of the next inserted node.
+    private long nextOrder;
+
+    // Nodes from the root to the last inserted one.
+    private KDTreeNode<E>[] path;
+
+    // The nodes at the smallest distance found by a search, and that distance.
+    private static class Nearest<E> {
+        long distance = Long.MAX_VALUE;
+        BinaryHeap<KDTreeNode<E>> nodes = new BinaryHeap<>(KDTree::byOrder);
+    }
+
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public KDTree() {
+        this.root = null;
+        this.currentSize = 0;
+        this.removedCount = 0;
+        this.nextOrder = 0;
+        this.path = (KDTreeNode<E>[]) new KDTreeNode[16];
+    }
+
+    // Order of insertion of two nodes.
+    private static <E> int byOrder(KDTreeNode<E> first, KDTreeNode<E> second) {
+        return Long.compare(first.order, second.order);
+    }
+
+    private static int count(KDTreeNode<?> node) {
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * Returns true iff the tree contains no elements.
+     * @return true iff the tree is empty
+     */
+    public boolean isEmpty() {
+        return currentSize == 0;
+    }
+
+    /**
+     * Returns the number of elements in the tree.
+     * @return number of elements in the tree
+     */
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * Inserts the element at the point (x, y): O(log n) amortized.
+     * Many elements may share a point.
+     * @param x first coordinate of the point
+     * @param y second coordinate of the point
+     * @param element to be inserted
+     * @return handle to the element in the tree
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public KDTreeHandle<E> insert(long x, long y, E element) {
+        KDTreeNode<E> node = new KDTreeNode<>(this, x, y, element, nextOrder++);
+        currentSize++;
+        if (root == null) {
+            root = node;
+            return node;
+        }
+        KDTreeNode<E> current = root;
+        int depth = 0;
+        while (true) {
+            if (depth == path.length) {
+                KDTreeNode<E>[] longer = (KDTreeNode<E>[]) new KDTreeNode[2 * depth];
+                System.arraycopy(path, 0, longer, 0, depth);
+                path = longer;
+            }
+            path[depth] = current;
+            current.count++;
+            boolean toLeft = goesLeft(current, node, depth & 1);
+            KDTreeNode<E> next = toLeft ? current.left : current.right;
+            if (next == null) {
+                if (toLeft)
+                    current.left = node;
+                else
+                    current.right = node;
+                break;
+            }
+            current = next;
+            depth++;
+        }
+        depth++;
+        if (depth > Math.log(root.count) / LOG_INVERSE_ALPHA)
+            rebuildScapegoat(node, depth);
+        return node;
+    }
+
+    // True iff the node is to be put on the left of current, which splits by axis.
+    // A point on the splitting line goes to the smaller side.
+    private static <E> boolean goesLeft(KDTreeNode<E> current, KDTreeNode<E> node, int axis) {
+        long c = node.coordinate(axis);
+        long split = current.coordinate(axis);
+        if (c != split)
+            return c < split;
+        return count(current.left) <= count(current.right);
+    }
+
+    // Rebuilds the lowest subtree out of balance on the path to the node inserted at depth.
+    private void rebuildScapegoat(KDTreeNode<E> inserted, int depth) {
+        KDTreeNode<E> child = inserted;
+        for (int i = depth - 1; i >= 0; i--) {
+            KDTreeNode<E> ancestor = path[i];
+            if (child.count > ALPHA * ancestor.count) {
+                int before = ancestor.count;
+                KDTreeNode<E> rebuilt = rebuild(ancestor, i);
+                if (i == 0)
+                    root = rebuilt;
+                else if (path[i - 1].left == ancestor)
+                    path[i - 1].left = rebuilt;
+                else
+                    path[i - 1].right = rebuilt;
+                int dropped = before - count(rebuilt);
+                for (int j = 0; j < i; j++)
+                    path[j].count -= dropped;
+                return;
+            }
+            child = ancestor;
+        }
+    }
+
+    /**
+     * Removes the element of the handle from the tree and returns it:
+     * O(1), plus O(n) for a rebuild every n/2 removals.
+     * @param handle of an element in the tree
+     * @return element removed
+     * @throws NoSuchElementException if the element of the handle left the tree
+     */
+    public E remove(KDTreeHandle<E> handle) {
+        if (!(handle instanceof KDTreeNode<E> node) || node.tree != this || node.removed)
+            throw new NoSuchElementException();
+        node.removed = true;
+        currentSize--;
+        removedCount++;
+        if (removedCount > currentSize)
+            root = rebuild(root, 0);
+        return node.element;
+    }
+
+    // Returns the subtree of node (at depth) rebuilt at medians, without its removed nodes.
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private KDTreeNode<E> rebuild(KDTreeNode<E> node, int depth) {
+        KDTreeNode<E>[] nodes = (KDTreeNode<E>[]) new KDTreeNode[node.count];
+        int live = collect(node, nodes, 0);
+        removedCount -= node.count - live;
+        return build(nodes, 0, live, depth);
+    }
+
+    // Puts the nodes of the subtree not removed in nodes, from position i; returns the next position.
+    private static <E> int collect(KDTreeNode<E> node, KDTreeNode<E>[] nodes, int i) {
+        if (node == null)
+            return i;
+        i = collect(node.left, nodes, i);
+        if (!node.removed)
+            nodes[i++] = node;
+        return collect(node.right, nodes, i);
+    }
+
+    // Links nodes[from, to) into a subtree split at medians, whose root is at depth.
+    private static <E> KDTreeNode<E> build(KDTreeNode<E>[] nodes, int from, int to, int depth) {
+        if (from >= to)
+            return null;
+        int middle = (from + to) >>> 1;
+        select(nodes, from, to, middle, depth & 1);
+        KDTreeNode<E> node = nodes[middle];
+        node.left = build(nodes, from, middle, depth + 1);
+        node.right = build(nodes, middle + 1, to, depth + 1);
+        node.count = to - from;
+        return node;
+    }
+
+    // Rearranges nodes[from, to) so that position k holds the node it would hold if they were sorted
+    // by the axis, with no larger coordinate before it and no smaller one after it (quickselect).
+    private static <E> void select(KDTreeNode<E>[] nodes, int from, int to, int k, int axis) {
+        int low = from;
+        int high = to - 1;
+        while (low < high) {
+            long pivot = nodes[(low + high) >>> 1].coordinate(axis);
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (nodes[i].coordinate(axis) < pivot)
+                    i++;
+                while (nodes[j].coordinate(axis) > pivot)
+                    j--;
+                if (i <= j) {
+                    KDTreeNode<E> swap = nodes[i];
+                    nodes[i++] = nodes[j];
+                    nodes[j--] = swap;
+                }
+            }
+            if (k <= j)
+                high = j;
+            else if (k >= i)
+                low = i;
+            else
+                return;
+        }
+    }
+
+    /**
+     * Returns the elements at the smallest Manhattan distance from the point
+     * (x, y), all of them if there is a tie, in the order they were inserted.
+     * O(log n) nodes are visited for points spread over the plane.
+     * @param x first coordinate of the point
+     * @param y second coordinate of the point
+     * @return iterator of the nearest elements (empty if the tree is empty)
+     */
+    @SuppressWarnings("unchecked")
+    public Iterator<E> nearest(long x, long y) {
+        Nearest<E> nearest = new Nearest<>();
+        nearest(root, 0, x, y, 0, 0, nearest);
+        E[] elements = (E[]) new Object[nearest.nodes.size()];
+        for (int i = 0; i < elements.length; i++)
+            elements[i] = nearest.nodes.pollMin().element;
+        return new ArrayIterator<>(elements, elements.length);
+    }
+
+    /**
+     * Returns the k elements nearest to the point (x, y) (all of them if
+     * there are fewer), by increasing Manhattan distance, elements at the same
+     * distance in the order they were inserted. The search is best first and
+     * lazy: each element is found when next asks for it, opening only the
+     * subtrees that may hold it, so the tree is never sorted as a whole.
+     * The tree must not change while the iteration is in use.
+     * @param x first coordinate of the point
+     * @param y second coordinate of the point
+     * @param k largest number of elements returned (not negative)
+     * @return iterator of the k nearest elements, nearest first
+     */
+    public Iterator<E> nearest(long x, long y, int k) {
+        return new LimitIterator<>(new KDTreeNearestIterator<>(root, x, y), k);
+    }
+
+    /**
+     * Returns the elements whose points are inside the rectangle
+     * [minX, maxX] x [minY, maxY] (bounds included), in the order of the
+     * tree. They are streamed: each is found when next asks for it, entering
+     * only the subtrees the rectangle reaches, O(sqrt(n) + k) nodes for k
+     * elements found. The tree must not change while the iteration is in use.
+     * @param minX smallest first coordinate of the rectangle
+     * @param minY smallest second coordinate of the rectangle
+     * @param maxX largest first coordinate of the rectangle
+     * @param maxY largest second coordinate of the rectangle
+     * @return iterator of the elements inside the rectangle (empty if it has no points)
+     */
+    public Iterator<E> range(long minX, long minY, long maxX, long maxY) {
+        return new KDTreeRangeIterator<>(root, minX, minY, maxX, maxY);
+    }
+
+    // Searches the subtree of node (at depth), whose points are at least offsetX
+    // from x and offsetY from y, for points not farther than the nearest found.
+    private static <E> void nearest(KDTreeNode<E> node, int depth, long x, long y,
+                                    long offsetX, long offsetY, Nearest<E> nearest) {
+        if (node == null || offsetX + offsetY > nearest.distance)
+            return;
+        if (!node.removed) {
+            long distance = Math.abs(node.x - x) + Math.abs(node.y - y);
+            if (distance < nearest.distance) {
+                nearest.distance = distance;
+                nearest.nodes = new BinaryHeap<>(KDTree::byOrder);
+            }
+            if (distance == nearest.distance)
+                nearest.nodes.insert(node);
+        }
+        boolean byX = (depth & 1) == 0;
+        long difference = byX ? x - node.x : y - node.y;
+        KDTreeNode<E> near = difference < 0 ? node.left : node.right;
+        KDTreeNode<E> far = difference < 0 ? node.right : node.left;
+        nearest(near, depth + 1, x, y, offsetX, offsetY, nearest);
+        // The far side is at least as far as the splitting line
+        if (byX)
+            nearest(far, depth + 1, x, y, Math.abs(difference), offsetY, nearest);
+        else
+            nearest(far, depth + 1, x, y, offsetX, Math.abs(difference), nearest);
+    }
+}
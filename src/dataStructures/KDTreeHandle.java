@@ -0,0 +1,43 @@
+package dataStructures;
+
+/**
+ * K-d Tree Handle interface.
+ * A reference to the place of an element in a {@link KDTree}, returned when
+ * the element is inserted, so that the element can later be removed (e.g.
+ * to insert it again at another point) without searching for it.
+ * A handle stops being valid when its element leaves the tree.
+ *
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+public interface KDTreeHandle<E> {
+
+    /**
+     * Returns the element referred to by the handle.
+     *
+     * @return the element of the handle
+     */
+    E getElement();
+
+    /**
+     * Returns the first coordinate of the point of the element.
+     *
+     * @return the x of the point
+     */
+    long getX();
+
+    /**
+     * Returns the second coordinate of the point of the element.
+     *
+     * @return the y of the point
+     */
+    long getY();
+
+    /**
+     * Returns true iff the element is still in the tree.
+     *
+     * @return true iff the handle is valid
+     */
+    boolean isValid();
+}
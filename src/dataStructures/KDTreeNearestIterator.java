@@ -0,0 +1,130 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * K-d Tree Nearest Iterator
+ * Iterator of the elements of a {@link KDTree} by increasing Manhattan
+ * distance from a point, elements at the same distance in the order they
+ * were inserted. A best-first search: a heap holds the subtrees not yet
+ * opened, keyed by a lower bound of the distance of their points (from the
+ * splitting lines crossed to reach them), and the points found, keyed by
+ * their distance. The least entry is taken each time: an element is
+ * returned only when no subtree left can hold a nearer one, so taking the
+ * first k elements opens O(k + log n) subtrees for points spread over the
+ * plane, and never sorts the whole tree.
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+class KDTreeNearestIterator<E> implements Iterator<E> {
+
+    // A subtree to open (point false) or a point found (point true), with its key.
+    private static class Candidate<E> {
+        final KDTreeNode<E> node;
+        final boolean point;
+        final int depth;
+        final long offsetX;
+        final long offsetY;
+        final long distance;
+
+        Candidate(KDTreeNode<E> node, boolean point, int depth, long offsetX, long offsetY, long distance) {
+            this.node = node;
+            this.point = point;
+            this.depth = depth;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.distance = distance;
+        }
+    }
+
+    // Root of the tree searched.
+    private final KDTreeNode<E> root;
+
+    // Point the distances are measured from.
+    private final long x;
+    private final long y;
+
+    // Subtrees and points by distance; at the same distance, subtrees
+    // first (so every point at that distance is found before one is
+    // returned), then points in the order of insertion.
+    private BinaryHeap<Candidate<E>> candidates;
+
+    /**
+     * @param root root of the tree searched (null for an empty tree)
+     * @param x first coordinate of the point
+     * @param y second coordinate of the point
+     */
+    public KDTreeNearestIterator(KDTreeNode<E> root, long x, long y) {
+        this.root = root;
+        this.x = x;
+        this.y = y;
+        rewind();
+    }
+
+    private static <E> int compare(Candidate<E> first, Candidate<E> second) {
+        if (first.distance != second.distance)
+            return Long.compare(first.distance, second.distance);
+        if (first.point != second.point)
+            return first.point ? 1 : -1;
+        return first.point ? Long.compare(first.node.order, second.node.order) : 0;
+    }
+
+    /**
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    public boolean hasNext() {
+        // Open subtrees until a point is the least entry
+        while (!candidates.isEmpty() && !candidates.peekMin().point)
+            open(candidates.pollMin());
+        return !candidates.isEmpty();
+    }
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        return candidates.pollMin().node.element;
+    }
+
+    /**
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    public void rewind() {
+        candidates = new BinaryHeap<>(KDTreeNearestIterator::compare);
+        if (root != null)
+            candidates.insert(new Candidate<>(root, false, 0, 0, 0, 0));
+    }
+
+    // Adds the point of the subtree and its two children to the candidates.
+    private void open(Candidate<E> subtree) {
+        KDTreeNode<E> node = subtree.node;
+        if (!node.removed) {
+            long distance = Math.abs(node.x - x) + Math.abs(node.y - y);
+            candidates.insert(new Candidate<>(node, true, 0, 0, 0, distance));
+        }
+        boolean byX = (subtree.depth & 1) == 0;
+        long difference = byX ? x - node.x : y - node.y;
+        KDTreeNode<E> near = difference < 0 ? node.left : node.right;
+        KDTreeNode<E> far = difference < 0 ? node.right : node.left;
+        if (near != null)
+            candidates.insert(new Candidate<>(near, false, subtree.depth + 1,
+                    subtree.offsetX, subtree.offsetY, subtree.distance));
+        if (far != null) {
+            // The far side is at least as far as the splitting line
+            long offsetX = byX ? Math.abs(difference) : subtree.offsetX;
+            long offsetY = byX ? subtree.offsetY : Math.abs(difference);
+            candidates.insert(new Candidate<>(far, false, subtree.depth + 1,
+                    offsetX, offsetY, offsetX + offsetY));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package dataStructures;
+
+/**
+ * K-d Tree Node
+ * A package-private helper class for {@link KDTree}: a point, its element,
+ * the order in which it was inserted, and the subtrees of the points not
+ * after it (left) and not before it (right) in the coordinate that splits
+ * at its depth. A removed node stays in the tree, marked, until a rebuild
+ * of its subtree drops it; the node is the handle of its element.
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+class KDTreeNode<E> implements KDTreeHandle<E> {
+
+    // Tree the node belongs to.
+    final KDTree<E> tree;
+
+    // Coordinates of the point.
+    final long x;
+    final long y;
+
+    // Element of the node.
+    final E element;
+
+    // Position of the node in the order of insertion.
+    final long order;
+
+    // True once the element left the tree.
+    boolean removed;
+
+    // Subtrees of the node.
+    KDTreeNode<E> left;
+    KDTreeNode<E> right;
+
+    // Number of nodes in the subtree, removed ones included.
+    int count;
+
+    KDTreeNode(KDTree<E> tree, long x, long y, E element, long order) {
+        this.tree = tree;
+        this.x = x;
+        this.y = y;
+        this.element = element;
+        this.order = order;
+        this.removed = false;
+        this.count = 1;
+    }
+
+    // Coordinate that splits at the given axis (0 for x, 1 for y).
+    long coordinate(int axis) {
+        return axis == 0 ? x : y;
+    }
+
+    @Override
+    public E getElement() {
+        return element;
+    }
+
+    @Override
+    public long getX() {
+        return x;
+    }
+
+    @Override
+    public long getY() {
+        return y;
+    }
+
+    @Override
+    public boolean isValid() {
+        return !removed;
+    }
+}
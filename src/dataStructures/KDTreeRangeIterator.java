@@ -0,0 +1,124 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * K-d Tree Range Iterator
+ * Iterator of the elements of a {@link KDTree} whose points are inside a
+ * rectangle (bounds included), in the order of a depth-first walk of the
+ * tree. A subtree is entered only if the rectangle reaches its side of the
+ * splitting line, and the elements are found one at a time, as next asks
+ * for them, so the matching elements are streamed and never copied.
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+class KDTreeRangeIterator<E> implements Iterator<E> {
+
+    // Root of the tree searched.
+    private final KDTreeNode<E> root;
+
+    // The rectangle.
+    private final long minX;
+    private final long minY;
+    private final long maxX;
+    private final long maxY;
+
+    // Subtrees still to walk (next on top), and the depth of each one.
+    private KDTreeNode<E>[] nodes;
+    private int[] depths;
+    private int top;
+
+    // Next node to return, or null if the iteration is over.
+    private KDTreeNode<E> nextNode;
+
+    /**
+     * @param root root of the tree searched (null for an empty tree)
+     * @param minX smallest first coordinate of the rectangle
+     * @param minY smallest second coordinate of the rectangle
+     * @param maxX largest first coordinate of the rectangle
+     * @param maxY largest second coordinate of the rectangle
+     */
+    public KDTreeRangeIterator(KDTreeNode<E> root, long minX, long minY, long maxX, long maxY) {
+        this.root = root;
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        rewind();
+    }
+
+    /**
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    public boolean hasNext() {
+        return nextNode != null;
+    }
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        E element = nextNode.element;
+        advance();
+        return element;
+    }
+
+    /**
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public void rewind() {
+        nodes = (KDTreeNode<E>[]) new KDTreeNode[16];
+        depths = new int[16];
+        top = 0;
+        if (root != null && minX <= maxX && minY <= maxY)
+            push(root, 0);
+        advance();
+    }
+
+    // Walks subtrees until a node inside the rectangle, which becomes nextNode.
+    private void advance() {
+        nextNode = null;
+        while (top > 0 && nextNode == null) {
+            top--;
+            KDTreeNode<E> node = nodes[top];
+            int depth = depths[top];
+            nodes[top] = null;
+            long split = node.coordinate(depth & 1);
+            long min = (depth & 1) == 0 ? minX : minY;
+            long max = (depth & 1) == 0 ? maxX : maxY;
+            // Points equal to split may be on either side
+            if (node.right != null && max >= split)
+                push(node.right, depth + 1);
+            if (node.left != null && min <= split)
+                push(node.left, depth + 1);
+            if (!node.removed && node.x >= minX && node.x <= maxX && node.y >= minY && node.y <= maxY)
+                nextNode = node;
+        }
+    }
+
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private void push(KDTreeNode<E> node, int depth) {
+        if (top == nodes.length) {
+            KDTreeNode<E>[] largerNodes = (KDTreeNode<E>[]) new KDTreeNode[2 * top];
+            int[] largerDepths = new int[2 * top];
+            System.arraycopy(nodes, 0, largerNodes, 0, top);
+            System.arraycopy(depths, 0, largerDepths, 0, top);
+            nodes = largerNodes;
+            depths = largerDepths;
+        }
+        nodes[top] = node;
+        depths[top] = depth;
+        top++;
+    }
+}
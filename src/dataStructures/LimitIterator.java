@@ -0,0 +1,81 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * An iterator over at most the first limit elements of another iterator.
+ * The wrapped iterator is not advanced past the last returned element.
+ *
+ * @author AED Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+public class LimitIterator<E> implements Iterator<E> {
+
+    // --- Fields ---
+
+    /**
+     * The underlying (wrapped) iterator that provides the elements.
+     */
+    private final Iterator<E> iterator;
+
+    /**
+     * The maximum number of elements of the iteration.
+     */
+    private final int limit;
+
+    /**
+     * The number of elements still allowed.
+     */
+    private int remaining;
+
+    // --- Constructor ---
+
+    /**
+     * Creates a new LimitIterator.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @param iterator The iterator to be wrapped.
+     * @param limit The maximum number of elements to return (not negative).
+     */
+    public LimitIterator(Iterator<E> iterator, int limit) {
+        this.iterator = iterator;
+        this.limit = limit;
+        this.remaining = limit;
+    }
+
+    // --- Public Methods (from Iterator interface) ---
+
+    /**
+     * Returns true if the limit was not reached and the wrapped iteration has more elements.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return {@code true} if the iteration has more elements
+     */
+    public boolean hasNext() {
+        return remaining > 0 && iterator.hasNext();
+    }
+
+    /**
+     * Returns the next element of the wrapped iteration.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return The next element in the iteration.
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        remaining--;
+        return iterator.next();
+    }
+
+    /**
+     * Restarts the iteration by rewinding the wrapped iterator.
+     */
+    public void rewind() {
+        iterator.rewind();
+        remaining = limit;
+    }
+}
@@ -2,6 +2,8 @@ package dataStructures;
 
 import dataStructures.exceptions.*;
 
+import java.util.Spliterator;
+
 /**
  * List (sequence) Abstract Data Type.
  * Includes description of general methods to be implemented by lists.
@@ -156,4 +158,18 @@ public interface List<E> {
      */
     E remove( int position );
 
-}
\ No newline at end of file
+    /**
+     * Returns a {@link Spliterator} over the elements of the list, in order,
+     * so that the list can be the source of a (parallel) java.util.stream.
+     * By default it splits off batches of the iteration; lists kept in
+     * arrays split by ranges of positions.
+     * The list must not be modified while the spliterator is in use.
+     *
+     * @apiNote Time Complexity: O(1) to create; each split takes O(batch size).
+     * @return Spliterator of the elements of the list
+     */
+    default Spliterator<E> spliterator( ) {
+        return new IteratorSpliterator<>(iterator(), size(), Spliterator.ORDERED);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package dataStructures;
+
+/**
+ * List Handle interface.
+ * A reference to the node of a list that holds one element, returned when
+ * the element is inserted, so that the element can later be removed from
+ * the list in O(1), without searching for it.
+ * A handle stops being valid when its element is removed from the list.
+ *
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+public interface ListHandle<E> {
+
+    /**
+     * Returns the element referred to by the handle.
+     *
+     * @return the element of the node
+     */
+    E getElement();
+}
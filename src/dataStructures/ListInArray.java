@@ -3,6 +3,7 @@ import dataStructures.exceptions.*;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Spliterator;
 
 /**
  * List in Array.
@@ -86,6 +87,19 @@ public class ListInArray<E> implements List<E>, Serializable {
         return new ArrayIterator<>(elems, counter);
     }
 
+    /**
+     * Returns a spliterator of the elements in the list, which splits by
+     * ranges of positions.
+     *
+     * @apiNote Time Complexity: O(1); each split also takes O(1).
+     * @return Spliterator of the elements in the list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        E[] array = elems;
+        return new IndexSpliterator<>(position -> array[position], 0, counter, true, counter, Spliterator.ORDERED);
+    }
+
     // --- Get Operations ---
 
     /**
@@ -336,4 +350,4 @@ public class ListInArray<E> implements List<E>, Serializable {
     }
 
 
-}
\ No newline at end of file
+}
\ No newline at end of file
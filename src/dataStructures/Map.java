@@ -1,5 +1,6 @@
 package dataStructures;
 import java.io.Serializable;
+import java.util.Spliterator;
 
 /**
  * Dictionary Abstract Data Type 
@@ -91,6 +92,18 @@ public interface Map<K,V>  {
      */
     Iterator<K> keys( );
 
+    /**
+     * Returns a spliterator of the entries in the dictionary, so that the
+     * dictionary can be the source of a (parallel) java.util.stream.
+     * By default it splits off batches of the iteration; hash tables split
+     * by ranges of buckets and trees by subtrees.
+     * The dictionary must not be modified while the spliterator is in use.
+     * @return spliterator of the entries in the dictionary
+     */
+    default Spliterator<Entry<K,V>> spliterator( ) {
+        return new IteratorSpliterator<>(iterator(), size(), Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
 } 
 
 
@@ -18,10 +18,18 @@ class MapSinglyList<K,V> implements Map<K, V> , Serializable {
 
     private transient int size;
 
+    // Hashing and equality of the keys.
+    private final Equivalence<? super K> equivalence;
+
     public MapSinglyList() {
+        this(NaturalEquivalence.INSTANCE);
+        //TODO: Left as exercise//done
+    }
+
+    public MapSinglyList(Equivalence<? super K> equivalence) {
         head=null;
         size=0;
-        //TODO: Left as exercise//done
+        this.equivalence = equivalence;
     }
 
     /**
@@ -104,7 +112,7 @@ class MapSinglyList<K,V> implements Map<K, V> , Serializable {
         if (head==null) {
             return null;
         }
-        if (head.getElement().key().equals(key)) {
+        if (equivalence.equivalent(head.getElement().key(), key)) {
             V valueToReturn = head.getElement().value();
             head = head.getNext();
             size--;
@@ -112,7 +120,7 @@ class MapSinglyList<K,V> implements Map<K, V> , Serializable {
         }
         SinglyListNode<Entry<K,V>> current = head;
         while (current.getNext()!=null) {
-            if (current.getNext().getElement().key().equals(key)) {
+            if (equivalence.equivalent(current.getNext().getElement().key(), key)) {
                 V valueToReturn = current.getNext().getElement().value();
                 current.setNext(current.getNext().getNext());
                 size--;
@@ -158,7 +166,7 @@ class MapSinglyList<K,V> implements Map<K, V> , Serializable {
     private SinglyListNode<Entry<K,V>> findNode(K key) {
         SinglyListNode<Entry<K,V>> current = head;
         while (current != null) {
-            if (current.getElement().key().equals(key)) {
+            if (equivalence.equivalent(current.getElement().key(), key)) {
                 return current;
             }
             current = current.getNext();
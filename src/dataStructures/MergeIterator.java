@@ -0,0 +1,168 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * An iterator over the elements of k iterators, each sorted by a
+ * {@link Comparator}, in that order (a k-way merge).
+ * The next element of every iterator is kept in a binary min-heap, so each
+ * element costs O(log k) comparisons and only k elements are held at a time.
+ * Equal elements come out in the order of their iterators (the merge is stable).
+ *
+ * @author AED Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+public class MergeIterator<E> implements Iterator<E> {
+
+    // --- Fields ---
+
+    /**
+     * The iterators being merged, in the order they were given.
+     */
+    private final Iterator<E>[] iterators;
+
+    /**
+     * The order of the elements of every iterator.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Next element of each iterator, indexed like iterators.
+     */
+    private final E[] heads;
+
+    /**
+     * Binary min-heap of the indices of the iterators with a next element,
+     * ordered by their heads (and then by index): heap[0..heapSize-1].
+     */
+    private final int[] heap;
+
+    /**
+     * The number of iterators in the heap.
+     */
+    private int heapSize;
+
+    // --- Constructor ---
+
+    /**
+     * Creates a new MergeIterator.
+     *
+     * @apiNote Time Complexity: O(k) (the heap is built bottom-up).
+     * @param iterators The iteration of the sorted iterators to merge.
+     * @param comparator The order of the elements of every iterator.
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public MergeIterator(Iterator<Iterator<E>> iterators, Comparator<? super E> comparator) {
+        int k = 0;
+        while (iterators.hasNext()) {
+            iterators.next();
+            k++;
+        }
+        iterators.rewind();
+        this.iterators = (Iterator<E>[]) new Iterator[k];
+        for (int i = 0; i < k; i++) {
+            this.iterators[i] = iterators.next();
+        }
+        this.comparator = comparator;
+        this.heads = (E[]) new Object[k];
+        this.heap = new int[k];
+        buildHeap();
+    }
+
+    // --- Public Methods (from Iterator interface) ---
+
+    /**
+     * Returns true if some iterator has more elements.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return {@code true} if the iteration has more elements
+     */
+    public boolean hasNext() {
+        return heapSize > 0;
+    }
+
+    /**
+     * Returns the smallest of the next elements of the iterators.
+     *
+     * @apiNote Time Complexity: O(log k)
+     * @return The next element in the iteration.
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int source = heap[0];
+        E element = heads[source];
+        if (iterators[source].hasNext()) {
+            heads[source] = iterators[source].next();
+        } else {
+            heads[source] = null;
+            heap[0] = heap[--heapSize];
+        }
+        if (heapSize > 0) {
+            siftDown(0);
+        }
+        return element;
+    }
+
+    /**
+     * Restarts the iteration by rewinding every iterator.
+     *
+     * @apiNote Time Complexity: O(k), plus the rewinds.
+     */
+    public void rewind() {
+        for (Iterator<E> iterator : iterators) {
+            iterator.rewind();
+        }
+        buildHeap();
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Reads the first element of every iterator and heapifies their indices.
+     */
+    private void buildHeap() {
+        heapSize = 0;
+        for (int i = 0; i < iterators.length; i++) {
+            if (iterators[i].hasNext()) {
+                heads[i] = iterators[i].next();
+                heap[heapSize++] = i;
+            } else {
+                heads[i] = null;
+            }
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Moves the iterator at heap position i down until its children are not smaller.
+     */
+    private void siftDown(int i) {
+        int source = heap[i];
+        while (2 * i + 1 < heapSize) {
+            int child = 2 * i + 1;
+            if (child + 1 < heapSize && less(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!less(heap[child], source)) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = source;
+    }
+
+    /**
+     * Returns true iff the head of iterator a comes before the head of iterator b.
+     */
+    private boolean less(int a, int b) {
+        int cmp = comparator.compare(heads[a], heads[b]);
+        return cmp < 0 || (cmp == 0 && a < b);
+    }
+}
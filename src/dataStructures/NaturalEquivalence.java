@@ -0,0 +1,44 @@
+package dataStructures;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Natural Equivalence
+ * The default {@link Equivalence} of the hash tables: hashCode and equals,
+ * and the natural order of keys that are {@link Comparable} and of the same class.
+ *
+ * @author AED  Team
+ * @version 1.0
+ */
+class NaturalEquivalence implements Equivalence<Object>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // The only instance.
+    static final NaturalEquivalence INSTANCE = new NaturalEquivalence();
+
+    private NaturalEquivalence() {
+    }
+
+    public int hash(Object element) {
+        return element.hashCode();
+    }
+
+    public boolean equivalent(Object e1, Object e2) {
+        return e1.equals(e2);
+    }
+
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public int compare(Object e1, Object e2) {
+        if (e1 instanceof Comparable && e1.getClass() == e2.getClass())
+            return ((Comparable) e1).compareTo(e2);
+        return 0;
+    }
+
+    @Serial
+    private Object readResolve() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,95 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Persistent AVL Iterator
+ * In-order iterator of one version of a {@link PersistentAVLSortedMap},
+ * starting at a given position. The nodes of the version never change, so
+ * the iteration sees the entries of the map when it was created, whatever
+ * the writes made meanwhile.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class PersistentAVLIterator<K,V> implements Iterator<Map.Entry<K,V>> {
+
+    // Root of the version iterated.
+    private final PersistentAVLNode<K,V> root;
+
+    // Position of the first entry of the iteration.
+    private final int first;
+
+    // The iteration ends at the first entry that fails the condition (null for none).
+    private final Predicate<Map.Entry<K,V>> inRange;
+
+    // Nodes whose entries and right subtrees are still to visit (next on top).
+    private Stack<PersistentAVLNode<K,V>> path;
+
+    /**
+     * @param root root of the version iterated (null if empty)
+     * @param first position of the first entry of the iteration
+     * @param inRange condition of the entries of the iteration (null for none)
+     */
+    public PersistentAVLIterator(PersistentAVLNode<K,V> root, int first, Predicate<Map.Entry<K,V>> inRange) {
+        this.root = root;
+        this.first = first;
+        this.inRange = inRange;
+        rewind();
+    }
+
+    /**
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    public boolean hasNext() {
+        return !path.isEmpty() && (inRange == null || inRange.check(path.top().entry));
+    }
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    public Map.Entry<K,V> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        PersistentAVLNode<K,V> node = path.pop();
+        pushLeftPath(node.right);
+        return node.entry;
+    }
+
+    /**
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    public void rewind() {
+        path = new StackWithListInArray<>(Math.max(1, PersistentAVLNode.height(root)));
+        // Goes down to the entry at position first, keeping the nodes left behind to the right
+        PersistentAVLNode<K,V> node = root;
+        int remaining = first;
+        while (node != null) {
+            int leftSize = PersistentAVLNode.size(node.left);
+            if (remaining < leftSize) {
+                path.push(node);
+                node = node.left;
+            } else if (remaining == leftSize) {
+                path.push(node);
+                return;
+            } else {
+                remaining -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    // Pushes node and the nodes of the leftmost path of its subtree.
+    private void pushLeftPath(PersistentAVLNode<K,V> node) {
+        for (; node != null; node = node.left)
+            path.push(node);
+    }
+}
@@ -0,0 +1,62 @@
+package dataStructures;
+
+/**
+ * Persistent AVL Node
+ * An immutable node of a {@link PersistentAVLSortedMap}. A node never
+ * changes once built (it has no parent link), so it can be shared by every
+ * version of the tree that contains its subtree: a change builds new nodes
+ * for the path from the root to the changed node only.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class PersistentAVLNode<K,V> {
+
+    // Entry of the node.
+    final Map.Entry<K,V> entry;
+
+    // Left and right subtrees (null if empty).
+    final PersistentAVLNode<K,V> left;
+    final PersistentAVLNode<K,V> right;
+
+    // Height of the subtree (1 for a leaf).
+    final int height;
+
+    // Number of nodes of the subtree.
+    final int size;
+
+    PersistentAVLNode(Map.Entry<K,V> entry, PersistentAVLNode<K,V> left, PersistentAVLNode<K,V> right) {
+        this.entry = entry;
+        this.left = left;
+        this.right = right;
+        this.height = 1 + Math.max(height(left), height(right));
+        this.size = 1 + size(left) + size(right);
+    }
+
+    /**
+     * Returns the height of the subtree rooted at node (0 for an empty subtree).
+     * @param node root of the subtree, or null
+     * @return height of the subtree
+     */
+    static int height(PersistentAVLNode<?,?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Returns the size of the subtree rooted at node (0 for an empty subtree).
+     * @param node root of the subtree, or null
+     * @return number of nodes of the subtree
+     */
+    static int size(PersistentAVLNode<?,?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Returns the key of the node.
+     * @return key of the entry of the node
+     */
+    K key() {
+        return entry.key();
+    }
+}
@@ -0,0 +1,491 @@
+package dataStructures;
+
+import dataStructures.exceptions.EmptyMapException;
+import dataStructures.exceptions.InvalidPositionException;
+
+import java.io.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Persistent AVL Sorted Map
+ * An AVL tree of immutable nodes: put and remove build new nodes for the
+ * path from the root to the changed node (O(log n) of them) and share the
+ * rest of the tree, then swap the root with a compare-and-set (retried if
+ * another writer swapped it first). Every root is a complete, frozen version
+ * of the map, so:
+ * <ul>
+ * <li>{@link #snapshot()} is O(1): it returns a map with the current root;</li>
+ * <li>iterators walk the version of their creation, whatever the writes
+ * made meanwhile, and never need a lock.</li>
+ * </ul>
+ * Keys are ordered by their natural order or by the comparator given to the
+ * constructor (which must then be serializable). Every node keeps the size
+ * of its subtree, so rank, select and iteration from a position take O(log n).
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+public class PersistentAVLSortedMap<K extends Comparable<K>,V> implements SortedMap<K,V>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Order of the keys, or null for their natural order.
+    private final Comparator<? super K> comparator;
+
+    // Root of the current version (null if the map is empty).
+    private transient AtomicReference<PersistentAVLNode<K,V>> root;
+
+    /**
+     * Outcome of a change of a version: the value replaced or removed, if any.
+     */
+    private static class Change<V> {
+        V oldValue;
+    }
+
+    public PersistentAVLSortedMap() {
+        this(null);
+    }
+
+    /**
+     * Constructor of a map whose keys are ordered by the comparator.
+     * @param comparator order of the keys (null for their natural order)
+     */
+    public PersistentAVLSortedMap(Comparator<? super K> comparator) {
+        this(comparator, null);
+    }
+
+    private PersistentAVLSortedMap(Comparator<? super K> comparator, PersistentAVLNode<K,V> root) {
+        this.comparator = comparator;
+        this.root = new AtomicReference<>(root);
+    }
+
+    /**
+     * Returns a map with the entries of this map now, in O(1). Later changes
+     * of either map are not seen by the other (they share only the nodes
+     * that neither changes).
+     * @return snapshot of the map
+     */
+    public PersistentAVLSortedMap<K,V> snapshot() {
+        return new PersistentAVLSortedMap<>(comparator, root.get());
+    }
+
+    // Compares two keys by the order of the map.
+    private int compare(K key1, K key2) {
+        if (comparator == null)
+            return key1.compareTo(key2);
+        return comparator.compare(key1, key2);
+    }
+
+    /**
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true iff the dictionary contains no entries
+     */
+    @Override
+    public boolean isEmpty() {
+        return root.get() == null;
+    }
+
+    /**
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of entries in the dictionary
+     */
+    @Override
+    public int size() {
+        return PersistentAVLNode.size(root.get());
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V get(K key) {
+        PersistentAVLNode<K,V> node = root.get();
+        while (node != null) {
+            int cmp = compare(key, node.key());
+            if (cmp == 0)
+                return node.entry.value();
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     * Copies the path from the root to the entry.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V put(K key, V value) {
+        Entry<K,V> entry = new Entry<>(key, value);
+        while (true) {
+            PersistentAVLNode<K,V> current = root.get();
+            Change<V> change = new Change<>();
+            if (root.compareAndSet(current, insert(current, entry, change)))
+                return change.oldValue;
+        }
+    }
+
+    // Returns the subtree node with the entry, built from new nodes along the path.
+    private PersistentAVLNode<K,V> insert(PersistentAVLNode<K,V> node, Entry<K,V> entry, Change<V> change) {
+        if (node == null)
+            return new PersistentAVLNode<>(entry, null, null);
+        int cmp = compare(entry.key(), node.key());
+        if (cmp == 0) {
+            change.oldValue = node.entry.value();
+            return new PersistentAVLNode<>(entry, node.left, node.right);
+        }
+        if (cmp < 0)
+            return balance(node.entry, insert(node.left, entry, change), node.right);
+        return balance(node.entry, node.left, insert(node.right, entry, change));
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * Copies the path from the root to the entry (and to its successor).
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    public V remove(K key) {
+        while (true) {
+            PersistentAVLNode<K,V> current = root.get();
+            Change<V> change = new Change<>();
+            PersistentAVLNode<K,V> changed = delete(current, key, change);
+            if (change.oldValue == null || root.compareAndSet(current, changed))
+                return change.oldValue;
+        }
+    }
+
+    // Returns the subtree node without key, built from new nodes along the path.
+    private PersistentAVLNode<K,V> delete(PersistentAVLNode<K,V> node, K key, Change<V> change) {
+        if (node == null)
+            return null;
+        int cmp = compare(key, node.key());
+        if (cmp < 0) {
+            PersistentAVLNode<K,V> left = delete(node.left, key, change);
+            return left == node.left ? node : balance(node.entry, left, node.right);
+        }
+        if (cmp > 0) {
+            PersistentAVLNode<K,V> right = delete(node.right, key, change);
+            return right == node.right ? node : balance(node.entry, node.left, right);
+        }
+        change.oldValue = node.entry.value();
+        if (node.left == null)
+            return node.right;
+        if (node.right == null)
+            return node.left;
+        PersistentAVLNode<K,V> successor = node.right;
+        while (successor.left != null)
+            successor = successor.left;
+        return balance(successor.entry, node.left, deleteMin(node.right));
+    }
+
+    // Returns the subtree node without its smallest entry.
+    private PersistentAVLNode<K,V> deleteMin(PersistentAVLNode<K,V> node) {
+        if (node.left == null)
+            return node.right;
+        return balance(node.entry, deleteMin(node.left), node.right);
+    }
+
+    // Returns a node with the entry and subtrees whose heights differ by at
+    // most 2, rotating once or twice if they differ by 2.
+    private static <K,V> PersistentAVLNode<K,V> balance(Entry<K,V> entry, PersistentAVLNode<K,V> left,
+                                                       PersistentAVLNode<K,V> right) {
+        int leftHeight = PersistentAVLNode.height(left);
+        int rightHeight = PersistentAVLNode.height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (PersistentAVLNode.height(left.left) >= PersistentAVLNode.height(left.right))
+                return new PersistentAVLNode<>(left.entry, left.left, new PersistentAVLNode<>(entry, left.right, right));
+            PersistentAVLNode<K,V> middle = left.right;
+            return new PersistentAVLNode<>(middle.entry,
+                    new PersistentAVLNode<>(left.entry, left.left, middle.left),
+                    new PersistentAVLNode<>(entry, middle.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (PersistentAVLNode.height(right.right) >= PersistentAVLNode.height(right.left))
+                return new PersistentAVLNode<>(right.entry, new PersistentAVLNode<>(entry, left, right.left), right.right);
+            PersistentAVLNode<K,V> middle = right.left;
+            return new PersistentAVLNode<>(middle.entry,
+                    new PersistentAVLNode<>(entry, left, middle.left),
+                    new PersistentAVLNode<>(right.entry, middle.right, right.right));
+        }
+        return new PersistentAVLNode<>(entry, left, right);
+    }
+
+    /**
+     * Returns the entry with the smallest key in the dictionary.
+     *
+     * @return entry with the smallest key
+     * @throws EmptyMapException if the dictionary is empty
+     */
+    @Override
+    public Entry<K,V> minEntry() {
+        PersistentAVLNode<K,V> node = root.get();
+        if (node == null)
+            throw new EmptyMapException();
+        while (node.left != null)
+            node = node.left;
+        return node.entry;
+    }
+
+    /**
+     * Returns the entry with the largest key in the dictionary.
+     *
+     * @return entry with the largest key
+     * @throws EmptyMapException if the dictionary is empty
+     */
+    @Override
+    public Entry<K,V> maxEntry() {
+        PersistentAVLNode<K,V> node = root.get();
+        if (node == null)
+            throw new EmptyMapException();
+        while (node.right != null)
+            node = node.right;
+        return node.entry;
+    }
+
+    /**
+     * Returns the entry with the greatest key less than or equal to the key, or null.
+     *
+     * @param key to search for
+     * @return the floor entry of key, or null
+     */
+    @Override
+    public Entry<K,V> floorEntry(K key) {
+        Entry<K,V> floor = null;
+        PersistentAVLNode<K,V> node = root.get();
+        while (node != null) {
+            int cmp = compare(key, node.key());
+            if (cmp == 0)
+                return node.entry;
+            if (cmp < 0)
+                node = node.left;
+            else {
+                floor = node.entry;
+                node = node.right;
+            }
+        }
+        return floor;
+    }
+
+    /**
+     * Returns the entry with the least key greater than or equal to the key, or null.
+     *
+     * @param key to search for
+     * @return the ceiling entry of key, or null
+     */
+    @Override
+    public Entry<K,V> ceilingEntry(K key) {
+        Entry<K,V> ceiling = null;
+        PersistentAVLNode<K,V> node = root.get();
+        while (node != null) {
+            int cmp = compare(key, node.key());
+            if (cmp == 0)
+                return node.entry;
+            if (cmp > 0)
+                node = node.right;
+            else {
+                ceiling = node.entry;
+                node = node.left;
+            }
+        }
+        return ceiling;
+    }
+
+    // Returns an iterator of the version from the ceiling of key onwards, while the entries check the condition.
+    private Iterator<Entry<K,V>> iteratorFrom(K key, Predicate<Entry<K,V>> inRange) {
+        PersistentAVLNode<K,V> version = root.get();
+        return new PersistentAVLIterator<>(version, rank(version, key), inRange);
+    }
+
+    /**
+     * Returns an iterator of the entries with keys in [fromKey, toKey) of
+     * the current version. The first entry is found in O(log n).
+     *
+     * @param fromKey low end of the keys of the iteration (inclusive)
+     * @param toKey high end of the keys of the iteration (exclusive)
+     * @return iterator of the entries with keys in [fromKey, toKey)
+     */
+    @Override
+    public Iterator<Entry<K,V>> subMap(K fromKey, K toKey) {
+        if (compare(fromKey, toKey) >= 0)
+            return new PersistentAVLIterator<>(null, 0, null);
+        return iteratorFrom(fromKey, entry -> compare(entry.key(), toKey) < 0);
+    }
+
+    /**
+     * Returns the number of keys smaller than the specified key, adding the
+     * sizes of the left subtrees passed on the way down: O(log n).
+     *
+     * @param key whose rank is to be returned
+     * @return number of keys smaller than key
+     */
+    @Override
+    public int rank(K key) {
+        return rank(root.get(), key);
+    }
+
+    // Number of keys of the version smaller than key.
+    private int rank(PersistentAVLNode<K,V> node, K key) {
+        int smaller = 0;
+        while (node != null) {
+            int cmp = compare(key, node.key());
+            if (cmp <= 0) {
+                if (cmp == 0)
+                    return smaller + PersistentAVLNode.size(node.left);
+                node = node.left;
+            } else {
+                smaller += PersistentAVLNode.size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return smaller;
+    }
+
+    /**
+     * Returns the entry at the specified position in the order of the keys: O(log n).
+     *
+     * @param position of the entry to be returned
+     * @return entry with position smaller keys
+     * @throws InvalidPositionException if position is not valid
+     */
+    @Override
+    public Entry<K,V> select(int position) {
+        PersistentAVLNode<K,V> node = root.get();
+        if (position < 0 || position >= PersistentAVLNode.size(node))
+            throw new InvalidPositionException();
+        while (true) {
+            int leftSize = PersistentAVLNode.size(node.left);
+            if (position == leftSize)
+                return node.entry;
+            if (position < leftSize)
+                node = node.left;
+            else {
+                position -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator of the entries of the current version from the
+     * specified position; the first entry is found in O(log n).
+     *
+     * @param position of the first entry of the iteration
+     * @return iterator of the entries from position onwards
+     * @throws InvalidPositionException if position is not valid
+     */
+    @Override
+    public Iterator<Entry<K,V>> iterator(int position) {
+        PersistentAVLNode<K,V> version = root.get();
+        if (position < 0 || position > PersistentAVLNode.size(version))
+            throw new InvalidPositionException();
+        return new PersistentAVLIterator<>(version, position, null);
+    }
+
+    /**
+     * Returns an iterator of the entries of the current version, in the order
+     * of the keys; later writes do not change it.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<K,V>> iterator() {
+        return new PersistentAVLIterator<>(root.get(), 0, null);
+    }
+
+    /**
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Iterator<V> values() {
+        return new ValuesIterator(iterator());
+    }
+
+    /**
+     * Returns an iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Iterator<K> keys() {
+        return new KeysIterator(iterator());
+    }
+
+    /**
+     * Replaces the entries of the map with the entries of an iteration sorted
+     * by the order of the map, in O(n) and with no key comparisons: the
+     * middle entry of each range becomes the root of the subtree of the range.
+     * @param sorted iteration of the entries, with strictly increasing keys
+     * @param size number of entries of the iteration
+     * @pre the keys of sorted are strictly increasing and there are size of them
+     */
+    public void buildFromSorted(Iterator<Entry<K,V>> sorted, int size) {
+        root.set(buildBalanced(sorted, size));
+    }
+
+    // Builds a balanced subtree with the next count entries of the iteration.
+    private static <K,V> PersistentAVLNode<K,V> buildBalanced(Iterator<Entry<K,V>> sorted, int count) {
+        if (count == 0)
+            return null;
+        int leftCount = (count - 1) / 2;
+        PersistentAVLNode<K,V> left = buildBalanced(sorted, leftCount);
+        Entry<K,V> entry = sorted.next();
+        return new PersistentAVLNode<>(entry, left, buildBalanced(sorted, count - 1 - leftCount));
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        // Writes one frozen version, even while other threads change the map
+        PersistentAVLNode<K,V> version = root.get();
+        oos.defaultWriteObject();
+        oos.writeInt(PersistentAVLNode.size(version));
+        Iterator<Entry<K,V>> it = new PersistentAVLIterator<>(version, 0, null);
+        while (it.hasNext()) {
+            Entry<K,V> entry = it.next();
+            oos.writeObject(entry.key());
+            oos.writeObject(entry.value());
+        }
+        oos.flush();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        int size = ois.readInt();
+        ListInArray<Entry<K,V>> entries = new ListInArray<>(Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            @SuppressWarnings("unchecked")
+            K key = (K) ois.readObject();
+            @SuppressWarnings("unchecked")
+            V value = (V) ois.readObject();
+            entries.addLast(new Entry<>(key, value));
+        }
+        // writeObject wrote the entries in order, so the tree is rebuilt in O(n)
+        root = new AtomicReference<>();
+        buildFromSorted(entries.iterator(), size);
+    }
+}
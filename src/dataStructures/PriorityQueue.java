@@ -0,0 +1,65 @@
+package dataStructures;
+import dataStructures.exceptions.*;
+/**
+ * Priority Queue Abstract Data Type
+ * Includes description of general methods for a queue whose elements leave
+ * by priority, the smallest element under the order of the queue first.
+ * Every insertion returns a handle to the element, so that the element can
+ * later be moved after its priority changed, or removed, without a search.
+ * A handle stops being valid when its element leaves the queue.
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ *
+ */
+public interface PriorityQueue<E> {
+
+    /**
+     * Returns true iff the queue contains no elements.
+     * @return true iff the queue is empty
+     */
+    boolean isEmpty( );
+
+    /**
+     * Returns the number of elements in the queue.
+     * @return number of elements in the queue
+     */
+    int size( );
+
+    /**
+     * Inserts the specified element in the queue.
+     * @param element to be inserted
+     * @return handle to the element in the queue
+     */
+    PriorityQueueHandle<E> insert( E element );
+
+    /**
+     * Returns the element with the highest priority (the smallest).
+     * @return element with the highest priority
+     * @throws EmptyQueueException if the queue is empty
+     */
+    E peekMin( );
+
+    /**
+     * Removes and returns the element with the highest priority (the smallest).
+     * @return element with the highest priority
+     * @throws EmptyQueueException if the queue is empty
+     */
+    E pollMin( );
+
+    /**
+     * Moves the element of the handle to its place after its priority
+     * changed (the element compares differently, e.g. its stars changed).
+     * @param handle of an element in the queue
+     * @throws NoSuchElementException if the element of the handle left the queue
+     */
+    void updateKey( PriorityQueueHandle<E> handle );
+
+    /**
+     * Removes the element of the handle from the queue and returns it.
+     * @param handle of an element in the queue
+     * @return element removed
+     * @throws NoSuchElementException if the element of the handle left the queue
+     */
+    E remove( PriorityQueueHandle<E> handle );
+}
@@ -0,0 +1,29 @@
+package dataStructures;
+
+/**
+ * Priority Queue Handle interface.
+ * A reference to the place of an element in a priority queue, returned when
+ * the element is inserted, so that the element can later be moved or removed
+ * without searching for it.
+ * A handle stops being valid when its element leaves the queue.
+ *
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+public interface PriorityQueueHandle<E> {
+
+    /**
+     * Returns the element referred to by the handle.
+     *
+     * @return the element of the handle
+     */
+    E getElement();
+
+    /**
+     * Returns true iff the element is still in the queue.
+     *
+     * @return true iff the handle is valid
+     */
+    boolean isValid();
+}
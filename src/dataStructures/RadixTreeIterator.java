@@ -0,0 +1,121 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Radix Tree Iterator
+ * Iterator of the entries of a subtree of a {@link RadixTreeMap}, in the
+ * order of the keys (of their characters, folded if the map ignores case).
+ * Walks the subtree depth first, children in order, rebuilding the keys in
+ * one buffer of characters: a string is built only for the keys returned.
+ * @author AED  Team
+ * @version 1.0
+ * @param <V> Generic Value
+ */
+class RadixTreeIterator<V> implements Iterator<Map.Entry<CharSequence,V>> {
+
+    // Root of the subtree iterated (null for an empty iteration).
+    private final RadixTreeNode<V> start;
+
+    // Characters of the keys before the label of start.
+    private final char[] startPath;
+
+    // Nodes still to visit (next on top), and the length of the key before each label.
+    private RadixTreeNode<V>[] nodes;
+    private int[] depths;
+    private int top;
+
+    // Characters of the key of the node visited last.
+    private char[] key;
+
+    // Next entry to return, or null if the iteration is over.
+    private Map.Entry<CharSequence,V> nextEntry;
+
+    /**
+     * @param start root of the subtree iterated (null for an empty iteration)
+     * @param startPath characters of the keys before the label of start
+     */
+    public RadixTreeIterator(RadixTreeNode<V> start, char[] startPath) {
+        this.start = start;
+        this.startPath = startPath;
+        rewind();
+    }
+
+    /**
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    public boolean hasNext() {
+        return nextEntry != null;
+    }
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    public Map.Entry<CharSequence,V> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        Map.Entry<CharSequence,V> entry = nextEntry;
+        advance();
+        return entry;
+    }
+
+    /**
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public void rewind() {
+        nodes = (RadixTreeNode<V>[]) new RadixTreeNode[16];
+        depths = new int[16];
+        top = 0;
+        key = new char[Math.max(16, startPath.length * 2)];
+        System.arraycopy(startPath, 0, key, 0, startPath.length);
+        if (start != null)
+            push(start, startPath.length);
+        advance();
+    }
+
+    // Visits nodes until one with a value, which becomes nextEntry.
+    private void advance() {
+        nextEntry = null;
+        while (top > 0 && nextEntry == null) {
+            top--;
+            RadixTreeNode<V> node = nodes[top];
+            int before = depths[top];
+            int depth = before + node.label.length;
+            nodes[top] = null;
+            if (depth > key.length) {
+                char[] larger = new char[Math.max(depth, 2 * key.length)];
+                System.arraycopy(key, 0, larger, 0, before);
+                key = larger;
+            }
+            System.arraycopy(node.label, 0, key, before, node.label.length);
+            // Children in reverse, so that the first one is on top
+            for (int i = node.count - 1; i >= 0; i--)
+                push(node.children[i], depth);
+            if (node.value != null)
+                nextEntry = new Map.Entry<>(new String(key, 0, depth), node.value);
+        }
+    }
+
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private void push(RadixTreeNode<V> node, int depth) {
+        if (top == nodes.length) {
+            RadixTreeNode<V>[] largerNodes = (RadixTreeNode<V>[]) new RadixTreeNode[2 * top];
+            int[] largerDepths = new int[2 * top];
+            System.arraycopy(nodes, 0, largerNodes, 0, top);
+            System.arraycopy(depths, 0, largerDepths, 0, top);
+            nodes = largerNodes;
+            depths = largerDepths;
+        }
+        nodes[top] = node;
+        depths[top] = depth;
+        top++;
+    }
+}
@@ -0,0 +1,321 @@
+package dataStructures;
+
+import java.io.*;
+
+/**
+ * Radix Tree Map
+ * A map from character sequences to values that keeps the keys in a
+ * compressed trie: keys that share a prefix share the nodes of the prefix,
+ * and a run of characters with no branching is one edge (a char array), not
+ * one node per character. A lookup compares the characters of the key with
+ * the labels on its path, in O(length of the key), whatever the number of
+ * keys, and never builds a string: any {@link CharSequence} (e.g. a
+ * {@link CharSlice} of a comment) can be looked up.
+ * <p>
+ * The entries of the keys with a given prefix are found by walking down to
+ * the prefix and iterating its subtree: {@link #prefixIterator(CharSequence)}.
+ * Iterations are in the order of the characters of the keys.
+ * <p>
+ * If the map ignores case, the keys are kept (and returned by iterations)
+ * in lowercase, folded as by {@link CaseInsensitiveEquivalence}.
+ * @author AED  Team
+ * @version 1.0
+ * @param <V> Generic Value
+ */
+public class RadixTreeMap<V> implements Map<CharSequence,V>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // No characters (the label of the root).
+    private static final char[] EMPTY = new char[0];
+
+    // True iff keys are equal whatever their case.
+    private final boolean ignoreCase;
+
+    // Root of the trie (its label is empty; its value is the one of the empty key).
+    private transient RadixTreeNode<V> root;
+
+    // Number of entries in the map.
+    private transient int currentSize;
+
+    public RadixTreeMap() {
+        this(false);
+    }
+
+    /**
+     * Constructor of an empty map.
+     * @param ignoreCase true for keys equal whatever their case
+     */
+    public RadixTreeMap(boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        this.root = new RadixTreeNode<>(EMPTY, null);
+        this.currentSize = 0;
+    }
+
+    // Returns the character as kept in the trie.
+    private char fold(char c) {
+        return ignoreCase ? Character.toLowerCase(c) : c;
+    }
+
+    // Returns the characters [from, to) of the sequence, as kept in the trie.
+    private char[] fold(CharSequence sequence, int from, int to) {
+        char[] chars = new char[to - from];
+        for (int i = from; i < to; i++)
+            chars[i - from] = fold(sequence.charAt(i));
+        return chars;
+    }
+
+    // Number of characters of the label matching the key from position from.
+    private int matching(char[] label, CharSequence key, int from) {
+        int length = Math.min(label.length, key.length() - from);
+        int i = 0;
+        while (i < length && label[i] == fold(key.charAt(from + i)))
+            i++;
+        return i;
+    }
+
+    /**
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true iff the dictionary contains no entries
+     */
+    @Override
+    public boolean isEmpty() {
+        return currentSize == 0;
+    }
+
+    /**
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of entries in the dictionary
+     */
+    @Override
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     * O(length of the key); the characters are read in place.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V get(CharSequence key) {
+        RadixTreeNode<V> node = root;
+        int i = 0;
+        int length = key.length();
+        while (i < length) {
+            node = node.child(fold(key.charAt(i)));
+            if (node == null)
+                return null;
+            char[] label = node.label;
+            if (length - i < label.length)
+                return null;
+            for (int j = 1; j < label.length; j++) {
+                if (label[j] != fold(key.charAt(i + j)))
+                    return null;
+            }
+            i += label.length;
+        }
+        return node.value;
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     * A new key adds at most two nodes: one that splits an edge where the
+     * key leaves it, and one for the rest of the key.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V put(CharSequence key, V value) {
+        RadixTreeNode<V> node = root;
+        int i = 0;
+        int length = key.length();
+        while (i < length) {
+            int position = node.find(fold(key.charAt(i)));
+            if (position < 0) {
+                node.insert(-(position + 1), new RadixTreeNode<>(fold(key, i, length), value));
+                currentSize++;
+                return null;
+            }
+            RadixTreeNode<V> child = node.children[position];
+            int common = matching(child.label, key, i);
+            if (common < child.label.length) {
+                // The key leaves (or ends inside) the edge: split it after the common part
+                RadixTreeNode<V> middle = new RadixTreeNode<>(copy(child.label, 0, common), null);
+                child.label = copy(child.label, common, child.label.length);
+                middle.insert(0, child);
+                node.children[position] = middle;
+                child = middle;
+            }
+            node = child;
+            i += common;
+        }
+        V oldValue = node.value;
+        node.value = value;
+        if (oldValue == null)
+            currentSize++;
+        return oldValue;
+    }
+
+    private static char[] copy(char[] chars, int from, int to) {
+        char[] part = new char[to - from];
+        System.arraycopy(chars, from, part, 0, to - from);
+        return part;
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * A node left without value and with one child is merged with the
+     * child, so the trie stays compressed.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    public V remove(CharSequence key) {
+        RadixTreeNode<V> parent = null;
+        int position = -1;
+        RadixTreeNode<V> node = root;
+        int i = 0;
+        int length = key.length();
+        while (i < length) {
+            int next = node.find(fold(key.charAt(i)));
+            if (next < 0)
+                return null;
+            RadixTreeNode<V> child = node.children[next];
+            if (matching(child.label, key, i) < child.label.length)
+                return null;
+            parent = node;
+            position = next;
+            node = child;
+            i += child.label.length;
+        }
+        V oldValue = node.value;
+        if (oldValue == null)
+            return null;
+        node.value = null;
+        currentSize--;
+        if (parent == null)
+            return oldValue; // the empty key
+        if (node.count == 0) {
+            parent.delete(position);
+            if (parent != root && parent.value == null && parent.count == 1)
+                mergeWithChild(parent);
+        } else if (node.count == 1)
+            mergeWithChild(node);
+        return oldValue;
+    }
+
+    // Joins the node (without value) with its only child, keeping the node in its parent.
+    private void mergeWithChild(RadixTreeNode<V> node) {
+        RadixTreeNode<V> child = node.children[0];
+        char[] label = new char[node.label.length + child.label.length];
+        System.arraycopy(node.label, 0, label, 0, node.label.length);
+        System.arraycopy(child.label, 0, label, node.label.length, child.label.length);
+        node.label = label;
+        node.value = child.value;
+        node.firsts = child.firsts;
+        node.children = child.children;
+        node.count = child.count;
+    }
+
+    /**
+     * Returns an iterator of the entries whose keys start with the prefix,
+     * in the order of the keys. The prefix is found in O(length of the
+     * prefix), then only the entries with the prefix are visited.
+     *
+     * @param prefix of the keys of the iteration
+     * @return iterator of the entries with keys starting with prefix
+     */
+    public Iterator<Entry<CharSequence,V>> prefixIterator(CharSequence prefix) {
+        RadixTreeNode<V> node = root;
+        int i = 0;
+        int length = prefix.length();
+        while (i < length) {
+            RadixTreeNode<V> child = node.child(fold(prefix.charAt(i)));
+            if (child == null)
+                return new RadixTreeIterator<>(null, EMPTY);
+            int common = matching(child.label, prefix, i);
+            if (i + common == length)
+                return new RadixTreeIterator<>(child, fold(prefix, 0, i)); // the prefix ends in this edge
+            if (common < child.label.length)
+                return new RadixTreeIterator<>(null, EMPTY);
+            node = child;
+            i += common;
+        }
+        return new RadixTreeIterator<>(node, fold(prefix, 0, length - node.label.length));
+    }
+
+    /**
+     * Returns an iterator of the entries in the dictionary, in the order of the keys.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<CharSequence,V>> iterator() {
+        return new RadixTreeIterator<>(root, EMPTY);
+    }
+
+    /**
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Iterator<V> values() {
+        return new ValuesIterator(iterator());
+    }
+
+    /**
+     * Returns an iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Iterator<CharSequence> keys() {
+        return new KeysIterator(iterator());
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        oos.writeInt(currentSize);
+        Iterator<Entry<CharSequence,V>> it = iterator();
+        while (it.hasNext()) {
+            Entry<CharSequence,V> entry = it.next();
+            oos.writeUTF(entry.key().toString());
+            oos.writeObject(entry.value());
+        }
+        oos.flush();
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        root = new RadixTreeNode<>(EMPTY, null);
+        currentSize = 0;
+        int size = ois.readInt();
+        for (int i = 0; i < size; i++) {
+            String key = ois.readUTF();
+            put(key, (V) ois.readObject());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package dataStructures;
+
+/**
+ * Radix Tree Node
+ * A package-private helper class for {@link RadixTreeMap}: the characters of
+ * the edge from the parent (a run of characters shared by every key below),
+ * the value of the key that ends here (or null), and the children, sorted
+ * by the first character of their labels, which are all different.
+ * The first characters are kept apart in their own array, so a child is
+ * chosen by binary search over contiguous chars.
+ * @author AED  Team
+ * @version 1.0
+ * @param <V> Generic Value
+ */
+class RadixTreeNode<V> {
+
+    // No children yet (shared by every leaf).
+    private static final char[] NO_CHARS = new char[0];
+
+    // Characters of the edge from the parent (empty for the root).
+    char[] label;
+
+    // Value of the key that ends at this node, or null.
+    V value;
+
+    // First character of the label of each child, in increasing order.
+    char[] firsts;
+
+    // Children, in the order of firsts (only the first count are used).
+    RadixTreeNode<V>[] children;
+
+    // Number of children.
+    int count;
+
+    RadixTreeNode(char[] label, V value) {
+        this.label = label;
+        this.value = value;
+        this.firsts = NO_CHARS;
+        this.children = null;
+        this.count = 0;
+    }
+
+    /**
+     * Returns the position of the child whose label starts with c if there
+     * is one; otherwise, returns -(insertion point + 1).
+     * @param c first character of the label
+     * @return position of the child, or -(insertion point + 1)
+     */
+    int find(char c) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char first = firsts[middle];
+            if (first < c)
+                low = middle + 1;
+            else if (first > c)
+                high = middle - 1;
+            else
+                return middle;
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the child whose label starts with c, or null.
+     * @param c first character of the label
+     * @return child starting with c, or null
+     */
+    RadixTreeNode<V> child(char c) {
+        int i = find(c);
+        return i >= 0 ? children[i] : null;
+    }
+
+    /**
+     * Inserts the child at position i (its label starts with a character
+     * not used by the other children).
+     * @param i position of the new child
+     * @param child node to insert
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    void insert(int i, RadixTreeNode<V> child) {
+        if (count == firsts.length) {
+            int capacity = Math.max(2, 2 * count);
+            char[] newFirsts = new char[capacity];
+            RadixTreeNode<V>[] newChildren = (RadixTreeNode<V>[]) new RadixTreeNode[capacity];
+            System.arraycopy(firsts, 0, newFirsts, 0, count);
+            if (children != null)
+                System.arraycopy(children, 0, newChildren, 0, count);
+            firsts = newFirsts;
+            children = newChildren;
+        }
+        System.arraycopy(firsts, i, firsts, i + 1, count - i);
+        System.arraycopy(children, i, children, i + 1, count - i);
+        firsts[i] = child.label[0];
+        children[i] = child;
+        count++;
+    }
+
+    /**
+     * Removes the child at position i.
+     * @param i position of the child
+     */
+    void delete(int i) {
+        count--;
+        System.arraycopy(firsts, i + 1, firsts, i, count - i);
+        System.arraycopy(children, i + 1, children, i, count - i);
+        children[count] = null;
+    }
+}
@@ -0,0 +1,72 @@
+package dataStructures;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Rank Spliterator
+ * A {@link Spliterator} over the entries of a {@link SortedMap} at the
+ * positions [index, fence) of the order of the keys. It splits by halving
+ * the range of positions, and only positions its iterator (with
+ * iterator(position), O(log n) in maps that know the sizes of their
+ * subtrees) when the traversal starts.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class RankSpliterator<K extends Comparable<K>,V> implements Spliterator<Map.Entry<K,V>> {
+
+    // Map of the entries.
+    private final SortedMap<K,V> map;
+
+    // Position of the next entry and end (exclusive) of the range.
+    private int index;
+    private final int fence;
+
+    // Iterator from position index, once the traversal has started (null before).
+    private Iterator<Map.Entry<K,V>> iterator;
+
+    /**
+     * @param map map of the entries
+     * @param from position of the first entry of the range
+     * @param to end (exclusive) of the range
+     */
+    RankSpliterator(SortedMap<K,V> map, int from, int to) {
+        this.map = map;
+        this.index = from;
+        this.fence = to;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Map.Entry<K,V>> action) {
+        if (index >= fence)
+            return false;
+        if (iterator == null)
+            iterator = map.iterator(index);
+        index++;
+        action.accept(iterator.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<Map.Entry<K,V>> trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (iterator != null || middle <= index)
+            return null;
+        RankSpliterator<K,V> prefix = new RankSpliterator<>(map, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+    }
+}
@@ -0,0 +1,298 @@
+package dataStructures;
+
+import java.io.*;
+import java.util.Spliterator;
+
+/**
+ * Robin Hood Hash Table.
+ * An open addressing hash table with linear probing, where keys, values and
+ * hash codes are kept in parallel arrays and the table length is always a
+ * power of two (the slot of a key is obtained by masking, not by division).
+ * <p>
+ * On insertion, an entry that is further away from its home slot takes the
+ * place of a "richer" entry (one closer to its own home slot), which keeps
+ * probe sequences short and lets unsuccessful searches stop early.
+ * Removals use backward-shift deletion, so there are no removed cells
+ * (tombstones) and the table never degrades between resizes.
+ * Every probe compares the cached hash codes before comparing the keys.
+ * Keys are hashed and compared by an {@link Equivalence} (by default,
+ * hashCode and equals).
+ *
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+public class RobinHoodHashTable<K,V> extends HashTable<K,V> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    //Load factor
+    static final float MAX_LOAD_FACTOR = 0.75f;
+
+    // Hash code stored in an empty slot.
+    static final int EMPTY = 0;
+
+    // Keys of the entries; keys[i] is meaningful only if hashes[i] != EMPTY.
+    private transient Object[] keys;
+
+    // Values of the entries, parallel to keys.
+    private transient Object[] values;
+
+    // Cached (spread) hash codes of the keys, parallel to keys. EMPTY marks a free slot.
+    private transient int[] hashes;
+
+    // table length - 1 (the table length is a power of two).
+    private transient int mask;
+
+    // Hashing and equality of the keys.
+    private final Equivalence<? super K> equivalence;
+
+    public RobinHoodHashTable( ){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RobinHoodHashTable( int capacity ){
+        this(capacity, NaturalEquivalence.INSTANCE);
+    }
+
+    public RobinHoodHashTable( Equivalence<? super K> equivalence ){
+        this(DEFAULT_CAPACITY, equivalence);
+    }
+
+    /**
+     * Creates a table whose keys are hashed and compared by the equivalence.
+     * @param capacity expected number of entries
+     * @param equivalence hashing and equality of the keys
+     */
+    public RobinHoodHashTable( int capacity, Equivalence<? super K> equivalence ){
+        super(capacity);
+        this.equivalence = equivalence;
+        allocate(HashTable.nextPowerOfTwo((int) (capacity / MAX_LOAD_FACTOR) + 1));
+    }
+
+    private void allocate( int tableLength ){
+        keys = new Object[tableLength];
+        values = new Object[tableLength];
+        hashes = new int[tableLength];
+        mask = tableLength - 1;
+        maxSize = (int) (tableLength * MAX_LOAD_FACTOR);
+    }
+
+    // Returns the spread hash code of the key, never equal to EMPTY.
+    // The low bits select the slot, so the high bits are mixed into them.
+    private int hash( K key ){
+        int h = equivalence.hash(key);
+        h ^= (h >>> 16);
+        h *= 0x85ebca6b;
+        h ^= (h >>> 13);
+        return (h == EMPTY) ? 1 : h;
+    }
+
+    // Distance between the slot and the home slot of the hash code.
+    private int probeDistance( int hash, int slot ){
+        return (slot - (hash & mask)) & mask;
+    }
+
+    /**
+     * Returns the slot of the entry with the specified key, or -1.
+     * The search stops at an empty slot, or as soon as it reaches an entry that
+     * is closer to its home slot than the key being searched would be.
+     * @param key to search
+     * @param h spread hash code of the key
+     * @return slot of the key, or -1 if the key is not in the table
+     */
+    @SuppressWarnings("unchecked")
+    private int findSlot( K key, int h ){
+        int slot = h & mask;
+        for (int dist = 0; ; dist++) {
+            int sh = hashes[slot];
+            if (sh == EMPTY || probeDistance(sh, slot) < dist)
+                return -1;
+            if (sh == h && equivalence.equivalent((K) keys[slot], key))
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int slot = findSlot(key, hash(key));
+        return slot == -1 ? null : (V) values[slot];
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int h = hash(key);
+        int slot = findSlot(key, h);
+        if (slot != -1) {
+            V oldValue = (V) values[slot];
+            values[slot] = value;
+            return oldValue;
+        }
+        if (isFull())
+            rehash();
+        insert(h, key, value);
+        currentSize++;
+        return null;
+    }
+
+    // Inserts an entry whose key is known not to be in the table.
+    private void insert( int h, Object key, Object value ){
+        int slot = h & mask;
+        int dist = 0;
+        while (true) {
+            int sh = hashes[slot];
+            if (sh == EMPTY) {
+                hashes[slot] = h;
+                keys[slot] = key;
+                values[slot] = value;
+                return;
+            }
+            int slotDist = probeDistance(sh, slot);
+            if (slotDist < dist) {
+                // The resident is richer: it gives its slot away and is carried forward.
+                Object k = keys[slot];
+                Object v = values[slot];
+                hashes[slot] = h;
+                keys[slot] = key;
+                values[slot] = value;
+                h = sh;
+                key = k;
+                value = v;
+                dist = slotDist;
+            }
+            slot = (slot + 1) & mask;
+            dist++;
+        }
+    }
+
+    private void rehash(){
+        int[] oldHashes = hashes;
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldHashes.length * 2);
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != EMPTY)
+                insert(oldHashes[i], oldKeys[i], oldValues[i]);
+        }
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * The entries that follow it in the cluster are shifted back one slot.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int slot = findSlot(key, hash(key));
+        if (slot == -1)
+            return null;
+        V oldValue = (V) values[slot];
+        int next = (slot + 1) & mask;
+        while (hashes[next] != EMPTY && probeDistance(hashes[next], next) > 0) {
+            hashes[slot] = hashes[next];
+            keys[slot] = keys[next];
+            values[slot] = values[next];
+            slot = next;
+            next = (next + 1) & mask;
+        }
+        hashes[slot] = EMPTY;
+        keys[slot] = null;
+        values[slot] = null;
+        currentSize--;
+        return oldValue;
+    }
+
+    /**
+     * Returns the number of slots inspected by a successful search of the key
+     * (1 if the key is in its home slot), or 0 if the key is not in the table.
+     * Used to measure the length of the probe sequences.
+     * @param key to search
+     * @return number of probes needed to find the key
+     */
+    int probeLength(K key) {
+        int slot = findSlot(key, hash(key));
+        return slot == -1 ? 0 : probeDistance(hashes[slot], slot) + 1;
+    }
+
+    /**
+     * Returns an iterator of the entries in the dictionary.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new RobinHoodHashTableIterator<>(hashes, keys, values);
+    }
+
+    /**
+     * Returns a spliterator of the entries in the dictionary, which splits by
+     * ranges of slots and builds each entry only when it is traversed.
+     *
+     * @return spliterator of the entries in the dictionary
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Spliterator<Entry<K, V>> spliterator() {
+        int[] slotHashes = hashes;
+        Object[] slotKeys = keys;
+        Object[] slotValues = values;
+        return new IndexSpliterator<>(i -> slotHashes[i] == EMPTY ? null : new Entry<>((K) slotKeys[i], (V) slotValues[i]),
+                0, slotHashes.length, false, currentSize, Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(hashes.length);
+        for (int i = 0; i < hashes.length; i++) {
+            if (hashes[i] != EMPTY) {
+                out.writeObject(keys[i]);
+                out.writeObject(values[i]);
+            }
+        }
+        out.writeObject(null); // End marker
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // Hash codes are not written: identity hash codes change between runs.
+        allocate(in.readInt());
+        currentSize = 0;
+        Object key;
+        while ((key = in.readObject()) != null) {
+            V value = (V) in.readObject();
+            put((K) key, value);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Robin Hood Hash Table Iterator
+ * Iterates over the occupied slots of the parallel arrays of a
+ * {@link RobinHoodHashTable}, building each entry only when it is returned.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class RobinHoodHashTableIterator<K,V> implements Iterator<Map.Entry<K,V>> {
+
+    private final int[] hashes;
+    private final Object[] keys;
+    private final Object[] values;
+
+    // Slot of the next entry to return (hashes.length when there is none).
+    private int nextSlot;
+
+    public RobinHoodHashTableIterator(int[] hashes, Object[] keys, Object[] values) {
+        this.hashes = hashes;
+        this.keys = keys;
+        this.values = values;
+        rewind();
+    }
+
+    /**
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    public boolean hasNext() {
+        return nextSlot < hashes.length;
+    }
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    @SuppressWarnings("unchecked")
+    public Map.Entry<K,V> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        Map.Entry<K,V> entry = new Map.Entry<>((K) keys[nextSlot], (V) values[nextSlot]);
+        advance(nextSlot + 1);
+        return entry;
+    }
+
+    /**
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    public void rewind() {
+        advance(0);
+    }
+
+    private void advance(int from) {
+        int slot = from;
+        while (slot < hashes.length && hashes[slot] == RobinHoodHashTable.EMPTY)
+            slot++;
+        nextSlot = slot;
+    }
+}
@@ -1,9 +1,20 @@
 package dataStructures;
 
 import java.io.Serializable;
+import java.util.Spliterator;
 
 /**
  * SepChain Hash Table
+ * Buckets are singly linked lists; a bucket that grows past
+ * TREEIFY_THRESHOLD entries is converted into a balanced tree bucket,
+ * so that many colliding keys cost O(log n) instead of O(n) per operation.
+ * <p>
+ * With incremental rehashing, growing the table does not move every entry
+ * at once: the old and the new bucket arrays are kept side by side and each
+ * following operation moves MIGRATION_STEP old buckets, while get and remove
+ * look in both arrays. No single put pays for the whole rehash.
+ * <p>
+ * The {@link HashStrategy} chooses the array lengths and maps hash codes to buckets.
  * @author AED  Team
  * @version 1.0
  * @param <K> Generic Key
@@ -16,29 +27,114 @@ public class SepChainHashTable<K,V> extends HashTable<K,V> implements Serializab
     static final float IDEAL_LOAD_FACTOR =0.75f;
     static final float MAX_LOAD_FACTOR =0.9f;
 
+    // A bucket list longer than this is converted into a tree bucket.
+    static final int TREEIFY_THRESHOLD = 8;
+
+    // A tree bucket smaller than this is converted back into a list.
+    static final int UNTREEIFY_THRESHOLD = 6;
+
+    // Number of old buckets moved by each operation during an incremental rehash.
+    static final int MIGRATION_STEP = 4;
+
     // The array of Map with singly linked list.
+    // A bucket is created by the first put into it (null means empty),
+    // so that allocating a new table costs no more than the array itself.
     private transient Map<K,V>[] table;
 
+    // Whether the table grows by incremental rehashing.
+    private final boolean incrementalRehash;
+
+    // Hashing and equality of the keys.
+    private final Equivalence<? super K> equivalence;
+
+    // Array lengths and positions of the hash codes.
+    private final HashStrategy hashStrategy;
+
+    // Bucket array being emptied by an incremental rehash, or null.
+    private transient Map<K,V>[] oldTable;
+
+    // Buckets of oldTable below this index were already moved (and set to null).
+    private transient int migrationIndex;
+
     public SepChainHashTable( ){
         this(DEFAULT_CAPACITY);
     }
 
-    @SuppressWarnings("unchecked")
     public SepChainHashTable( int capacity ){
+        this(capacity, false);
+    }
+
+    public SepChainHashTable( Equivalence<? super K> equivalence ){
+        this(DEFAULT_CAPACITY, false, equivalence);
+    }
+
+    public SepChainHashTable( int capacity, boolean incrementalRehash ){
+        this(capacity, incrementalRehash, NaturalEquivalence.INSTANCE);
+    }
+
+    /**
+     * Creates a table whose keys are hashed and compared by the equivalence.
+     * @param capacity expected number of entries
+     * @param equivalence hashing and equality of the keys
+     */
+    public SepChainHashTable( int capacity, Equivalence<? super K> equivalence ){
+        this(capacity, false, equivalence);
+    }
+
+    /**
+     * Creates a table that maps hash codes to buckets with the hash strategy.
+     * @param capacity expected number of entries
+     * @param hashStrategy array lengths and positions of the hash codes
+     */
+    public SepChainHashTable( int capacity, HashStrategy hashStrategy ){
+        this(capacity, false, NaturalEquivalence.INSTANCE, hashStrategy);
+    }
+
+    public SepChainHashTable( int capacity, boolean incrementalRehash, Equivalence<? super K> equivalence ){
+        this(capacity, incrementalRehash, equivalence, DEFAULT_HASH_STRATEGY);
+    }
+
+    /**
+     * Creates a table that, if incrementalRehash is true, spreads the work of
+     * each resize over the operations that follow it.
+     * @param capacity expected number of entries
+     * @param incrementalRehash true to use incremental rehashing
+     * @param equivalence hashing and equality of the keys
+     * @param hashStrategy array lengths and positions of the hash codes
+     */
+    public SepChainHashTable( int capacity, boolean incrementalRehash, Equivalence<? super K> equivalence,
+                              HashStrategy hashStrategy ){
         super(capacity);
+        this.incrementalRehash = incrementalRehash;
+        this.equivalence = equivalence;
+        this.hashStrategy = hashStrategy;
 
-        int arraySize = HashTable.nextPrime((int)(capacity/IDEAL_LOAD_FACTOR));
-        this.table =  new MapSinglyList[arraySize];
-        for (int i = 0; i < arraySize; i++){
-            table[i] = new MapSinglyList<>();
-        }
+        int arraySize = hashStrategy.tableLength((int)(capacity/IDEAL_LOAD_FACTOR));
+        this.table = newTable(arraySize);
         this.maxSize = (int)(arraySize * MAX_LOAD_FACTOR);
        //TODO: Left as exercise//done
     }
 
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private static <K,V> Map<K,V>[] newTable( int arraySize ){
+        return new Map[arraySize];
+    }
+
     // Returns the hash value of the specified key.
     protected int hash( K key ){
-        return Math.abs( key.hashCode() ) % table.length;
+        return hash(key, table.length);
+    }
+
+    // Returns the hash value of the specified key in a table with the specified length.
+    private int hash( K key, int length ){
+        return hashStrategy.index(equivalence.hash(key), length);
+    }
+
+    // Returns the bucket of oldTable that still holds the key's entry (if any), or null.
+    private Map<K,V> oldBucket( K key ){
+        if (oldTable == null)
+            return null;
+        return oldTable[hash(key, oldTable.length)];
     }
     /**
      * If there is an entry in the dictionary whose key is the specified key,
@@ -49,8 +145,14 @@ public class SepChainHashTable<K,V> extends HashTable<K,V> implements Serializab
      * or null if the dictionary does not have an entry with that key
      */
     public V get(K key) {
-        int index = hash(key);
-        return table[index].get(key);
+        Map<K,V> oldBucket = oldBucket(key);
+        if (oldBucket != null) {
+            V value = oldBucket.get(key);
+            if (value != null)
+                return value;
+        }
+        Map<K,V> map = table[hash(key)];
+        return map == null ? null : map.get(key);
         //TODO: Left as an exercise.//done
     }
 
@@ -65,13 +167,15 @@ public class SepChainHashTable<K,V> extends HashTable<K,V> implements Serializab
      * or null if the dictionary does not have an entry with that key
      */
     public V put(K key, V value) {
+        migrateStep();
         if (isFull())
             rehash();
 
-        int index = hash(key);
-        Map<K,V> map = table[index];
-        V oldValue = map.put(key, value);
+        Map<K,V> oldBucket = oldBucket(key);
+        if (oldBucket != null && oldBucket.get(key) != null)
+            return oldBucket.put(key, value);
 
+        V oldValue = putInBucket(hash(key), key, value);
         if (oldValue == null) {
             currentSize++;
         }
@@ -80,26 +184,60 @@ public class SepChainHashTable<K,V> extends HashTable<K,V> implements Serializab
         //TODO: Left as an exercise.//done
     }
 
-    @SuppressWarnings("unchecked")
-    private void rehash() {
-        Map<K,V>[] oldTable = table;
-        int newArraySize = HashTable.nextPrime(2 * oldTable.length);
-        table =  new MapSinglyList[newArraySize];
-        for (int i = 0; i < newArraySize; i++) {
-            table[i] = new MapSinglyList<>();
+    // Inserts the entry in the bucket of the table with the specified index,
+    // converting the bucket into a tree bucket if it becomes too long.
+    private V putInBucket(int index, K key, V value) {
+        Map<K,V> map = table[index];
+        if (map == null) {
+            map = new MapSinglyList<>(equivalence);
+            table[index] = map;
         }
-        this.currentSize = 0;
+        V oldValue = map.put(key, value);
+        if (oldValue == null && map.size() > TREEIFY_THRESHOLD && map instanceof MapSinglyList)
+            table[index] = moveEntries(map, new TreeBucket<>(equivalence));
+        return oldValue;
+    }
+
+    private void rehash() {
+        completeRehash();
+        Map<K,V>[] previousTable = table;
+        int newArraySize = hashStrategy.tableLength(2 * previousTable.length);
+        table = newTable(newArraySize);
         this.maxSize = (int)(newArraySize * IDEAL_LOAD_FACTOR);
 
-        for (Map<K,V> map : oldTable) {
+        oldTable = previousTable;
+        migrationIndex = 0;
+        if (!incrementalRehash)
+            completeRehash();
+    }
+
+    // Moves the next MIGRATION_STEP buckets of an incremental rehash in progress.
+    private void migrateStep() {
+        if (oldTable != null)
+            migrateBuckets(MIGRATION_STEP);
+    }
+
+    // Moves every remaining bucket of a rehash in progress.
+    private void completeRehash() {
+        if (oldTable != null)
+            migrateBuckets(oldTable.length);
+    }
+
+    private void migrateBuckets(int count) {
+        int end = Math.min(migrationIndex + count, oldTable.length);
+        for (; migrationIndex < end; migrationIndex++) {
+            Map<K,V> map = oldTable[migrationIndex];
+            if (map == null)
+                continue;
             Iterator<Entry<K,V>> it = map.iterator();
             while (it.hasNext()) {
                 Entry<K,V> entry = it.next();
-                this.put(entry.key(), entry.value());
+                putInBucket(hash(entry.key()), entry.key(), entry.value());
             }
+            oldTable[migrationIndex] = null;
         }
-
-        //TODO: Left as an exercise.//done
+        if (migrationIndex == oldTable.length)
+            oldTable = null;
     }
 
     /**
@@ -112,30 +250,71 @@ public class SepChainHashTable<K,V> extends HashTable<K,V> implements Serializab
      * or null if the dictionary does not an entry with that key
      */
     public V remove(K key) {
+        migrateStep();
+        Map<K,V> oldBucket = oldBucket(key);
+        if (oldBucket != null) {
+            V oldValue = oldBucket.remove(key);
+            if (oldValue != null) {
+                currentSize--;
+                return oldValue;
+            }
+        }
         int index = hash(key);
-        V oldValue = table[index].remove(key);
+        Map<K,V> map = table[index];
+        if (map == null)
+            return null;
+        V oldValue = map.remove(key);
         if (oldValue != null) {
             currentSize--;
+            if (map.size() < UNTREEIFY_THRESHOLD && map instanceof TreeBucket)
+                table[index] = moveEntries(map, new MapSinglyList<>(equivalence));
         }
         return oldValue;
         //TODO: Left as an exercise.//done
     }
 
+    // Copies the entries of a bucket into a new (empty) bucket and returns it.
+    private Map<K,V> moveEntries(Map<K,V> from, Map<K,V> to) {
+        Iterator<Entry<K,V>> it = from.iterator();
+        while (it.hasNext()) {
+            Entry<K,V> entry = it.next();
+            to.put(entry.key(), entry.value());
+        }
+        return to;
+    }
+
     /**
      * Returns an iterator of the entries in the dictionary.
+     * A rehash in progress is completed first.
      *
      * @return iterator of the entries in the dictionary
      */
     public Iterator<Entry<K, V>> iterator() {
+        completeRehash();
         return new SepChainHashTableIterator<>(table);
     }
 
+    /**
+     * Returns a spliterator of the entries in the dictionary, which splits by
+     * ranges of buckets. A rehash in progress is completed first.
+     *
+     * @return spliterator of the entries in the dictionary
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        completeRehash();
+        return new BucketSpliterator<>(table, 0, table.length, currentSize);
+    }
+
 
     private void writeObject(java.io.ObjectOutputStream out)
             throws java.io.IOException {
+        completeRehash();
         out.defaultWriteObject();
         out.writeInt(table.length);
         for (Map<K,V> map : table) {
+            if (map == null)
+                continue;
             Iterator<Entry<K,V>> it = map.iterator();
             while (it.hasNext()) {
                 Entry<K,V> entry = it.next();
@@ -153,10 +332,8 @@ public class SepChainHashTable<K,V> extends HashTable<K,V> implements Serializab
 
         // 1. Ler o tamanho do array da tabela
         int tableLength = in.readInt();
-        this.table =  new MapSinglyList[tableLength];
-        for (int i = 0; i < tableLength; i++) {
-            table[i] = new MapSinglyList<>();
-        }
+        this.table = newTable(tableLength);
+        this.currentSize = 0; // the entries below are counted again by put
 
         // 2. CORREÇÃO: Ler as chaves e valores que foram gravados
         // O writeObject escreve 'null' no final como marcador.
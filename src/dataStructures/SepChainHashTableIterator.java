@@ -70,7 +70,7 @@ class SepChainHashTableIterator<K,V> implements Iterator<Map.Entry<K,V>> {
         currentBucketIndex++;
 
         while(currentBucketIndex < table.length) {
-            if(!table[currentBucketIndex].isEmpty()) {
+            if(table[currentBucketIndex] != null && !table[currentBucketIndex].isEmpty()) {
                 currentBucketIterator = table[currentBucketIndex].iterator();
                 return;
             }
@@ -0,0 +1,88 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * An iterator over the elements of another iterator but the first count.
+ * The skipped elements are only stepped over, never stored.
+ *
+ * @author AED Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+public class SkipIterator<E> implements Iterator<E> {
+
+    // --- Fields ---
+
+    /**
+     * The underlying (wrapped) iterator that provides the elements.
+     */
+    private final Iterator<E> iterator;
+
+    /**
+     * The number of elements skipped at the start of the iteration.
+     */
+    private final int count;
+
+    // --- Constructor ---
+
+    /**
+     * Creates a new SkipIterator.
+     *
+     * @apiNote Time Complexity: O(count)
+     * @param iterator The iterator to be wrapped.
+     * @param count The number of elements to skip (not negative).
+     */
+    public SkipIterator(Iterator<E> iterator, int count) {
+        this.iterator = iterator;
+        this.count = count;
+        skip();
+    }
+
+    // --- Public Methods (from Iterator interface) ---
+
+    /**
+     * Returns true if the wrapped iteration has more elements.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return {@code true} if the iteration has more elements
+     */
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    /**
+     * Returns the next element of the wrapped iteration.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return The next element in the iteration.
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return iterator.next();
+    }
+
+    /**
+     * Restarts the iteration by rewinding the wrapped iterator and skipping again.
+     *
+     * @apiNote Time Complexity: O(count)
+     */
+    public void rewind() {
+        iterator.rewind();
+        skip();
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Steps over the first count elements (or all, if there are fewer).
+     */
+    private void skip() {
+        for (int i = 0; i < count && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Implementation of a one-way {@link Iterator} for a {@link SortedSkipList}.
+ * Walks level 0 of the list, which links every node in order.
+ *
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+class SkipListIterator<E> implements Iterator<E> {
+
+    /**
+     * Node with the first element in the iteration.
+     */
+    private final SkipListNode<E> firstNode;
+
+    /**
+     * Node containing the next element to be returned by {@link #next()}.
+     */
+    private SkipListNode<E> nextToReturn;
+
+    /**
+     * @apiNote Time Complexity: O(1)
+     * @param first - Node with the first element of the iteration.
+     */
+    public SkipListIterator(SkipListNode<E> first) {
+        this.firstNode = first;
+        this.nextToReturn = first;
+    }
+
+    /**
+     * Returns true if the iteration has more elements.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return {@code true} iff the iteration has more elements.
+     */
+    public boolean hasNext() {
+        return nextToReturn != null;
+    }
+
+    /**
+     * Returns the next element in the iteration and advances the iterator.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return The next element in the iteration.
+     * @throws NoSuchElementException - if call is made without verifying pre-condition.
+     */
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        E element = nextToReturn.element;
+        nextToReturn = nextToReturn.next[0];
+        return element;
+    }
+
+    /**
+     * Restarts the iterator to the beginning of the list.
+     * After rewind, if the iteration is not empty, next() will return the first element.
+     *
+     * @apiNote Time Complexity: O(1)
+     */
+    public void rewind() {
+        this.nextToReturn = this.firstNode;
+    }
+}
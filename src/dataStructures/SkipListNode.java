@@ -0,0 +1,39 @@
+package dataStructures;
+
+/**
+ * Skip List Node Implementation.
+ * A package-private helper class for {@link SortedSkipList}.
+ * <p>
+ * This node stores the element and one reference to the next node for
+ * each level where the node is linked (level 0 links every node).
+ *
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+class SkipListNode<E> {
+
+    /**
+     * Element stored in the node (null in the head of the list).
+     */
+    final E element;
+
+    /**
+     * Next node at each level, from level 0 to level().
+     */
+    final SkipListNode<E>[] next;
+
+    @SuppressWarnings({"unchecked","rawtypes"})
+    SkipListNode(E element, int level) {
+        this.element = element;
+        this.next = (SkipListNode<E>[]) new SkipListNode[level + 1];
+    }
+
+    /**
+     * Returns the highest level where the node is linked.
+     * @return level of the node
+     */
+    int level() {
+        return next.length - 1;
+    }
+}
@@ -1,6 +1,9 @@
 package dataStructures;
 
 import dataStructures.exceptions.EmptyMapException;
+import dataStructures.exceptions.InvalidPositionException;
+
+import java.util.Spliterator;
 
 /**
  * Ordered Dictionary interface
@@ -30,5 +33,76 @@ public interface SortedMap<K extends Comparable<K>, V>
      */
     Entry<K,V> maxEntry( );
 
+    /**
+     * Returns the entry with the largest key that is not greater than the
+     * specified key, or null if there is no such entry.
+     *
+     * @param key to search for
+     * @return entry with the greatest key less than or equal to key, or null
+     */
+    Entry<K,V> floorEntry( K key );
+
+    /**
+     * Returns the entry with the smallest key that is not less than the
+     * specified key, or null if there is no such entry.
+     *
+     * @param key to search for
+     * @return entry with the least key greater than or equal to key, or null
+     */
+    Entry<K,V> ceilingEntry( K key );
+
+    /**
+     * Returns an iterator of the entries whose keys go from fromKey (inclusive)
+     * to toKey (exclusive), in the order of the keys. The iteration is empty if
+     * fromKey is not smaller than toKey.
+     *
+     * @param fromKey low end of the keys of the iteration (inclusive)
+     * @param toKey high end of the keys of the iteration (exclusive)
+     * @return iterator of the entries with keys in [fromKey, toKey)
+     */
+    Iterator<Entry<K,V>> subMap( K fromKey, K toKey );
+
+    /**
+     * Returns the number of keys in the dictionary that are smaller than the
+     * specified key: the position of its entry in the order of the keys, if
+     * there is one, or the position where it would be inserted.
+     *
+     * @param key whose rank is to be returned
+     * @return number of keys smaller than key, in the range 0, ..., size()
+     */
+    int rank( K key );
+
+    /**
+     * Returns the entry at the specified position in the order of the keys.
+     * Range of valid positions: 0, ..., size()-1.
+     *
+     * @param position of the entry to be returned
+     * @return entry with position smaller keys
+     * @throws InvalidPositionException if position is not valid
+     */
+    Entry<K,V> select( int position );
+
+    /**
+     * Returns an iterator of the entries in the dictionary, in the order of
+     * the keys, starting at the specified position.
+     * Range of valid positions: 0, ..., size() (size() gives an empty iteration).
+     *
+     * @param position of the first entry of the iteration
+     * @return iterator of the entries from position onwards
+     * @throws InvalidPositionException if position is not valid
+     */
+    Iterator<Entry<K,V>> iterator( int position );
+
+    /**
+     * Returns a spliterator of the entries in the dictionary, in the order of
+     * the keys. By default it splits by halving the range of positions and
+     * starts each part with iterator(position).
+     * @return spliterator of the entries in the dictionary
+     */
+    @Override
+    default Spliterator<Entry<K,V>> spliterator( ) {
+        return new RankSpliterator<>(this, 0, size());
+    }
+
 } 
 
@@ -0,0 +1,224 @@
+package dataStructures;
+
+import dataStructures.exceptions.*;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sorted Skip List Implementation
+ * A sorted list whose nodes are linked at level 0 and, with probability
+ * 1/4 per level, at the levels above: a search goes along the highest
+ * level until the next node is too far, then drops one level, so it passes
+ * O(log n) nodes (expected) instead of walking the list from the head.
+ * add, get, contains and remove take O(log n) expected; the iteration walks
+ * level 0 in order, like a linked list.
+ * <p>
+ * remove finds the element by equals among the elements equal to it under
+ * the comparator, so it also passes the k such elements before it:
+ * O(log n + k) (k is 0 when the comparator tells every element apart).
+ * @author AED  Team
+ * @version 1.0
+ * @param <E> Generic Element
+ */
+public class SortedSkipList<E> implements SortedList<E> {
+
+    /**
+     * Highest level of a node (about 4^16 elements before searches slow down).
+     */
+    static final int MAX_LEVEL = 15;
+
+    /**
+     * Node before the first node of every level (holds no element).
+     */
+    private final SkipListNode<E> head;
+
+    /**
+     * Last node of level 0 (null if the list is empty).
+     */
+    private SkipListNode<E> tail;
+
+    /**
+     * Highest level with nodes.
+     */
+    private int level;
+
+    /**
+     * Number of elements in the list.
+     */
+    private int currentSize;
+
+    /**
+     * Comparator of elements.
+     */
+    private final Comparator<E> comparator;
+
+    /**
+     * Constructor of an empty sorted skip list.
+     * @param comparator order of the elements
+     */
+    public SortedSkipList(Comparator<E> comparator) {
+        this.comparator = comparator;
+        this.head = new SkipListNode<>(null, MAX_LEVEL);
+        this.tail = null;
+        this.level = 0;
+        this.currentSize = 0;
+    }
+
+    /**
+     * Returns a random level: level l with probability (3/4)(1/4)^l.
+     */
+    private static int randomLevel() {
+        int bits = ThreadLocalRandom.current().nextInt() | (1 << (2 * MAX_LEVEL));
+        return Integer.numberOfTrailingZeros(bits) >>> 1;
+    }
+
+    /**
+     * Fills update with, at each level up to the highest level with nodes,
+     * the last node whose element is smaller than the element (or, if
+     * afterEqual, not greater than it), and returns the node of level 0.
+     */
+    private SkipListNode<E> findPredecessors(E element, boolean afterEqual, SkipListNode<E>[] update) {
+        SkipListNode<E> node = head;
+        for (int i = level; i >= 0; i--) {
+            SkipListNode<E> next = node.next[i];
+            while (next != null && precedes(next.element, element, afterEqual)) {
+                node = next;
+                next = node.next[i];
+            }
+            if (update != null)
+                update[i] = node;
+        }
+        return node;
+    }
+
+    // True iff a node with the element comes before the place searched for the other.
+    private boolean precedes(E element, E other, boolean afterEqual) {
+        int cmp = comparator.compare(element, other);
+        return cmp < 0 || (afterEqual && cmp == 0);
+    }
+
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private static <E> SkipListNode<E>[] newLevels() {
+        return (SkipListNode<E>[]) new SkipListNode[MAX_LEVEL + 1];
+    }
+
+    /**
+     * Returns true iff the list contains no elements.
+     * @return true if list is empty
+     */
+    public boolean isEmpty() {
+        return currentSize == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     * @return number of elements in the list
+     */
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * Returns an iterator of the elements in the list (in proper sequence).
+     * @return Iterator of the elements in the list
+     */
+    public Iterator<E> iterator() {
+        return new SkipListIterator<>(head.next[0]);
+    }
+
+    /**
+     * Returns the first element of the list.
+     * @return first element in the list
+     * @throws NoSuchElementException - if size() == 0
+     */
+    public E getMin() {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return head.next[0].element;
+    }
+
+    /**
+     * Returns the last element of the list.
+     * @return last element in the list
+     * @throws NoSuchElementException - if size() == 0
+     */
+    public E getMax() {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return tail.element;
+    }
+
+    /**
+     * Returns the first occurrence of the element equals to the given element
+     * in the list (under the comparator): O(log n) expected.
+     * @return element in the list or null
+     */
+    public E get(E element) {
+        SkipListNode<E> candidate = findPredecessors(element, false, null).next[0];
+        if (candidate != null && comparator.compare(candidate.element, element) == 0)
+            return candidate.element;
+        return null;
+    }
+
+    /**
+     * Returns true iff the element exists in the list.
+     *
+     * @param element to be found
+     * @return true iff the element exists in the list.
+     */
+    public boolean contains(E element) {
+        return get(element) != null;
+    }
+
+    /**
+     * Inserts the specified element at the list, according to the natural order.
+     * If there is an equal element, the new element is inserted after it.
+     * O(log n) expected.
+     * @param element to be inserted
+     */
+    public void add(E element) {
+        SkipListNode<E>[] update = newLevels();
+        findPredecessors(element, true, update);
+        int nodeLevel = randomLevel();
+        for (; level < nodeLevel; level++)
+            update[level + 1] = head;
+        SkipListNode<E> newNode = new SkipListNode<>(element, nodeLevel);
+        for (int i = 0; i <= nodeLevel; i++) {
+            newNode.next[i] = update[i].next[i];
+            update[i].next[i] = newNode;
+        }
+        if (newNode.next[0] == null)
+            tail = newNode;
+        currentSize++;
+    }
+
+    /**
+     * Removes and returns the first occurrence of the element equals to the given element in the list.
+     * @return element removed from the list or null if !belongs(element)
+     */
+    public E remove(E element) {
+        SkipListNode<E>[] update = newLevels();
+        SkipListNode<E> node = findPredecessors(element, false, update).next[0];
+        // The element is among the ones equal to it under the comparator
+        while (node != null && !Objects.equals(element, node.element)) {
+            if (comparator.compare(node.element, element) != 0)
+                return null;
+            node = node.next[0];
+        }
+        if (node == null)
+            return null;
+        for (int i = 0; i <= node.level(); i++) {
+            SkipListNode<E> previous = update[i];
+            while (previous.next[i] != node)
+                previous = previous.next[i];
+            previous.next[i] = node.next[i];
+            if (i == 0 && node == tail)
+                tail = previous == head ? null : previous;
+        }
+        while (level > 0 && head.next[level] == null)
+            level--;
+        currentSize--;
+        return node.element;
+    }
+}
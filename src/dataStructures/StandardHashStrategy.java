@@ -0,0 +1,77 @@
+package dataStructures;
+
+/**
+ * Standard Hash Strategies
+ * The {@link HashStrategy}s provided by the library.
+ * <ul>
+ * <li>PRIME_MODULO: prime lengths, position = hash code mod length.
+ * One division per access.</li>
+ * <li>XOR_SHIFT: power-of-two lengths; the high half of the hash code is
+ * folded into the low half, then masked.</li>
+ * <li>MURMUR3: power-of-two lengths; the hash code goes through the
+ * MurmurHash3 32-bit finalizer, then masked.</li>
+ * <li>FIBONACCI: power-of-two lengths; the hash code is multiplied by
+ * 2^32 / golden ratio and the position is taken from the high bits.</li>
+ * </ul>
+ *
+ * @author AED  Team
+ * @version 1.0
+ */
+public enum StandardHashStrategy implements HashStrategy {
+
+    PRIME_MODULO {
+        @Override
+        public int tableLength(int minimumLength) {
+            return HashTable.nextPrime(minimumLength);
+        }
+
+        @Override
+        public int index(int hashCode, int tableLength) {
+            // floorMod, unlike Math.abs, is never negative (Math.abs(Integer.MIN_VALUE) < 0).
+            return Math.floorMod(hashCode, tableLength);
+        }
+    },
+
+    XOR_SHIFT {
+        @Override
+        public int tableLength(int minimumLength) {
+            return HashTable.nextPowerOfTwo(minimumLength);
+        }
+
+        @Override
+        public int index(int hashCode, int tableLength) {
+            return (hashCode ^ (hashCode >>> 16)) & (tableLength - 1);
+        }
+    },
+
+    MURMUR3 {
+        @Override
+        public int tableLength(int minimumLength) {
+            return HashTable.nextPowerOfTwo(minimumLength);
+        }
+
+        @Override
+        public int index(int hashCode, int tableLength) {
+            int h = hashCode;
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+            return h & (tableLength - 1);
+        }
+    },
+
+    FIBONACCI {
+        @Override
+        public int tableLength(int minimumLength) {
+            return HashTable.nextPowerOfTwo(minimumLength);
+        }
+
+        @Override
+        public int index(int hashCode, int tableLength) {
+            // tableLength = 2^k (k >= 1): keep the k high bits of the product.
+            return (hashCode * 0x9e3779b9) >>> (Integer.numberOfLeadingZeros(tableLength) + 1);
+        }
+    }
+}
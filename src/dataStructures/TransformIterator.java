@@ -0,0 +1,77 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * An iterator that wraps another iterator and transforms its elements.
+ * Each element is mapped by a {@link Function} when it is returned, so no
+ * intermediate collection of the results is ever built.
+ *
+ * @author AED Team
+ * @version 1.0
+ * @param <E> Generic Element (of the wrapped iterator)
+ * @param <R> Generic Result (element of this iterator)
+ */
+public class TransformIterator<E,R> implements Iterator<R> {
+
+    // --- Fields ---
+
+    /**
+     * The underlying (wrapped) iterator that provides the original elements.
+     */
+    private final Iterator<E> iterator;
+
+    /**
+     * The function applied to each element of the wrapped iterator.
+     */
+    private final Function<E,R> function;
+
+    // --- Constructor ---
+
+    /**
+     * Creates a new TransformIterator.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @param iterator The iterator to be wrapped.
+     * @param function The {@link Function} to apply to each element.
+     */
+    public TransformIterator(Iterator<E> iterator, Function<E,R> function) {
+        this.iterator = iterator;
+        this.function = function;
+    }
+
+    // --- Public Methods (from Iterator interface) ---
+
+    /**
+     * Returns true if the wrapped iteration has more elements.
+     *
+     * @apiNote Time Complexity: O(1)
+     * @return {@code true} if the iteration has more elements
+     */
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    /**
+     * Returns the result of the function for the next element of the wrapped iteration.
+     *
+     * @apiNote Time Complexity: O(1), plus the cost of the function.
+     * @return The next element in the iteration.
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    public R next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return function.apply(iterator.next());
+    }
+
+    /**
+     * Restarts the iteration by rewinding the wrapped iterator.
+     *
+     * @apiNote Time Complexity: that of the wrapped iterator's rewind.
+     */
+    public void rewind() {
+        iterator.rewind();
+    }
+}
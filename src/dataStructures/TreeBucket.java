@@ -0,0 +1,289 @@
+package dataStructures;
+
+import java.io.*;
+
+/**
+ * Tree Bucket
+ * Map used as an overflow bucket of a {@link SepChainHashTable}: a balanced
+ * (AVL) tree ordered by the hash code of the keys and, among keys with the
+ * same hash code, by the order of the table's {@link Equivalence} (by default,
+ * their natural order when they are {@link Comparable} and of the same class). Searches cost O(log n) even when many keys fall
+ * into the same bucket; only keys with the same hash code that cannot be
+ * compared may require visiting both subtrees.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class TreeBucket<K,V> implements Map<K,V>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Root of the tree.
+    private transient TreeBucketNode<K,V> root;
+
+    // Number of entries in the bucket.
+    private transient int size;
+
+    // Hashing, equality and order of the keys.
+    private final Equivalence<? super K> equivalence;
+
+    public TreeBucket() {
+        this(NaturalEquivalence.INSTANCE);
+    }
+
+    public TreeBucket(Equivalence<? super K> equivalence) {
+        root = null;
+        size = 0;
+        this.equivalence = equivalence;
+    }
+
+    /**
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true if dictionary is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of elements in the dictionary
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    public V get(K key) {
+        TreeBucketNode<K,V> node = findNode(root, equivalence.hash(key), key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    public V put(K key, V value) {
+        int hash = equivalence.hash(key);
+        TreeBucketNode<K,V> node = findNode(root, hash, key);
+        if (node != null) {
+            V oldValue = node.value;
+            node.value = value;
+            return oldValue;
+        }
+        root = insert(root, new TreeBucketNode<>(hash, key, value));
+        size++;
+        return null;
+    }
+
+    /**
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    public V remove(K key) {
+        TreeBucketNode<K,V> node = findNode(root, equivalence.hash(key), key);
+        if (node == null)
+            return null;
+        V oldValue = node.value;
+        root = delete(root, node);
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Returns an iterator of the entries in the dictionary.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    public Iterator<Entry<K, V>> iterator() {
+        return new TreeBucketIterator<>(root);
+    }
+
+    /**
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public Iterator<V> values() {
+        return new ValuesIterator(iterator());
+    }
+
+    /**
+     * Returns an iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public Iterator<K> keys() {
+        return new KeysIterator(iterator());
+    }
+
+    // Total order used to place a new node (and to find a stored node):
+    // hash code, order of the equivalence, class name and identity hash code.
+    // Returns 0 only for distinct keys that cannot be told apart.
+    private int placementOrder(int hash, K key, TreeBucketNode<K,V> node) {
+        int cmp = Integer.compare(hash, node.hash);
+        if (cmp == 0)
+            cmp = equivalence.compare(key, node.key);
+        if (cmp == 0)
+            cmp = key.getClass().getName().compareTo(node.key.getClass().getName());
+        if (cmp == 0)
+            cmp = Integer.compare(System.identityHashCode(key), System.identityHashCode(node.key));
+        return cmp;
+    }
+
+    private TreeBucketNode<K,V> findNode(TreeBucketNode<K,V> node, int hash, K key) {
+        while (node != null) {
+            if (hash < node.hash) {
+                node = node.left;
+            } else if (hash > node.hash) {
+                node = node.right;
+            } else if (equivalence.equivalent(key, node.key)) {
+                return node;
+            } else {
+                int cmp = equivalence.compare(key, node.key);
+                if (cmp < 0) {
+                    node = node.left;
+                } else if (cmp > 0) {
+                    node = node.right;
+                } else {
+                    // Same hash code and no usable order: search both subtrees.
+                    TreeBucketNode<K,V> found = findNode(node.right, hash, key);
+                    if (found != null)
+                        return found;
+                    node = node.left;
+                }
+            }
+        }
+        return null;
+    }
+
+    private TreeBucketNode<K,V> insert(TreeBucketNode<K,V> node, TreeBucketNode<K,V> newNode) {
+        if (node == null)
+            return newNode;
+        if (placementOrder(newNode.hash, newNode.key, node) < 0)
+            node.left = insert(node.left, newNode);
+        else
+            node.right = insert(node.right, newNode);
+        return rebalance(node);
+    }
+
+    // Removes the (stored) target node from the subtree rooted at node.
+    private TreeBucketNode<K,V> delete(TreeBucketNode<K,V> node, TreeBucketNode<K,V> target) {
+        if (node == target) {
+            if (node.left == null)
+                return node.right;
+            if (node.right == null)
+                return node.left;
+            TreeBucketNode<K,V> successor = node.right;
+            while (successor.left != null)
+                successor = successor.left;
+            node.right = deleteMin(node.right);
+            successor.left = node.left;
+            successor.right = node.right;
+            return rebalance(successor);
+        }
+        int cmp = placementOrder(target.hash, target.key, node);
+        if (cmp < 0 || (cmp == 0 && contains(node.left, target)))
+            node.left = delete(node.left, target);
+        else
+            node.right = delete(node.right, target);
+        return rebalance(node);
+    }
+
+    private TreeBucketNode<K,V> deleteMin(TreeBucketNode<K,V> node) {
+        if (node.left == null)
+            return node.right;
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private boolean contains(TreeBucketNode<K,V> node, TreeBucketNode<K,V> target) {
+        if (node == null)
+            return false;
+        return node == target || contains(node.left, target) || contains(node.right, target);
+    }
+
+    private TreeBucketNode<K,V> rebalance(TreeBucketNode<K,V> z) {
+        z.updateHeight();
+        int balance = z.getBalanceFactor();
+        if (balance > 1) {
+            if (z.left.getBalanceFactor() < 0)
+                z.left = rotateLeft(z.left);
+            return rotateRight(z);
+        }
+        if (balance < -1) {
+            if (z.right.getBalanceFactor() > 0)
+                z.right = rotateRight(z.right);
+            return rotateLeft(z);
+        }
+        return z;
+    }
+
+    private TreeBucketNode<K,V> rotateLeft(TreeBucketNode<K,V> z) {
+        TreeBucketNode<K,V> y = z.right;
+        z.right = y.left;
+        y.left = z;
+        z.updateHeight();
+        y.updateHeight();
+        return y;
+    }
+
+    private TreeBucketNode<K,V> rotateRight(TreeBucketNode<K,V> z) {
+        TreeBucketNode<K,V> y = z.left;
+        z.left = y.right;
+        y.right = z;
+        z.updateHeight();
+        y.updateHeight();
+        return y;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        Iterator<Entry<K,V>> it = iterator();
+        while (it.hasNext()) {
+            Entry<K,V> entry = it.next();
+            out.writeObject(entry.key());
+            out.writeObject(entry.value());
+        }
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int n = in.readInt();
+        root = null;
+        size = 0;
+        for (int i = 0; i < n; i++) {
+            K key = (K) in.readObject();
+            V value = (V) in.readObject();
+            put(key, value);
+        }
+    }
+}
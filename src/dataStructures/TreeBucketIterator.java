@@ -0,0 +1,68 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Tree Bucket Iterator
+ * In-order iterator of the entries of a {@link TreeBucket},
+ * using a stack with the path to the next node.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class TreeBucketIterator<K,V> implements Iterator<Map.Entry<K,V>> {
+
+    // An AVL tree with 2^31 nodes is less than 45 levels deep.
+    private static final int MAX_DEPTH = 48;
+
+    private final TreeBucketNode<K,V> root;
+
+    // Nodes whose entry and right subtree are still to be visited.
+    private Stack<TreeBucketNode<K,V>> path;
+
+    public TreeBucketIterator(TreeBucketNode<K,V> root) {
+        this.root = root;
+        rewind();
+    }
+
+    /**
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    public boolean hasNext() {
+        return !path.isEmpty();
+    }
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    public Map.Entry<K,V> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        TreeBucketNode<K,V> node = path.pop();
+        pushLeftPath(node.right);
+        return new Map.Entry<>(node.key, node.value);
+    }
+
+    /**
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    public void rewind() {
+        path = new StackWithListInArray<>(MAX_DEPTH);
+        pushLeftPath(root);
+    }
+
+    private void pushLeftPath(TreeBucketNode<K,V> node) {
+        while (node != null) {
+            path.push(node);
+            node = node.left;
+        }
+    }
+}
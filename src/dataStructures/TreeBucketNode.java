@@ -0,0 +1,50 @@
+package dataStructures;
+
+/**
+ * Tree Bucket Node
+ * A node of the balanced tree of a {@link TreeBucket}: it keeps the cached
+ * hash code of the key, the entry and the height of its subtree.
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class TreeBucketNode<K,V> {
+
+    // Hash code of the key.
+    int hash;
+
+    // Key of the entry.
+    K key;
+
+    // Value of the entry.
+    V value;
+
+    // Height of the subtree rooted at this node (a leaf has height 0).
+    int height;
+
+    // (Pointer to) the left child.
+    TreeBucketNode<K,V> left;
+
+    // (Pointer to) the right child.
+    TreeBucketNode<K,V> right;
+
+    TreeBucketNode(int hash, K key, V value) {
+        this.hash = hash;
+        this.key = key;
+        this.value = value;
+        this.height = 0;
+    }
+
+    static int height(TreeBucketNode<?,?> node) {
+        return node == null ? -1 : node.height;
+    }
+
+    void updateHeight() {
+        height = 1 + Math.max(height(left), height(right));
+    }
+
+    int getBalanceFactor() {
+        return height(left) - height(right);
+    }
+}
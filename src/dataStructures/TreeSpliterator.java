@@ -0,0 +1,93 @@
+package dataStructures;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Tree Spliterator
+ * A {@link Spliterator} over the entries of a {@link BSTSortedMap} from node
+ * current (inclusive) to node fence (exclusive, null for the end), in order.
+ * It splits by subtree: the whole tree is split at the root, a right part
+ * [e, fence) at the right child of e, and a left part [current, f) at the
+ * left child of f. In a balanced tree (an {@link AVLSortedMap}) the parts
+ * have about half the entries each, and splitting costs O(1).
+ * @author AED  Team
+ * @version 1.0
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class TreeSpliterator<K extends Comparable<K>,V> implements Spliterator<Map.Entry<K,V>> {
+
+    // Map of the entries (for its root and the order of its keys).
+    private final BSTSortedMap<K,V> map;
+
+    // Node of the next entry (null or fence when the range is exhausted).
+    private BTNode<Map.Entry<K,V>> current;
+
+    // Node after the range, or null for the end of the tree.
+    private final BTNode<Map.Entry<K,V>> fence;
+
+    // 0 for the whole tree, 1 for a right part, -1 for a left part.
+    private int side;
+
+    // Estimated number of entries in the range.
+    private long estimate;
+
+    /**
+     * @param map map of the entries
+     * @param current node of the first entry of the range
+     * @param fence node after the range (null for the end of the tree)
+     * @param side 0 for the whole tree, 1 for a right part, -1 for a left part
+     * @param estimate number of entries in the range
+     */
+    TreeSpliterator(BSTSortedMap<K,V> map, BTNode<Map.Entry<K,V>> current, BTNode<Map.Entry<K,V>> fence,
+                    int side, long estimate) {
+        this.map = map;
+        this.current = current;
+        this.fence = fence;
+        this.side = side;
+        this.estimate = estimate;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Map.Entry<K,V>> action) {
+        if (current == null || current == fence)
+            return false;
+        Map.Entry<K,V> entry = current.getElement();
+        current = InOrderIterator.successor(current);
+        action.accept(entry);
+        return true;
+    }
+
+    @Override
+    public Spliterator<Map.Entry<K,V>> trySplit() {
+        BTNode<Map.Entry<K,V>> e = current;
+        BTNode<Map.Entry<K,V>> split;
+        if (e == null || e == fence)
+            split = null;
+        else if (side == 0)
+            split = (BTNode<Map.Entry<K,V>>) map.root;
+        else if (side > 0)
+            split = (BTNode<Map.Entry<K,V>>) e.getRightChild();
+        else
+            split = fence == null ? null : (BTNode<Map.Entry<K,V>>) fence.getLeftChild();
+        if (split == null || split == e || split == fence
+                || map.compare(e.getElement().key(), split.getElement().key()) >= 0)
+            return null;
+        side = 1;
+        current = split;
+        estimate >>>= 1;
+        return new TreeSpliterator<>(map, e, split, -1, estimate);
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return (side == 0 ? Spliterator.SIZED : 0)
+                | Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+    }
+}